@@ -1,14 +1,26 @@
 package com.project.tradebot.api;
 
+import com.project.tradebot.application.service.CandleService;
 import com.project.tradebot.application.service.MarketDataService;
+import com.project.tradebot.application.service.PriceStreamService;
+import com.project.tradebot.domain.model.Candle;
+import com.project.tradebot.domain.model.CandleInterval;
+import com.project.tradebot.domain.model.IndicatorSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,6 +31,11 @@ import java.util.Set;
 public class MarketDataController {
 
     private final MarketDataService marketDataService;
+    private final PriceStreamService priceStreamService;
+    private final CandleService candleService;
+
+    @Value("${market.stream.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
 
     @GetMapping("/prices")
     @Operation(summary = "Get prices for multiple symbols from a specific provider")
@@ -33,7 +50,48 @@ public class MarketDataController {
     public double getPrice(
             @RequestParam(defaultValue = "CoinDCXMarketData") String provider,
             @RequestParam String symbol) {
-        return marketDataService.getPrice(provider, symbol);
+        return marketDataService.getPrice(provider, symbol).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "No price for " + symbol + " from " + provider));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream price changes for the given symbols as Server-Sent Events (one shared upstream poll for all clients)")
+    public SseEmitter streamPrices(
+            @RequestParam(defaultValue = "CoinDCXMarketData") String provider,
+            @RequestParam Set<String> symbols) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Runnable unsubscribe = priceStreamService.subscribe(provider, symbols, prices -> {
+            try {
+                emitter.send(SseEmitter.event().name("prices").data(prices, MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                throw new IllegalStateException("Client disconnected", e);
+            }
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    @GetMapping("/candles")
+    @Operation(summary = "Get OHLC candles opening in [from, to) (epoch ms), served from the local cache; defaults to the last 100 candles")
+    public List<Candle> getCandles(
+            @RequestParam(defaultValue = "CoinDCXMarketData") String provider,
+            @RequestParam String symbol,
+            @RequestParam(defaultValue = "1m") String interval,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to) {
+        CandleInterval candleInterval = CandleInterval.fromCode(interval);
+        long end = to != null ? to : System.currentTimeMillis();
+        long start = from != null ? from : end - 100 * candleInterval.getDurationMs();
+        return candleService.getCandles(provider, symbol, candleInterval, start, end);
+    }
+
+    @GetMapping("/indicators")
+    @Operation(summary = "Get incrementally maintained indicators (EMA, VWAP, volatility, momentum) per symbol")
+    public Map<String, IndicatorSnapshot> getIndicators(@RequestParam(required = false) Set<String> symbols) {
+        return marketDataService.getIndicators(symbols);
     }
 
     @GetMapping("/providers")
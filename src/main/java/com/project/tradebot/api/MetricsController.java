@@ -0,0 +1,34 @@
+package com.project.tradebot.api;
+
+import com.project.tradebot.application.service.LatencyTracker;
+import com.project.tradebot.domain.model.LatencyStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/metrics")
+@RequiredArgsConstructor
+@Tag(name = "Metrics", description = "Endpoints for pipeline latency reporting")
+public class MetricsController {
+
+    private final LatencyTracker latencyTracker;
+
+    @GetMapping("/latency")
+    @Operation(summary = "Get latency percentiles per pipeline stage, from news publish and price observation to order acknowledgement")
+    public Map<String, LatencyStats> getLatency() {
+        return latencyTracker.snapshot();
+    }
+
+    @DeleteMapping("/latency")
+    @Operation(summary = "Reset the latency histograms")
+    public void resetLatency() {
+        latencyTracker.reset();
+    }
+}
@@ -5,8 +5,10 @@ import com.project.tradebot.domain.model.News;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,14 +20,33 @@ public class NewsController {
     private final NewsService newsService;
 
     @GetMapping
-    @Operation(summary = "Fetch latest news from a source")
-    public List<News> getNews(@RequestParam(defaultValue = "CryptoNewsScraper") String source) {
-        return newsService.fetchNews(source);
+    @Operation(summary = "Fetch latest news from a source (served from memory within the refresh interval)")
+    public List<News> getNews(@RequestParam(defaultValue = "AggregatedNewsSource") String source) {
+        return newsService.getNews(source);
     }
 
     @PostMapping("/scrape")
     @Operation(summary = "Trigger scraping from a source")
-    public List<News> triggerScrape(@RequestParam(defaultValue = "CryptoNewsScraper") String source) {
+    public List<News> triggerScrape(@RequestParam(defaultValue = "AggregatedNewsSource") String source) {
         return newsService.fetchNews(source);
     }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search stored news by symbol, keyword and time range (newest first)")
+    public List<News> search(
+            @RequestParam(required = false) String symbol,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "50") int limit) {
+        return newsService.search(symbol, keyword, from, to, limit);
+    }
+
+    @GetMapping("/recent")
+    @Operation(summary = "Get stored news for a symbol from the last N hours")
+    public List<News> recent(
+            @RequestParam String symbol,
+            @RequestParam(defaultValue = "6") int hours) {
+        return newsService.recent(symbol, hours);
+    }
 }
@@ -1,6 +1,7 @@
 package com.project.tradebot.api;
 
 import com.project.tradebot.application.service.StrategyService;
+import com.project.tradebot.domain.model.StrategyParseStats;
 import com.project.tradebot.domain.model.TradeContext;
 import com.project.tradebot.domain.model.TradeSignal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/strategy")
@@ -25,4 +27,10 @@ public class StrategyController {
             @RequestBody TradeContext context) {
         return strategyService.runStrategy(strategyName, context);
     }
+
+    @GetMapping("/metrics")
+    @Operation(summary = "Per-strategy counts of model responses parsed directly, repaired, or rejected")
+    public Map<String, StrategyParseStats> getParseMetrics() {
+        return strategyService.getParseMetrics();
+    }
 }
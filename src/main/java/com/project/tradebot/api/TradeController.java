@@ -1,16 +1,37 @@
 package com.project.tradebot.api;
 
+import com.project.tradebot.application.service.PipelineJobService;
+import com.project.tradebot.application.service.TradingEngine;
 import com.project.tradebot.application.service.TradingService;
+import com.project.tradebot.domain.model.AccountExecutionResult;
+import com.project.tradebot.domain.model.AdapterHealth;
+import com.project.tradebot.domain.model.EngineStatus;
+import com.project.tradebot.domain.model.JournalState;
 import com.project.tradebot.domain.model.Order;
+import com.project.tradebot.domain.model.PartitionStatus;
+import com.project.tradebot.domain.model.PipelineJob;
+import com.project.tradebot.domain.model.PipelineJobEvent;
+import com.project.tradebot.domain.model.RiskSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/trade")
@@ -19,14 +40,130 @@ import java.util.List;
 public class TradeController {
 
     private final TradingService tradingService;
+    private final PipelineJobService pipelineJobService;
+    private final TradingEngine tradingEngine;
+
+    @Value("${trading.jobs.sse-timeout-ms:600000}")
+    private long sseTimeoutMs;
 
     @PostMapping("/execute")
     @Operation(summary = "Execute full trading pipeline (News -> Market Data -> Strategy -> Execution)")
     public List<Order> execute(
-            @RequestParam(defaultValue = "CryptoNewsScraper") String source,
+            @RequestParam(defaultValue = "AggregatedNewsSource") String source,
             @RequestParam(defaultValue = "OllamaLLMStrategy") String strategy,
             @RequestParam(defaultValue = "CoinDCXBroker") String broker,
             @RequestParam(defaultValue = "CoinDCXMarketData") String marketData) {
         return tradingService.executeFullPipeline(source, strategy, broker, marketData);
     }
+
+    @PostMapping("/execute/accounts")
+    @Operation(summary = "Execute the pipeline once for all configured accounts, sharing news, prices and strategy work")
+    public List<AccountExecutionResult> executeForAccounts(
+            @RequestParam(defaultValue = "AggregatedNewsSource") String source,
+            @RequestParam(defaultValue = "OllamaLLMStrategy") String strategy,
+            @RequestParam(defaultValue = "CoinDCXBroker") String broker,
+            @RequestParam(defaultValue = "CoinDCXMarketData") String marketData) {
+        return tradingService.executeMultiAccountPipeline(source, strategy, broker, marketData);
+    }
+
+    @PostMapping("/jobs")
+    @Operation(summary = "Queue the full trading pipeline as a background job and return its id immediately")
+    public PipelineJob submitJob(
+            @RequestParam(defaultValue = "AggregatedNewsSource") String source,
+            @RequestParam(defaultValue = "OllamaLLMStrategy") String strategy,
+            @RequestParam(defaultValue = "CoinDCXBroker") String broker,
+            @RequestParam(defaultValue = "CoinDCXMarketData") String marketData) {
+        try {
+            return pipelineJobService.submit(source, strategy, broker, marketData);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), e);
+        }
+    }
+
+    @GetMapping("/jobs")
+    @Operation(summary = "List recent pipeline jobs, newest first")
+    public List<PipelineJob> getJobs() {
+        return pipelineJobService.getJobs();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Get the status and results of a pipeline job")
+    public PipelineJob getJob(@PathVariable String jobId) {
+        try {
+            return pipelineJobService.getJob(jobId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream a job's stage progress, signals and order results as Server-Sent Events")
+    public SseEmitter streamJob(@PathVariable String jobId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Runnable unsubscribe;
+        try {
+            unsubscribe = pipelineJobService.subscribe(jobId, event -> {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getSequence()))
+                            .name(event.getType().name().toLowerCase())
+                            .data(event, MediaType.APPLICATION_JSON));
+                    if (event.getType() == PipelineJobEvent.EventType.COMPLETED || event.getType() == PipelineJobEvent.EventType.FAILED) {
+                        emitter.complete();
+                    }
+                } catch (IOException e) {
+                    emitter.completeWithError(e);
+                    throw new IllegalStateException("Client disconnected", e);
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    @GetMapping("/orders/open")
+    @Operation(summary = "Get submitted orders still being tracked towards a final status")
+    public List<Order> getOpenOrders() {
+        return tradingService.getOpenOrders();
+    }
+
+    @GetMapping("/journal")
+    @Operation(summary = "Get open orders and positions restored from the trade journal")
+    public JournalState getJournalState() {
+        return tradingService.getJournalState();
+    }
+
+    @GetMapping("/risk")
+    @Operation(summary = "Get running positions, exposure, realized PnL and order rate for a risk book (broker or broker/account)")
+    public RiskSnapshot getRiskSnapshot(@RequestParam(defaultValue = "CoinDCXBroker") String book) {
+        return tradingService.getRiskSnapshot(book);
+    }
+
+    @GetMapping("/reservations")
+    @Operation(summary = "Get INR and asset amounts held by in-flight or recently confirmed orders for a book")
+    public Map<String, Double> getReservations(@RequestParam(defaultValue = "CoinDCXBroker") String book) {
+        return tradingService.getReservations(book);
+    }
+
+    @GetMapping("/adapters")
+    @Operation(summary = "Get latency, failure counts and circuit breaker state for strategy, news and market data adapters")
+    public Map<String, AdapterHealth> getAdapterHealth() {
+        return tradingService.getAdapterHealth();
+    }
+
+    @GetMapping("/engine")
+    @Operation(summary = "Get the event engine's ring position, per-stage progress and event counts")
+    public EngineStatus getEngineStatus() {
+        return tradingEngine.status();
+    }
+
+    @GetMapping("/partition")
+    @Operation(summary = "Get this instance's partition group membership and which member owns the given symbols")
+    public PartitionStatus getPartitionStatus(@RequestParam(defaultValue = "BTCINR,ETHINR") Set<String> symbols) {
+        return tradingService.getPartitionStatus(symbols);
+    }
 }
@@ -0,0 +1,9 @@
+package com.project.tradebot.application.ports;
+
+import com.project.tradebot.domain.model.TradeContext;
+import com.project.tradebot.domain.model.TradeSignal;
+import java.util.List;
+
+public interface BatchTradingStrategy extends TradingStrategy {
+    List<List<TradeSignal>> generateSignalsBatch(List<TradeContext> contexts); // one signal list per context, same order
+}
@@ -1,7 +1,9 @@
 package com.project.tradebot.application.ports;
 
+import com.project.tradebot.domain.model.MarketSpec;
 import com.project.tradebot.domain.model.Order;
 import com.project.tradebot.domain.model.Portfolio;
+import com.project.tradebot.domain.model.TradingAccount;
 import java.util.List;
 
 public interface Broker {
@@ -10,4 +12,16 @@ public interface Broker {
     List<Order> placeOrders(List<Order> orders); // New method for batch execution
     double getBalance(String asset);
     String getName();
+
+    default MarketSpec getMarketSpec(String symbol) {
+        return null; // no exchange limits known
+    }
+
+    // Refreshes status, filled quantity and average price of the given orders in place, batching upstream calls
+    default List<Order> refreshOrderStatuses(List<Order> orders) {
+        return orders;
+    }
+
+    // Same exchange adapter bound to another account's credentials, for multi-account runs
+    Broker forAccount(TradingAccount account);
 }
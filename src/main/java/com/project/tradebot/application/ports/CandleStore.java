@@ -0,0 +1,14 @@
+package com.project.tradebot.application.ports;
+
+import com.project.tradebot.domain.model.Candle;
+import com.project.tradebot.domain.model.CandleInterval;
+
+import java.util.List;
+
+public interface CandleStore {
+    record Range(long fromMs, long toMs) {} // candle open times in [fromMs, toMs)
+
+    List<Range> missing(String provider, String symbol, CandleInterval interval, long fromMs, long toMs); // ranges never stored, ascending
+    List<Candle> read(String provider, String symbol, CandleInterval interval, long fromMs, long toMs); // stored candles, ascending
+    void write(String provider, String symbol, CandleInterval interval, long fromMs, long toMs, List<Candle> candles); // every slot in the range counts as stored afterwards, even without a candle
+}
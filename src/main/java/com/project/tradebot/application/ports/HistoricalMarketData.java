@@ -0,0 +1,12 @@
+package com.project.tradebot.application.ports;
+
+import com.project.tradebot.domain.model.Candle;
+import com.project.tradebot.domain.model.CandleInterval;
+
+import java.util.List;
+
+public interface HistoricalMarketData {
+    List<Candle> getCandles(String symbol, CandleInterval interval, long fromMs, long toMs); // candles opening in [fromMs, toMs), ascending
+    int getMaxCandlesPerCall();
+    String getName();
+}
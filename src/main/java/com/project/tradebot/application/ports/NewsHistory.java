@@ -0,0 +1,9 @@
+package com.project.tradebot.application.ports;
+
+import com.project.tradebot.domain.model.News;
+import java.time.Duration;
+import java.util.List;
+
+public interface NewsHistory {
+    List<News> recent(String symbol, Duration window); // newest first, served from memory
+}
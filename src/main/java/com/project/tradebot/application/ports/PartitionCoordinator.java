@@ -0,0 +1,10 @@
+package com.project.tradebot.application.ports;
+
+import java.util.Set;
+
+public interface PartitionCoordinator {
+    String getName();
+    void join(String nodeId); // registers the node, or refreshes its liveness when already registered
+    void leave(String nodeId);
+    Set<String> members(); // nodes that have joined and not expired
+}
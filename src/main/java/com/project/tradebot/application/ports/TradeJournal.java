@@ -0,0 +1,11 @@
+package com.project.tradebot.application.ports;
+
+import com.project.tradebot.domain.model.JournalEntry;
+import com.project.tradebot.domain.model.JournalState;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface TradeJournal {
+    CompletableFuture<Long> append(JournalEntry entry); // completes with the sequence once durable per the fsync policy
+    JournalState getState();
+}
@@ -0,0 +1,312 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.AdapterHealth;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Latency and failure tracking for strategy, news and market data adapters, with a circuit breaker
+ * per adapter. After {@code routing.breaker.failure-threshold} consecutive failures an adapter is
+ * opened and no live call reaches it; once the open period has passed, a background probe repeats a
+ * recent call and closes the breaker on success or reopens it for twice as long on failure; an
+ * adapter without a probe lets one live call through as the trial instead. Calls are routed to the
+ * fastest available member of the adapter's configured group (by EWMA latency), falling over to the
+ * next member when one fails.
+ */
+@Service
+@Slf4j
+public class AdapterHealthRegistry {
+
+    public static final String STRATEGY = "strategy";
+    public static final String NEWS = "news";
+    public static final String MARKET_DATA = "market-data";
+
+    private final Map<String, List<String>> groupsByMember = new HashMap<>();
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openMs;
+    private final long maxOpenMs;
+    private final double alpha;
+    private final long probeIntervalMs;
+
+    private final Map<String, Health> health = new ConcurrentHashMap<>();
+    private final Map<String, Runnable> probes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("adapter-prober").daemon().factory());
+    private final ExecutorService probeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AdapterHealthRegistry(
+            List<List<String>> adapterGroups,
+            @Value("${routing.enabled:true}") boolean enabled,
+            @Value("${routing.breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${routing.breaker.open-ms:30000}") long openMs,
+            @Value("${routing.breaker.max-open-ms:300000}") long maxOpenMs,
+            @Value("${routing.latency.ewma-alpha:0.2}") double alpha,
+            @Value("${routing.probe.interval-ms:5000}") long probeIntervalMs) {
+        for (List<String> group : adapterGroups) {
+            List<String> members = List.copyOf(group);
+            members.forEach(m -> groupsByMember.put(m, members));
+        }
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMs = Math.max(100, openMs);
+        this.maxOpenMs = Math.max(this.openMs, maxOpenMs);
+        this.alpha = Math.max(0.01, Math.min(1.0, alpha));
+        this.probeIntervalMs = Math.max(100, probeIntervalMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        prober.scheduleWithFixedDelay(this::probeDue, probeIntervalMs, probeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        prober.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs {@code call} on the fastest available adapter in {@code requested}'s group, trying the
+     * next one when it fails, and records each attempt. Returns {@code fallback} when every member
+     * failed or is open, so a known-broken adapter costs nothing.
+     */
+    public <A, T> T route(String kind, String requested, Map<String, A> adapters, BiFunction<String, A, T> call, Supplier<T> fallback) {
+        return route(kind, requested, adapters, call, fallback, true);
+    }
+
+    /**
+     * Like {@link #route} but leaves recording to {@code call}, for callers that report the real
+     * upstream call through {@link #call} themselves (e.g. when several requests share it).
+     */
+    public <A, T> T failover(String kind, String requested, Map<String, A> adapters, BiFunction<String, A, T> call, Supplier<T> fallback) {
+        return route(kind, requested, adapters, call, fallback, false);
+    }
+
+    /** Runs one call against an adapter, recording its latency and outcome. Exceptions propagate. */
+    public <T> T call(String kind, String name, Supplier<T> call) {
+        Health h = health(kind, name);
+        long started = System.nanoTime();
+        try {
+            T result = call.get();
+            h.onSuccess(elapsedMs(started));
+            return result;
+        } catch (RuntimeException e) {
+            h.onFailure(elapsedMs(started), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Whether a call may go to the adapter now. When the answer admits the trial call of an open
+     * breaker, the caller claims that trial and is expected to make the call.
+     */
+    public boolean isAvailable(String kind, String name) {
+        Health h = health.get(key(kind, name));
+        return h == null || h.acquire(System.currentTimeMillis(), probes.containsKey(key(kind, name)));
+    }
+
+    public void recordSuccess(String kind, String name, long latencyMs) {
+        health(kind, name).onSuccess(latencyMs);
+    }
+
+    public void recordFailure(String kind, String name, long latencyMs, Throwable error) {
+        health(kind, name).onFailure(latencyMs, error);
+    }
+
+    /** Sets the call a background probe repeats while the adapter is open. Any exception counts as a failure. */
+    public void registerProbe(String kind, String name, Runnable probe) {
+        probes.put(key(kind, name), probe);
+    }
+
+    public Map<String, AdapterHealth> snapshot() {
+        Map<String, AdapterHealth> result = new TreeMap<>();
+        health.forEach((key, h) -> result.put(key, h.snapshot()));
+        return result;
+    }
+
+    private <A, T> T route(String kind, String requested, Map<String, A> adapters, BiFunction<String, A, T> call,
+                           Supplier<T> fallback, boolean record) {
+        RuntimeException lastError = null;
+        for (String name : candidates(kind, requested, adapters)) {
+            if (!isAvailable(kind, name)) continue; // another caller took the trial meanwhile
+            A adapter = adapters.get(name);
+            try {
+                if (!record) return call.apply(name, adapter);
+                registerProbe(kind, name, () -> call.apply(name, adapter)); // the latest request shape is the probe
+                return call(kind, name, () -> call.apply(name, adapter));
+            } catch (RuntimeException e) {
+                lastError = e;
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.warn("{} {} failed: {}", kind, name, cause.getMessage());
+            }
+        }
+        if (lastError == null) log.warn("No available {} adapter for {}; circuit open", kind, requested);
+        return fallback.get();
+    }
+
+    private <A> List<String> candidates(String kind, String requested, Map<String, A> adapters) {
+        List<String> group = enabled ? groupsByMember.getOrDefault(requested, List.of(requested)) : List.of(requested);
+        List<String> result = new ArrayList<>(group.size());
+        if (adapters.containsKey(requested) && admits(kind, requested)) result.add(requested);
+        for (String name : group) {
+            if (!name.equals(requested) && adapters.containsKey(name) && admits(kind, name)) result.add(name);
+        }
+        // Stable sort: the requested adapter wins ties, and unmeasured adapters (0) get measured
+        result.sort(Comparator.comparingDouble(name -> {
+            Health h = health.get(key(kind, name));
+            return h == null ? 0.0 : h.ewmaLatencyMs();
+        }));
+        return result;
+    }
+
+    // Like isAvailable but claims nothing: only the member actually called may half-open
+    private boolean admits(String kind, String name) {
+        Health h = health.get(key(kind, name));
+        return h == null || h.available(System.currentTimeMillis(), probes.containsKey(key(kind, name)));
+    }
+
+    private void probeDue() {
+        long now = System.currentTimeMillis();
+        health.forEach((key, h) -> {
+            Runnable probe = probes.get(key);
+            if (probe == null || !h.startProbe(now)) return;
+            probeExecutor.execute(() -> {
+                long started = System.nanoTime();
+                try {
+                    probe.run();
+                    h.onSuccess(elapsedMs(started));
+                } catch (RuntimeException e) {
+                    h.onFailure(elapsedMs(started), e);
+                }
+            });
+        });
+    }
+
+    private Health health(String kind, String name) {
+        return health.computeIfAbsent(key(kind, name), k -> new Health(kind, name));
+    }
+
+    private static String key(String kind, String name) {
+        return kind + ":" + name;
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    private final class Health {
+        private final String kind;
+        private final String name;
+        private AdapterHealth.BreakerState state = AdapterHealth.BreakerState.CLOSED;
+        private double ewmaLatencyMs;
+        private long lastLatencyMs;
+        private long calls;
+        private long failures;
+        private int consecutiveFailures;
+        private long currentOpenMs;
+        private long retryAt;
+        private String lastError;
+
+        private Health(String kind, String name) {
+            this.kind = kind;
+            this.name = name;
+        }
+
+        private synchronized double ewmaLatencyMs() {
+            return ewmaLatencyMs;
+        }
+
+        private synchronized boolean available(long now, boolean probed) {
+            return state == AdapterHealth.BreakerState.CLOSED || !probed && now >= retryAt;
+        }
+
+        // Without a probe a live call is the trial; it half-opens the breaker so only one goes through
+        private synchronized boolean acquire(long now, boolean probed) {
+            if (!available(now, probed)) return false;
+            if (state != AdapterHealth.BreakerState.CLOSED) halfOpen(now);
+            return true;
+        }
+
+        private synchronized boolean startProbe(long now) {
+            if (state == AdapterHealth.BreakerState.CLOSED || now < retryAt) return false;
+            halfOpen(now);
+            return true;
+        }
+
+        // A trial that never reports back (the claimer went elsewhere or hung) expires after
+        // openMs, so the breaker becomes retryable again rather than staying half-open for good
+        private void halfOpen(long now) {
+            state = AdapterHealth.BreakerState.HALF_OPEN;
+            retryAt = now + openMs;
+        }
+
+        private synchronized void onSuccess(long latencyMs) {
+            observe(latencyMs);
+            consecutiveFailures = 0;
+            if (state != AdapterHealth.BreakerState.CLOSED) {
+                log.info("{} {} recovered; closing circuit", kind, name);
+                state = AdapterHealth.BreakerState.CLOSED;
+                currentOpenMs = 0;
+            }
+        }
+
+        private synchronized void onFailure(long latencyMs, Throwable error) {
+            observe(latencyMs);
+            failures++;
+            consecutiveFailures++;
+            lastError = error != null ? error.getMessage() : null;
+            if (state == AdapterHealth.BreakerState.HALF_OPEN) {
+                open(Math.min(maxOpenMs, currentOpenMs * 2));
+            } else if (state == AdapterHealth.BreakerState.CLOSED && consecutiveFailures >= failureThreshold) {
+                open(openMs);
+            }
+        }
+
+        private void open(long durationMs) {
+            state = AdapterHealth.BreakerState.OPEN;
+            currentOpenMs = Math.max(openMs, durationMs);
+            retryAt = System.currentTimeMillis() + currentOpenMs;
+            log.warn("{} {} failed {} times in a row; circuit open for {} ms", kind, name, consecutiveFailures, currentOpenMs);
+        }
+
+        private void observe(long latencyMs) {
+            calls++;
+            lastLatencyMs = latencyMs;
+            ewmaLatencyMs = calls == 1 ? latencyMs : alpha * latencyMs + (1 - alpha) * ewmaLatencyMs;
+        }
+
+        private synchronized AdapterHealth snapshot() {
+            return AdapterHealth.builder()
+                    .kind(kind)
+                    .name(name)
+                    .state(state)
+                    .ewmaLatencyMs(ewmaLatencyMs)
+                    .lastLatencyMs(lastLatencyMs)
+                    .calls(calls)
+                    .failures(failures)
+                    .consecutiveFailures(consecutiveFailures)
+                    .retryAt(state == AdapterHealth.BreakerState.CLOSED ? 0 : retryAt)
+                    .lastError(lastError)
+                    .build();
+        }
+    }
+}
@@ -3,21 +3,28 @@ package com.project.tradebot.application.service;
 import com.project.tradebot.application.ports.Broker;
 import com.project.tradebot.domain.model.Order;
 import com.project.tradebot.domain.model.Portfolio;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class BrokerService {
     private final Map<String, Broker> brokers;
+    private final SingleFlight<String, Portfolio> portfolioFlights;
+
+    public BrokerService(
+            Map<String, Broker> brokers,
+            @Value("${broker.single-flight.linger-ms:0}") long lingerMs) {
+        this.brokers = brokers;
+        this.portfolioFlights = new SingleFlight<>(lingerMs);
+    }
 
     public Portfolio getPortfolio(String brokerName) {
         Broker broker = brokers.get(brokerName);
         if (broker == null) throw new IllegalArgumentException("Broker not found");
-        return broker.getPortfolio();
+        return portfolioFlights.execute(brokerName, broker::getPortfolio);
     }
 
     public Order placeOrder(String brokerName, Order order) {
@@ -0,0 +1,165 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.application.ports.CandleStore;
+import com.project.tradebot.application.ports.HistoricalMarketData;
+import com.project.tradebot.domain.model.Candle;
+import com.project.tradebot.domain.model.CandleInterval;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Historical candles for strategies, indicators and backtests, served from the local
+ * {@link CandleStore}. Only ranges the store has never seen are fetched upstream, in chunks of the
+ * provider's per-call limit, so repeating a lookback costs local reads. Closed candles are cached;
+ * the candle still open is fetched live on every call and never stored, since it keeps changing.
+ * A slot the response has no candle for is only recorded as empty when the answer is conclusive:
+ * between candles the response returned, or, if the response was not cut off by the provider's
+ * limit, before them or at least {@code market.candles.settle-delay-ms} after the slot closed.
+ * Anything else stays unfetched and is asked for again.
+ */
+@Service
+@Slf4j
+public class CandleService {
+
+    private final Map<String, HistoricalMarketData> historicalMarketData;
+    private final CandleStore candleStore;
+    private final IndicatorEngine indicatorEngine;
+    private final AdapterHealthRegistry adapterHealth;
+    private final SingleFlight<String, List<Candle>> candleFlights;
+    private final int maxCandlesPerRequest;
+    private final long settleDelayMs;
+    private final boolean warmStartEnabled;
+    private final CandleInterval warmStartInterval;
+    private final int indicatorWindow;
+
+    public CandleService(
+            Map<String, HistoricalMarketData> historicalMarketData,
+            CandleStore candleStore,
+            IndicatorEngine indicatorEngine,
+            AdapterHealthRegistry adapterHealth,
+            @Value("${market.single-flight.linger-ms:0}") long lingerMs,
+            @Value("${market.candles.max-per-request:5000}") int maxCandlesPerRequest,
+            @Value("${market.candles.settle-delay-ms:60000}") long settleDelayMs,
+            @Value("${indicators.warm-start.enabled:true}") boolean warmStartEnabled,
+            @Value("${indicators.warm-start.interval:1m}") String warmStartInterval,
+            @Value("${indicators.window:60}") int indicatorWindow) {
+        this.historicalMarketData = historicalMarketData;
+        this.candleStore = candleStore;
+        this.indicatorEngine = indicatorEngine;
+        this.adapterHealth = adapterHealth;
+        this.candleFlights = new SingleFlight<>(lingerMs);
+        this.maxCandlesPerRequest = Math.max(1, maxCandlesPerRequest);
+        this.settleDelayMs = Math.max(0, settleDelayMs);
+        this.warmStartEnabled = warmStartEnabled;
+        this.warmStartInterval = CandleInterval.fromCode(warmStartInterval);
+        this.indicatorWindow = Math.max(2, indicatorWindow);
+    }
+
+    /** Candles of {@code symbol} (an exchange market, e.g. BTCINR) opening in [fromMs, toMs), ascending. */
+    public List<Candle> getCandles(String providerName, String symbol, CandleInterval interval, long fromMs, long toMs) {
+        HistoricalMarketData provider = historicalMarketData.get(providerName);
+        if (provider == null) throw new IllegalArgumentException("Historical Market Data Provider not found: " + providerName);
+        if (symbol == null || symbol.isBlank()) throw new IllegalArgumentException("Symbol is required");
+        long from = interval.floor(fromMs);
+        if (toMs <= from) throw new IllegalArgumentException("Empty candle range: from " + fromMs + " to " + toMs);
+        // Rounded up to the next boundary: the same candles open before it, and requests ending "now"
+        // within one interval share a key instead of each getting their own flight
+        long to = interval.floor(toMs - 1) + interval.getDurationMs();
+        if ((to - from) / interval.getDurationMs() > maxCandlesPerRequest) {
+            throw new IllegalArgumentException("Range spans more than " + maxCandlesPerRequest + " " + interval.getCode() + " candles");
+        }
+
+        String key = providerName + ":" + symbol + ":" + interval.getCode() + ":" + from + ":" + to;
+        return candleFlights.execute(key, () -> load(providerName, provider, symbol, interval, from, to));
+    }
+
+    /**
+     * Seeds the indicators of symbols that have none yet with the last {@code indicators.window}
+     * closed candles, so a fresh start does not trade on an empty window. Each candle close is one
+     * sample, so the seeded part of the window spans window x {@code indicators.warm-start.interval}
+     * while live samples arrive once per price poll. Failures leave the symbol to warm up from live
+     * ticks as before.
+     */
+    public void warmIndicators(String providerName, Collection<String> symbols) {
+        if (!warmStartEnabled || symbols == null || !historicalMarketData.containsKey(providerName)) return;
+        long to = warmStartInterval.floor(System.currentTimeMillis());
+        long from = to - indicatorWindow * warmStartInterval.getDurationMs();
+        for (String symbol : symbols) {
+            if (indicatorEngine.snapshot(symbol) != null) continue;
+            try {
+                List<Candle> candles = getCandles(providerName, symbol, warmStartInterval, from, to);
+                for (Candle candle : candles) {
+                    // Live polls carry no volume and weigh 1 each; seeding with candle volumes would let
+                    // the warm-start samples dominate the VWAP until they roll out of the window
+                    indicatorEngine.onTick(symbol, candle.getClose(), 0.0, candle.getOpenTime() + warmStartInterval.getDurationMs());
+                }
+                log.debug("Warmed indicators for {} from {} candles", symbol, candles.size());
+            } catch (RuntimeException e) {
+                log.warn("Indicator warm start failed for {}: {}", symbol, e.getMessage());
+            }
+        }
+    }
+
+    private List<Candle> load(String providerName, HistoricalMarketData provider, String symbol, CandleInterval interval, long from, long to) {
+        long openCandle = interval.floor(System.currentTimeMillis());
+        long closedTo = Math.min(to, openCandle);
+
+        if (closedTo > from) {
+            long chunk = provider.getMaxCandlesPerCall() * interval.getDurationMs();
+            for (CandleStore.Range range : candleStore.missing(providerName, symbol, interval, from, closedTo)) {
+                for (long start = range.fromMs(); start < range.toMs(); start += chunk) {
+                    long end = Math.min(range.toMs(), start + chunk);
+                    if (!fetchAndStore(providerName, provider, symbol, interval, start, end)) break;
+                }
+            }
+        }
+
+        List<Candle> candles = new ArrayList<>(closedTo > from ? candleStore.read(providerName, symbol, interval, from, closedTo) : List.of());
+        if (to > openCandle && adapterHealth.isAvailable(AdapterHealthRegistry.MARKET_DATA, providerName)) {
+            try {
+                candles.addAll(adapterHealth.call(AdapterHealthRegistry.MARKET_DATA, providerName,
+                        () -> provider.getCandles(symbol, interval, Math.max(from, openCandle), to)));
+            } catch (RuntimeException e) {
+                log.warn("Failed to fetch the open {} candle for {} from {}: {}", interval.getCode(), symbol, providerName, e.getMessage());
+            }
+        }
+        return candles;
+    }
+
+    private boolean fetchAndStore(String providerName, HistoricalMarketData provider, String symbol, CandleInterval interval, long from, long to) {
+        if (!adapterHealth.isAvailable(AdapterHealthRegistry.MARKET_DATA, providerName)) return false;
+        try {
+            List<Candle> candles = adapterHealth.call(AdapterHealthRegistry.MARKET_DATA, providerName,
+                    () -> provider.getCandles(symbol, interval, from, to));
+            long step = interval.getDurationMs();
+            // Slots closed at least the settle delay ago: a candle missing there is not just unpublished
+            long settledTo = Math.min(to, interval.floor(System.currentTimeMillis() - settleDelayMs));
+            boolean cutOff = candles.size() >= provider.getMaxCandlesPerCall();
+            long markFrom = from;
+            long markTo = settledTo;
+            if (!candles.isEmpty()) {
+                long first = Long.MAX_VALUE;
+                long last = Long.MIN_VALUE;
+                for (Candle candle : candles) {
+                    first = Math.min(first, interval.floor(candle.getOpenTime()));
+                    last = Math.max(last, interval.floor(candle.getOpenTime()));
+                }
+                // Gaps between returned candles are conclusive; past either end only when nothing was cut off
+                markFrom = cutOff ? Math.max(from, first) : from;
+                markTo = Math.min(to, cutOff ? last + step : Math.max(last + step, settledTo));
+            }
+            if (markTo > markFrom) candleStore.write(providerName, symbol, interval, markFrom, markTo, candles);
+            return true;
+        } catch (RuntimeException e) {
+            // Left unmarked, so the range is fetched again on the next request
+            log.warn("Failed to fetch {} candles for {} from {}: {}", interval.getCode(), symbol, providerName, e.getMessage());
+            return false;
+        }
+    }
+}
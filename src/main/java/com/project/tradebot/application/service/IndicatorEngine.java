@@ -0,0 +1,160 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.IndicatorSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-symbol technical indicators maintained incrementally from the price stream. Each symbol
+ * keeps primitive ring buffers over a fixed window plus running sums, so a tick costs O(1)
+ * regardless of history length. The window and EMA periods count samples, not time: every
+ * {@link #onTick} is one sample, so their span in time follows the feed's cadence (one price poll
+ * live, one candle per sample during warm start).
+ */
+@Service
+public class IndicatorEngine {
+
+    private final int window;
+    private final double fastAlpha;
+    private final double slowAlpha;
+    private final Map<String, SymbolIndicators> indicators = new ConcurrentHashMap<>();
+
+    public IndicatorEngine(
+            @Value("${indicators.window:60}") int window,
+            @Value("${indicators.ema-fast-period:12}") int emaFastPeriod,
+            @Value("${indicators.ema-slow-period:26}") int emaSlowPeriod) {
+        this.window = Math.max(2, window);
+        this.fastAlpha = 2.0 / (emaFastPeriod + 1);
+        this.slowAlpha = 2.0 / (emaSlowPeriod + 1);
+    }
+
+    public void onTick(String symbol, double price, double volume, long timestamp) {
+        if (price <= 0 || Double.isNaN(price)) return;
+        indicators.computeIfAbsent(symbol, s -> new SymbolIndicators(window)).update(price, volume, timestamp, fastAlpha, slowAlpha);
+    }
+
+    public void onPrices(Map<String, Double> prices) {
+        long now = System.currentTimeMillis();
+        prices.forEach((symbol, price) -> {
+            if (price != null) onTick(symbol, price, 0.0, now);
+        });
+    }
+
+    public IndicatorSnapshot snapshot(String symbol) {
+        SymbolIndicators state = indicators.get(symbol);
+        return state != null ? state.snapshot(symbol) : null;
+    }
+
+    public Map<String, IndicatorSnapshot> snapshots(Collection<String> symbols) {
+        Map<String, IndicatorSnapshot> result = new HashMap<>();
+        Collection<String> keys = symbols == null || symbols.isEmpty() ? indicators.keySet() : symbols;
+        for (String symbol : keys) {
+            IndicatorSnapshot snapshot = snapshot(symbol);
+            if (snapshot != null) result.put(symbol, snapshot);
+        }
+        return result;
+    }
+
+    private static final class SymbolIndicators {
+        private final double[] prices;
+        private final double[] weights;
+        private final double[] returns;
+        private int next;
+        private int count;
+        private boolean wrapped; // the first tick, whose return is a placeholder, has left the window
+        private int sinceResum;
+
+        private double emaFast;
+        private double emaSlow;
+        private double sumWeightedPrice;
+        private double sumWeight;
+        private double sumReturn;
+        private double sumSquaredReturn;
+        private double lastReturn;
+        private long updatedAt;
+
+        private SymbolIndicators(int window) {
+            this.prices = new double[window];
+            this.weights = new double[window];
+            this.returns = new double[window];
+        }
+
+        private synchronized void update(double price, double volume, long timestamp, double fastAlpha, double slowAlpha) {
+            int window = prices.length;
+            double weight = volume > 0 ? volume : 1.0;
+            double previous = count > 0 ? prices[(next - 1 + window) % window] : price;
+            double logReturn = count > 0 ? Math.log(price / previous) : 0.0;
+
+            if (count == window) {
+                // Slot being overwritten drops out of the running sums
+                sumWeightedPrice -= prices[next] * weights[next];
+                sumWeight -= weights[next];
+                sumReturn -= returns[next];
+                sumSquaredReturn -= returns[next] * returns[next];
+                wrapped = true;
+            } else {
+                count++;
+            }
+            prices[next] = price;
+            weights[next] = weight;
+            returns[next] = logReturn;
+            sumWeightedPrice += price * weight;
+            sumWeight += weight;
+            sumReturn += logReturn;
+            sumSquaredReturn += logReturn * logReturn;
+            next = (next + 1) % window;
+
+            emaFast = count == 1 ? price : emaFast + fastAlpha * (price - emaFast);
+            emaSlow = count == 1 ? price : emaSlow + slowAlpha * (price - emaSlow);
+            lastReturn = logReturn;
+            updatedAt = timestamp;
+
+            // Re-derive the sums once per window so floating-point drift cannot accumulate; amortized O(1)
+            if (++sinceResum >= window) resum();
+        }
+
+        private void resum() {
+            sumWeightedPrice = 0;
+            sumWeight = 0;
+            sumReturn = 0;
+            sumSquaredReturn = 0;
+            for (int i = 0; i < count; i++) {
+                sumWeightedPrice += prices[i] * weights[i];
+                sumWeight += weights[i];
+                sumReturn += returns[i];
+                sumSquaredReturn += returns[i] * returns[i];
+            }
+            sinceResum = 0;
+        }
+
+        private synchronized IndicatorSnapshot snapshot(String symbol) {
+            int window = prices.length;
+            double last = prices[(next - 1 + window) % window];
+            double oldest = count == window ? prices[next] : prices[0];
+            // The first tick's return is a placeholder 0 until the window wraps past it
+            int returnSamples = wrapped ? count : count - 1;
+            double variance = 0.0;
+            if (returnSamples > 1) {
+                double mean = sumReturn / returnSamples;
+                variance = Math.max(0.0, (sumSquaredReturn - returnSamples * mean * mean) / (returnSamples - 1));
+            }
+            return IndicatorSnapshot.builder()
+                    .symbol(symbol)
+                    .lastPrice(last)
+                    .emaFast(emaFast)
+                    .emaSlow(emaSlow)
+                    .vwap(sumWeight > 0 ? sumWeightedPrice / sumWeight : last)
+                    .lastReturn(lastReturn)
+                    .volatility(Math.sqrt(variance))
+                    .momentum(oldest > 0 ? last / oldest - 1.0 : 0.0)
+                    .samples(count)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.LatencyStats;
+import com.project.tradebot.domain.model.LatencyTrace;
+import com.project.tradebot.domain.model.News;
+import com.project.tradebot.domain.model.Order;
+import com.project.tradebot.domain.model.TradeSignal;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each stage of a trading decision took, per order, into HdrHistograms (microsecond
+ * resolution, three significant digits). {@code news_to_ack} is the reaction time to a story:
+ * publish time to exchange acknowledgement; {@code price_to_ack} is tick-to-order. A signal's story
+ * is the newest item in its context that mentions the signal's symbol; a signal with none has no
+ * news segments.
+ */
+@Service
+public class LatencyTracker {
+
+    private static final String[] SEGMENTS = {
+            "news_publish_to_ingest", "ingest_to_price", "price_to_signal", "signal_to_prepared",
+            "prepared_to_sent", "sent_to_ack", "price_to_ack", "news_to_ack" };
+
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final SymbolExtractor symbolExtractor;
+
+    public LatencyTracker(SymbolExtractor symbolExtractor) {
+        this.symbolExtractor = symbolExtractor;
+        for (String segment : SEGMENTS) {
+            ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+            histogram.setAutoResize(true);
+            histograms.put(segment, histogram);
+        }
+    }
+
+    /** Opens a trace for a cycle that has just fetched {@code news}. */
+    public LatencyTrace start(List<News> news) {
+        Map<String, Long> publishedAtBySymbol = new HashMap<>();
+        for (News item : news) {
+            if (item.getTimestamp() == null) continue;
+            long publishedAt = item.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            for (String symbol : symbolExtractor.extract(item)) publishedAtBySymbol.merge(symbol, publishedAt, Math::max);
+        }
+        return LatencyTrace.builder()
+                .newsPublishedAtBySymbol(publishedAtBySymbol)
+                .newsIngestedAtMs(System.currentTimeMillis())
+                .newsIngestedNanos(System.nanoTime())
+                .build();
+    }
+
+    /**
+     * Returns copies of {@code signals}, each carrying its own copy of the cycle's trace stamped as
+     * produced now, with the publish time of the story about its symbol. Copies, because identical
+     * contexts share one signal list across callers.
+     */
+    public List<TradeSignal> stampSignals(List<TradeSignal> signals, LatencyTrace cycleTrace) {
+        long now = System.nanoTime();
+        Map<String, Long> publishedAtBySymbol = cycleTrace.getNewsPublishedAtBySymbol() != null ? cycleTrace.getNewsPublishedAtBySymbol() : Map.of();
+        List<TradeSignal> stamped = new ArrayList<>(signals.size());
+        for (TradeSignal signal : signals) {
+            LatencyTrace trace = copy(cycleTrace);
+            trace.setSignalProducedNanos(now);
+            if (signal.getSymbol() != null) {
+                trace.setNewsPublishedAtMs(publishedAtBySymbol.getOrDefault(symbolExtractor.normalize(signal.getSymbol()), 0L));
+            }
+            stamped.add(TradeSignal.builder()
+                    .symbol(signal.getSymbol())
+                    .type(signal.getType())
+                    .confidence(signal.getConfidence())
+                    .reason(signal.getReason())
+                    .carriedForward(signal.isCarriedForward())
+                    .trace(trace)
+                    .build());
+        }
+        return stamped;
+    }
+
+    /** Replaces each order's trace (its signal's) with an own copy, stamped as prepared now. */
+    public void stampPrepared(List<Order> orders) {
+        long now = System.nanoTime();
+        for (Order order : orders) {
+            if (order.getTrace() == null) continue;
+            LatencyTrace trace = copy(order.getTrace());
+            trace.setOrderPreparedNanos(now);
+            order.setTrace(trace);
+        }
+    }
+
+    public void stampSent(List<Order> orders) {
+        long now = System.nanoTime();
+        for (Order order : orders) {
+            if (order.getTrace() != null) order.getTrace().setOrderSentNanos(now);
+        }
+    }
+
+    /** Stamps the orders the broker accepted and records their stage latencies; rejected and failed orders are not acknowledgements. */
+    public void recordAcknowledged(List<Order> orders) {
+        long now = System.nanoTime();
+        for (Order order : orders) {
+            LatencyTrace t = order.getTrace();
+            if (t == null || t.getOrderSentNanos() == 0) continue;
+            if (order.getStatus() == Order.OrderStatus.FAILED || order.getStatus() == Order.OrderStatus.REJECTED) continue;
+            t.setOrderAcknowledgedNanos(now);
+
+            if (t.getNewsPublishedAtMs() > 0) {
+                long publishToIngestMicros = TimeUnit.MILLISECONDS.toMicros(Math.max(0, t.getNewsIngestedAtMs() - t.getNewsPublishedAtMs()));
+                record("news_publish_to_ingest", publishToIngestMicros);
+                record("news_to_ack", publishToIngestMicros + micros(t.getNewsIngestedNanos(), now));
+            }
+            record("ingest_to_price", micros(t.getNewsIngestedNanos(), t.getPriceObservedNanos()));
+            record("price_to_signal", micros(t.getPriceObservedNanos(), t.getSignalProducedNanos()));
+            record("signal_to_prepared", micros(t.getSignalProducedNanos(), t.getOrderPreparedNanos()));
+            record("prepared_to_sent", micros(t.getOrderPreparedNanos(), t.getOrderSentNanos()));
+            record("sent_to_ack", micros(t.getOrderSentNanos(), now));
+            record("price_to_ack", micros(t.getPriceObservedNanos(), now));
+        }
+    }
+
+    public Map<String, LatencyStats> snapshot() {
+        Map<String, LatencyStats> result = new LinkedHashMap<>();
+        histograms.forEach((segment, h) -> {
+            Histogram copy = h.copy();
+            result.put(segment, LatencyStats.builder()
+                    .segment(segment)
+                    .count(copy.getTotalCount())
+                    .minMs(copy.getTotalCount() == 0 ? 0 : millis(copy.getMinValue()))
+                    .meanMs(millis(copy.getMean()))
+                    .p50Ms(millis(copy.getValueAtPercentile(50)))
+                    .p90Ms(millis(copy.getValueAtPercentile(90)))
+                    .p99Ms(millis(copy.getValueAtPercentile(99)))
+                    .p999Ms(millis(copy.getValueAtPercentile(99.9)))
+                    .maxMs(millis(copy.getMaxValue()))
+                    .build());
+        });
+        return result;
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    private void record(String segment, long micros) {
+        // A missing stamp (0) would show up as a huge or negative interval
+        if (micros < 0 || micros > TimeUnit.DAYS.toMicros(30)) return;
+        histograms.get(segment).recordValue(micros);
+    }
+
+    // The per-symbol publish times stay on the cycle trace; signals and orders carry their own
+    private static LatencyTrace copy(LatencyTrace trace) {
+        return LatencyTrace.builder()
+                .newsPublishedAtMs(trace.getNewsPublishedAtMs())
+                .newsIngestedAtMs(trace.getNewsIngestedAtMs())
+                .newsIngestedNanos(trace.getNewsIngestedNanos())
+                .priceObservedNanos(trace.getPriceObservedNanos())
+                .signalProducedNanos(trace.getSignalProducedNanos())
+                .orderPreparedNanos(trace.getOrderPreparedNanos())
+                .orderSentNanos(trace.getOrderSentNanos())
+                .orderAcknowledgedNanos(trace.getOrderAcknowledgedNanos())
+                .build();
+    }
+
+    private static long micros(long fromNanos, long toNanos) {
+        if (fromNanos == 0 || toNanos == 0) return -1;
+        return TimeUnit.NANOSECONDS.toMicros(toNanos - fromNanos);
+    }
+
+    private static double millis(double micros) {
+        return micros / 1000.0;
+    }
+}
@@ -1,27 +1,60 @@
 package com.project.tradebot.application.service;
 
 import com.project.tradebot.application.ports.MarketData;
-import lombok.RequiredArgsConstructor;
+import com.project.tradebot.domain.model.IndicatorSnapshot;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.TreeSet;
 
 @Service
-@RequiredArgsConstructor
 public class MarketDataService {
     private final Map<String, MarketData> marketDataImplementations;
+    private final SingleFlight<String, Map<String, Double>> priceFlights;
+    private final SingleFlight<String, OptionalDouble> singlePriceFlights;
+    private final IndicatorEngine indicatorEngine;
+    private final AdapterHealthRegistry adapterHealth;
+
+    public MarketDataService(
+            Map<String, MarketData> marketDataImplementations,
+            IndicatorEngine indicatorEngine,
+            AdapterHealthRegistry adapterHealth,
+            @Value("${market.single-flight.linger-ms:0}") long lingerMs) {
+        this.marketDataImplementations = marketDataImplementations;
+        this.indicatorEngine = indicatorEngine;
+        this.adapterHealth = adapterHealth;
+        this.priceFlights = new SingleFlight<>(lingerMs);
+        this.singlePriceFlights = new SingleFlight<>(lingerMs);
+    }
 
     public Map<String, Double> getPrices(String providerName, Set<String> symbols) {
-        MarketData provider = marketDataImplementations.get(providerName);
-        if (provider == null) throw new IllegalArgumentException("Market Data Provider not found: " + providerName);
-        return provider.getPrices(symbols);
+        if (!marketDataImplementations.containsKey(providerName)) throw new IllegalArgumentException("Market Data Provider not found: " + providerName);
+        String key = providerName + ":" + (symbols == null ? "" : new TreeSet<>(symbols));
+        return priceFlights.execute(key, () -> {
+            // Only the flight leader feeds the indicator engine, so coalesced callers don't duplicate ticks
+            Map<String, Double> prices = adapterHealth.route(AdapterHealthRegistry.MARKET_DATA, providerName, marketDataImplementations,
+                    (name, provider) -> provider.getPrices(symbols), Map::of);
+            indicatorEngine.onPrices(prices);
+            return prices;
+        });
+    }
+
+    /** Empty when every provider in the group is down or none quotes {@code symbol}; never a made-up 0. */
+    public OptionalDouble getPrice(String providerName, String symbol) {
+        if (!marketDataImplementations.containsKey(providerName)) throw new IllegalArgumentException("Market Data Provider not found: " + providerName);
+        return singlePriceFlights.execute(providerName + ":" + symbol, () -> adapterHealth.route(AdapterHealthRegistry.MARKET_DATA,
+                providerName, marketDataImplementations, (name, provider) -> {
+                    // Adapters report an unquoted symbol as 0
+                    double price = provider.getPrice(symbol);
+                    return price > 0 ? OptionalDouble.of(price) : OptionalDouble.empty();
+                }, OptionalDouble::empty));
     }
 
-    public double getPrice(String providerName, String symbol) {
-        MarketData provider = marketDataImplementations.get(providerName);
-        if (provider == null) throw new IllegalArgumentException("Market Data Provider not found: " + providerName);
-        return provider.getPrice(symbol);
+    public Map<String, IndicatorSnapshot> getIndicators(Set<String> symbols) {
+        return indicatorEngine.snapshots(symbols);
     }
 
     public Set<String> getAvailableProviders() {
@@ -0,0 +1,139 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.News;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collapses near-duplicate news (the same story reworded by several outlets) into one item per story.
+ * Each item gets a 64-bit SimHash over the content words of its title and description; two items are
+ * the same story when their fingerprints differ in at most {@code news.dedup.max-distance} bits.
+ * Fingerprints are indexed by eight 8-bit bands: items within seven bits of each other must agree on at
+ * least one band, so only items sharing a band are compared.
+ */
+@Component
+@Slf4j
+public class NewsDeduplicator {
+
+    private static final int BANDS = 8;
+    private static final int BAND_BITS = 8;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Function words carry no story identity and would otherwise dominate short texts
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "an", "and", "or", "of", "to", "in", "on", "at", "for", "as", "by", "with", "is", "are", "was",
+            "were", "be", "has", "have", "had", "it", "its", "this", "that", "from", "after", "said", "says", "say");
+
+    private final boolean enabled;
+    private final int maxDistance;
+
+    public NewsDeduplicator(
+            @Value("${news.dedup.enabled:true}") boolean enabled,
+            @Value("${news.dedup.max-distance:6}") int maxDistance) {
+        this.enabled = enabled;
+        // The band index only guarantees a shared band up to BANDS - 1 differing bits
+        this.maxDistance = Math.max(0, Math.min(BANDS - 1, maxDistance));
+    }
+
+    /**
+     * Returns one representative per story, in input order, each carrying the number of items it
+     * stands for in {@code sourceCount}. The first item of a cluster is its representative, so
+     * newest-first input keeps the latest report. Input items are not modified.
+     */
+    public List<News> collapse(List<News> news) {
+        if (!enabled || news.size() < 2) return news;
+
+        List<News> representatives = new ArrayList<>();
+        List<Long> fingerprints = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        Map<Integer, List<Integer>> bandIndex = new HashMap<>();
+
+        for (News item : news) {
+            long fingerprint = simHash(item);
+            int cluster = findCluster(fingerprint, fingerprints, bandIndex);
+            if (cluster >= 0) {
+                counts.set(cluster, counts.get(cluster) + Math.max(1, item.getSourceCount()));
+                continue;
+            }
+            cluster = representatives.size();
+            representatives.add(item);
+            fingerprints.add(fingerprint);
+            counts.add(Math.max(1, item.getSourceCount()));
+            for (int band = 0; band < BANDS; band++) {
+                bandIndex.computeIfAbsent(bandKey(fingerprint, band), k -> new ArrayList<>()).add(cluster);
+            }
+        }
+
+        List<News> result = new ArrayList<>(representatives.size());
+        for (int i = 0; i < representatives.size(); i++) {
+            News item = representatives.get(i);
+            result.add(News.builder()
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .source(item.getSource())
+                    .url(item.getUrl())
+                    .timestamp(item.getTimestamp())
+                    .sentiment(item.getSentiment())
+                    .sourceCount(counts.get(i))
+                    .build());
+        }
+        if (result.size() < news.size()) log.debug("Collapsed {} news items into {} stories", news.size(), result.size());
+        return result;
+    }
+
+    static long simHash(News item) {
+        int[] weights = new int[64];
+        for (String text : new String[] { item.getTitle(), item.getDescription() }) {
+            for (String token : SymbolExtractor.tokenize(text)) {
+                if (token.length() < 2 || STOP_WORDS.contains(token)) continue;
+                accumulate(weights, hash(token));
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) fingerprint |= 1L << bit;
+        }
+        return fingerprint;
+    }
+
+    private int findCluster(long fingerprint, List<Long> fingerprints, Map<Integer, List<Integer>> bandIndex) {
+        for (int band = 0; band < BANDS; band++) {
+            List<Integer> candidates = bandIndex.get(bandKey(fingerprint, band));
+            if (candidates == null) continue;
+            for (int cluster : candidates) {
+                if (Long.bitCount(fingerprint ^ fingerprints.get(cluster)) <= maxDistance) return cluster;
+            }
+        }
+        return -1;
+    }
+
+    private static int bandKey(long fingerprint, int band) {
+        return (band << BAND_BITS) | (int) ((fingerprint >>> (band * BAND_BITS)) & ((1 << BAND_BITS) - 1));
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    // FNV-1a over the word's characters, then a 64-bit finalizer so short words spread over all bits
+    private static long hash(String word) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < word.length(); i++) h = (h ^ word.charAt(i)) * FNV_PRIME;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -3,19 +3,50 @@ package com.project.tradebot.application.service;
 import com.project.tradebot.application.ports.NewsSource;
 import com.project.tradebot.domain.model.News;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class NewsService {
     private final Map<String, NewsSource> newsSources;
+    private final RecentNewsStore recentNewsStore;
+    private final AdapterHealthRegistry adapterHealth;
+
+    private final Map<String, CachedFetch> lastFetches = new ConcurrentHashMap<>();
+
+    @Value("${news.store.refresh-interval-ms:30000}")
+    private long refreshIntervalMs;
 
     public List<News> fetchNews(String sourceName) {
-        NewsSource source = newsSources.get(sourceName);
-        if (source == null) throw new IllegalArgumentException("Source not found");
-        return source.fetchNews();
+        if (!newsSources.containsKey(sourceName)) throw new IllegalArgumentException("Source not found");
+        List<News> news = adapterHealth.route(AdapterHealthRegistry.NEWS, sourceName, newsSources, (name, source) -> source.fetchNews(), List::of);
+        recentNewsStore.addAll(news);
+        lastFetches.put(sourceName, new CachedFetch(news, System.currentTimeMillis()));
+        return news;
     }
+
+    public List<News> getNews(String sourceName) {
+        CachedFetch cached = lastFetches.get(sourceName);
+        if (cached != null && System.currentTimeMillis() - cached.fetchedAt() < refreshIntervalMs) {
+            return cached.news();
+        }
+        return fetchNews(sourceName);
+    }
+
+    public List<News> search(String symbol, String keyword, LocalDateTime from, LocalDateTime to, int limit) {
+        return recentNewsStore.search(symbol, keyword, from, to, limit);
+    }
+
+    public List<News> recent(String symbol, int hours) {
+        return recentNewsStore.recent(symbol, Duration.ofHours(hours));
+    }
+
+    private record CachedFetch(List<News> news, long fetchedAt) {}
 }
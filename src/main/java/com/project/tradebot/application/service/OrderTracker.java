@@ -0,0 +1,197 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.application.ports.Broker;
+import com.project.tradebot.application.ports.TradeJournal;
+import com.project.tradebot.domain.model.JournalEntry;
+import com.project.tradebot.domain.model.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows submitted orders until they reach a final status. Each order has its own poll interval,
+ * short right after submission and multiplied after every poll that shows no change. A tick collects
+ * the orders that are due and refreshes them with one batched call per broker, so the number of
+ * signed requests tracks the number of brokers rather than the number of open orders. Fills are
+ * applied to the risk book and journaled as {@link JournalEntry.EntryType#ORDER_UPDATE} records.
+ * An order is followed until it settles: past {@code trading.order-tracking.max-age-ms} it is
+ * reported as stale and polled at the maximum interval, since dropping it would leave its exposure
+ * booked in the risk engine for good.
+ */
+@Service
+@Slf4j
+public class OrderTracker {
+
+    private final RiskEngine riskEngine;
+    private final TradeJournal tradeJournal;
+    private final long initialIntervalMs;
+    private final long maxIntervalMs;
+    private final double backoffMultiplier;
+    private final long maxAgeMs;
+
+    private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("order-tracker").daemon().factory());
+
+    public OrderTracker(
+            RiskEngine riskEngine,
+            TradeJournal tradeJournal,
+            @Value("${trading.order-tracking.initial-interval-ms:500}") long initialIntervalMs,
+            @Value("${trading.order-tracking.max-interval-ms:30000}") long maxIntervalMs,
+            @Value("${trading.order-tracking.backoff-multiplier:2.0}") double backoffMultiplier,
+            @Value("${trading.order-tracking.max-age-ms:86400000}") long maxAgeMs) {
+        this.riskEngine = riskEngine;
+        this.tradeJournal = tradeJournal;
+        this.initialIntervalMs = Math.max(50, initialIntervalMs);
+        this.maxIntervalMs = Math.max(this.initialIntervalMs, maxIntervalMs);
+        this.backoffMultiplier = Math.max(1.0, backoffMultiplier);
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::tick, initialIntervalMs, Math.min(initialIntervalMs, 250), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /** Starts following the orders that were accepted but are not final yet. */
+    public void track(String book, Broker broker, List<Order> orders) {
+        long now = System.currentTimeMillis();
+        for (Order order : orders) {
+            if (order.getOrderId() == null || order.getStatus() == null || order.getStatus().isFinal()) continue;
+            tracked.putIfAbsent(order.getOrderId(), new Tracked(book, broker, order, now, initialIntervalMs, false));
+        }
+    }
+
+    /**
+     * Resumes following orders that were still open when the process last stopped, as rebuilt from
+     * the trade journal. Their fills are booked without releasing exposure this process never held.
+     */
+    public void recover(String book, Broker broker, List<Order> orders) {
+        long now = System.currentTimeMillis();
+        for (Order order : orders) {
+            if (order.getOrderId() == null || order.getStatus() == null || order.getStatus().isFinal()) continue;
+            tracked.putIfAbsent(order.getOrderId(), new Tracked(book, broker, order, now, initialIntervalMs, true));
+        }
+    }
+
+    public List<Order> getOpenOrders() {
+        List<Order> orders = new ArrayList<>(tracked.size());
+        tracked.values().forEach(t -> orders.add(t.order));
+        return orders;
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            Map<Broker, List<Tracked>> due = new IdentityHashMap<>();
+            for (Tracked t : tracked.values()) {
+                if (t.nextPollAt <= now) due.computeIfAbsent(t.broker, b -> new ArrayList<>()).add(t);
+            }
+            due.forEach((broker, batch) -> refresh(broker, batch, now));
+        } catch (Exception e) {
+            log.error("Order tracking tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void refresh(Broker broker, List<Tracked> batch, long now) {
+        List<Order> orders = new ArrayList<>(batch.size());
+        List<Order.OrderStatus> previousStatus = new ArrayList<>(batch.size());
+        double[] previousFilled = new double[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Order order = batch.get(i).order;
+            orders.add(order);
+            previousStatus.add(order.getStatus());
+            previousFilled[i] = order.getFilledQuantity();
+        }
+
+        broker.refreshOrderStatuses(orders);
+
+        Map<String, List<Order>> changedByBook = new HashMap<>();
+        Map<String, List<Order>> finishedByBook = new HashMap<>();
+        Map<String, List<Order>> recoveredByBook = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Tracked t = batch.get(i);
+            Order order = t.order;
+            boolean changed = order.getStatus() != previousStatus.get(i) || order.getFilledQuantity() != previousFilled[i];
+            if (changed) changedByBook.computeIfAbsent(t.book, b -> new ArrayList<>()).add(order);
+
+            if (order.getStatus() != null && order.getStatus().isFinal()) {
+                tracked.remove(order.getOrderId());
+                (t.recovered ? recoveredByBook : finishedByBook).computeIfAbsent(t.book, b -> new ArrayList<>()).add(order);
+            } else if (now - t.submittedAt > maxAgeMs) {
+                if (!t.stale) {
+                    t.stale = true;
+                    log.warn("Order {} on {} still {} after {} ms; polling every {} ms until it settles",
+                            order.getOrderId(), t.book, order.getStatus(), maxAgeMs, maxIntervalMs);
+                }
+                t.intervalMs = maxIntervalMs;
+                t.nextPollAt = now + t.intervalMs;
+            } else {
+                // Back off while nothing happens; a fill means activity, so poll quickly again
+                t.intervalMs = changed ? initialIntervalMs : Math.min(maxIntervalMs, (long) (t.intervalMs * backoffMultiplier));
+                t.nextPollAt = now + t.intervalMs;
+            }
+        }
+
+        finishedByBook.forEach(riskEngine::onOrderResults);
+        recoveredByBook.forEach(riskEngine::onRecoveredOrderResults);
+        changedByBook.forEach(this::journalUpdate);
+        int finished = finishedByBook.values().stream().mapToInt(List::size).sum() + recoveredByBook.values().stream().mapToInt(List::size).sum();
+        if (finished > 0) {
+            log.info("{} of {} polled orders on {} reached a final status", finished, batch.size(), broker.getName());
+        }
+    }
+
+    private void journalUpdate(String book, List<Order> orders) {
+        int slash = book.indexOf('/');
+        tradeJournal.append(JournalEntry.builder()
+                        .type(JournalEntry.EntryType.ORDER_UPDATE)
+                        .timestamp(System.currentTimeMillis())
+                        .brokerName(slash < 0 ? book : book.substring(0, slash))
+                        .accountName(slash < 0 ? null : book.substring(slash + 1))
+                        .orders(orders)
+                        .build())
+                .exceptionally(e -> {
+                    log.error("Failed to journal order update: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    private static final class Tracked {
+        private final String book;
+        private final Broker broker;
+        private final Order order;
+        private final long submittedAt;
+        private final boolean recovered; // placed before a restart, so no exposure is booked for it
+        private long intervalMs;
+        private long nextPollAt;
+        private boolean stale;
+
+        private Tracked(String book, Broker broker, Order order, long submittedAt, long intervalMs, boolean recovered) {
+            this.book = book;
+            this.broker = broker;
+            this.order = order;
+            this.submittedAt = submittedAt;
+            this.recovered = recovered;
+            this.intervalMs = intervalMs;
+            this.nextPollAt = submittedAt + intervalMs;
+        }
+    }
+}
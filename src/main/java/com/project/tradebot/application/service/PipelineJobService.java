@@ -0,0 +1,275 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.Order;
+import com.project.tradebot.domain.model.PipelineJob;
+import com.project.tradebot.domain.model.PipelineJobEvent;
+import com.project.tradebot.domain.model.TradeSignal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs pipelines as background jobs on a bounded executor so HTTP threads return immediately.
+ * Each job records its progress events; subscribers get the events so far replayed and then
+ * live ones, so a client that connects late or reconnects misses nothing. Every subscriber has
+ * its own queue drained on a virtual thread, so a slow client never holds up the pipeline; one
+ * that falls {@value #MAX_PENDING_EVENTS} events behind is dropped. Finished jobs are kept in a
+ * bounded history, oldest evicted first.
+ */
+@Service
+@Slf4j
+public class PipelineJobService {
+
+    private static final int MAX_PENDING_EVENTS = 256;
+
+    private final TradingService tradingService;
+    private final int historySize;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, JobRecord> jobs = new LinkedHashMap<>();
+
+    public PipelineJobService(
+            TradingService tradingService,
+            @Value("${trading.jobs.max-concurrent:2}") int maxConcurrent,
+            @Value("${trading.jobs.queue-capacity:16}") int queueCapacity,
+            @Value("${trading.jobs.history-size:100}") int historySize) {
+        this.tradingService = tradingService;
+        this.historySize = Math.max(1, historySize);
+        int threads = Math.max(1, maxConcurrent);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofVirtual().name("pipeline-job-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        deliveryExecutor.shutdownNow();
+    }
+
+    /** Queues a pipeline run; throws {@link RejectedExecutionException} when the job queue is full. */
+    public PipelineJob submit(String source, String strategy, String broker, String marketData) {
+        PipelineJob job = PipelineJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .status(PipelineJob.JobStatus.QUEUED)
+                .source(source)
+                .strategy(strategy)
+                .broker(broker)
+                .marketData(marketData)
+                .submittedAt(System.currentTimeMillis())
+                .build();
+        JobRecord record = new JobRecord(job);
+
+        synchronized (jobs) {
+            jobs.put(job.getJobId(), record);
+            evictFinished();
+        }
+        try {
+            executor.execute(() -> run(record));
+        } catch (RejectedExecutionException e) {
+            synchronized (jobs) {
+                jobs.remove(job.getJobId());
+            }
+            throw new RejectedExecutionException("Pipeline job queue is full, try again later", e);
+        }
+        log.info("Queued pipeline job {}", job.getJobId());
+        return job;
+    }
+
+    public PipelineJob getJob(String jobId) {
+        return record(jobId).job;
+    }
+
+    public List<PipelineJob> getJobs() {
+        synchronized (jobs) {
+            List<PipelineJob> result = new ArrayList<>(jobs.size());
+            jobs.values().forEach(r -> result.add(0, r.job));
+            return result;
+        }
+    }
+
+    /**
+     * Replays the job's events so far to {@code subscriber} and then forwards new ones until the
+     * terminal event. Returns a handle that stops delivery.
+     */
+    public Runnable subscribe(String jobId, Consumer<PipelineJobEvent> subscriber) {
+        JobRecord record = record(jobId);
+        Subscription subscription = new Subscription(subscriber, deliveryExecutor);
+        synchronized (record) {
+            record.events.forEach(subscription::offer);
+            if (!record.finished()) record.subscribers.add(subscription);
+        }
+        return () -> {
+            subscription.cancel();
+            synchronized (record) {
+                record.subscribers.remove(subscription);
+            }
+        };
+    }
+
+    private void run(JobRecord record) {
+        PipelineJob job = record.job;
+        synchronized (record) {
+            job.setStatus(PipelineJob.JobStatus.RUNNING);
+            job.setStartedAt(System.currentTimeMillis());
+        }
+        record.publish(PipelineJobEvent.builder().type(PipelineJobEvent.EventType.STAGE).stage("STARTED"));
+        try {
+            List<Order> orders = tradingService.executeFullPipeline(job.getSource(), job.getStrategy(), job.getBroker(), job.getMarketData(), record);
+            synchronized (record) {
+                job.setOrders(orders);
+                job.setStatus(PipelineJob.JobStatus.SUCCEEDED);
+                job.setFinishedAt(System.currentTimeMillis());
+                record.publish(PipelineJobEvent.builder().type(PipelineJobEvent.EventType.COMPLETED).stage("DONE")
+                        .message(orders.size() + " orders"));
+            }
+        } catch (Exception e) {
+            log.error("Pipeline job {} failed: {}", job.getJobId(), e.getMessage());
+            synchronized (record) {
+                job.setError(e.getMessage());
+                job.setStatus(PipelineJob.JobStatus.FAILED);
+                job.setFinishedAt(System.currentTimeMillis());
+                record.publish(PipelineJobEvent.builder().type(PipelineJobEvent.EventType.FAILED).message(e.getMessage()));
+            }
+        }
+    }
+
+    private JobRecord record(String jobId) {
+        synchronized (jobs) {
+            JobRecord record = jobs.get(jobId);
+            if (record == null) throw new IllegalArgumentException("Job not found: " + jobId);
+            return record;
+        }
+    }
+
+    private void evictFinished() {
+        Iterator<JobRecord> it = jobs.values().iterator();
+        while (jobs.size() > historySize && it.hasNext()) {
+            if (it.next().finished()) it.remove();
+        }
+    }
+
+    private static final class JobRecord implements PipelineListener {
+        private final PipelineJob job;
+        private final List<PipelineJobEvent> events = new ArrayList<>();
+        private final List<Subscription> subscribers = new ArrayList<>();
+
+        private JobRecord(PipelineJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void onStage(String stage, String message) {
+            synchronized (this) {
+                job.setStage(stage);
+            }
+            publish(PipelineJobEvent.builder().type(PipelineJobEvent.EventType.STAGE).stage(stage).message(message));
+        }
+
+        @Override
+        public void onSignals(List<TradeSignal> signals) {
+            synchronized (this) {
+                job.setSignals(signals);
+            }
+            publish(PipelineJobEvent.builder().type(PipelineJobEvent.EventType.SIGNALS).stage("SIGNALS").signals(signals));
+        }
+
+        @Override
+        public void onOrders(List<Order> orders) {
+            publish(PipelineJobEvent.builder().type(PipelineJobEvent.EventType.ORDERS).stage("ORDERS").orders(orders));
+        }
+
+        private synchronized boolean finished() {
+            return job.getStatus() == PipelineJob.JobStatus.SUCCEEDED || job.getStatus() == PipelineJob.JobStatus.FAILED;
+        }
+
+        private synchronized void publish(PipelineJobEvent.PipelineJobEventBuilder builder) {
+            PipelineJobEvent event = builder.jobId(job.getJobId())
+                    .sequence(events.size())
+                    .timestamp(System.currentTimeMillis())
+                    .build();
+            events.add(event);
+            subscribers.removeIf(Subscription::cancelled);
+            for (Subscription subscription : subscribers) subscription.offer(event);
+            if (finished()) subscribers.clear();
+        }
+    }
+
+    /** One subscriber's ordered event queue, drained off the publishing thread. */
+    private static final class Subscription {
+        private final Consumer<PipelineJobEvent> subscriber;
+        private final Executor executor;
+        private final ArrayDeque<PipelineJobEvent> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean cancelled;
+
+        private Subscription(Consumer<PipelineJobEvent> subscriber, Executor executor) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        private void offer(PipelineJobEvent event) {
+            synchronized (this) {
+                if (cancelled) return;
+                if (pending.size() >= MAX_PENDING_EVENTS) {
+                    log.warn("Dropping pipeline job subscriber {} events behind", pending.size());
+                    cancel();
+                    return;
+                }
+                pending.add(event);
+                if (draining) return;
+                draining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                cancel();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                PipelineJobEvent event;
+                synchronized (this) {
+                    event = cancelled ? null : pending.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    subscriber.accept(event);
+                } catch (RuntimeException e) {
+                    cancel();
+                }
+            }
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            pending.clear();
+        }
+
+        private synchronized boolean cancelled() {
+            return cancelled;
+        }
+    }
+}
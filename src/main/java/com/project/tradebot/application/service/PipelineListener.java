@@ -0,0 +1,24 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.Order;
+import com.project.tradebot.domain.model.TradeSignal;
+
+import java.util.List;
+
+/**
+ * Progress callbacks from a pipeline run. Called on the pipeline thread, so implementations
+ * should only record or hand off.
+ */
+public interface PipelineListener {
+
+    PipelineListener NONE = new PipelineListener() {};
+
+    default void onStage(String stage, String message) {
+    }
+
+    default void onSignals(List<TradeSignal> signals) {
+    }
+
+    default void onOrders(List<Order> orders) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.project.tradebot.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Fans one price poll per provider out to any number of streaming clients. The poller fetches the
+ * union of all subscribed symbols once per interval, whatever the number of clients, and pushes only
+ * changed prices. Each client has its own pending map: while a slow client is still sending, newer
+ * prices overwrite older ones there, so it receives the latest value per symbol rather than a backlog.
+ */
+@Service
+@Slf4j
+public class PriceStreamService {
+
+    private final MarketDataService marketDataService;
+    private final long intervalMs;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("price-stream-poller").daemon().factory());
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Feed> feeds = new ConcurrentHashMap<>();
+
+    public PriceStreamService(
+            MarketDataService marketDataService,
+            @Value("${market.stream.interval-ms:1000}") long intervalMs) {
+        this.marketDataService = marketDataService;
+        this.intervalMs = Math.max(50, intervalMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        deliveryExecutor.shutdownNow();
+    }
+
+    /**
+     * Streams prices for {@code symbols} to {@code sink}, starting with the last known values.
+     * The sink is never called concurrently; if it throws, the subscription ends. Returns a handle
+     * that unsubscribes.
+     */
+    public Runnable subscribe(String provider, Set<String> symbols, Consumer<Map<String, Double>> sink) {
+        if (!marketDataService.getAvailableProviders().contains(provider)) {
+            throw new IllegalArgumentException("Market Data Provider not found: " + provider);
+        }
+        Subscriber subscriber = new Subscriber(provider, Set.copyOf(symbols), sink);
+        Feed feed = feeds.compute(provider, (k, f) -> {
+            Feed target = f != null ? f : new Feed(provider);
+            target.subscribers.add(subscriber);
+            if (target.task == null) {
+                target.task = poller.scheduleWithFixedDelay(target::poll, 0, intervalMs, TimeUnit.MILLISECONDS);
+                log.info("Started price stream for {}", provider);
+            }
+            return target;
+        });
+
+        Map<String, Double> known = new HashMap<>();
+        for (String symbol : subscriber.symbols) {
+            Double price = feed.lastPrices.get(symbol);
+            if (price != null) known.put(symbol, price);
+        }
+        if (!known.isEmpty()) subscriber.offer(known);
+        return subscriber::close;
+    }
+
+    private final class Feed {
+        private final String provider;
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        private final Map<String, Double> lastPrices = new ConcurrentHashMap<>();
+        private ScheduledFuture<?> task; // guarded by feeds.compute on this provider
+
+        private Feed(String provider) {
+            this.provider = provider;
+        }
+
+        private void poll() {
+            Set<String> symbols = new HashSet<>();
+            subscribers.forEach(s -> symbols.addAll(s.symbols));
+            if (symbols.isEmpty()) return;
+            try {
+                Map<String, Double> prices = marketDataService.getPrices(provider, symbols);
+                Map<String, Double> changed = new HashMap<>();
+                prices.forEach((symbol, price) -> {
+                    if (!Objects.equals(lastPrices.put(symbol, price), price)) changed.put(symbol, price);
+                });
+                if (changed.isEmpty()) return;
+                for (Subscriber subscriber : subscribers) {
+                    Map<String, Double> update = new HashMap<>();
+                    for (String symbol : subscriber.symbols) {
+                        Double price = changed.get(symbol);
+                        if (price != null) update.put(symbol, price);
+                    }
+                    if (!update.isEmpty()) subscriber.offer(update);
+                }
+            } catch (Exception e) {
+                log.warn("Price stream poll for {} failed: {}", provider, e.getMessage());
+            }
+        }
+
+        private void remove(Subscriber subscriber) {
+            feeds.computeIfPresent(provider, (k, f) -> {
+                f.subscribers.remove(subscriber);
+                if (!f.subscribers.isEmpty()) return f;
+                if (f.task != null) f.task.cancel(false);
+                log.info("Stopped price stream for {}", provider);
+                return null;
+            });
+        }
+    }
+
+    private final class Subscriber {
+        private final String provider;
+        private final Set<String> symbols;
+        private final Consumer<Map<String, Double>> sink;
+        private final Map<String, Double> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(String provider, Set<String> symbols, Consumer<Map<String, Double>> sink) {
+            this.provider = provider;
+            this.symbols = symbols;
+            this.sink = sink;
+        }
+
+        private void offer(Map<String, Double> update) {
+            if (closed) return;
+            pending.putAll(update);
+            if (draining.compareAndSet(false, true)) deliveryExecutor.execute(this::drain);
+        }
+
+        private void drain() {
+            do {
+                Map<String, Double> batch = new HashMap<>();
+                for (String symbol : pending.keySet()) {
+                    Double price = pending.remove(symbol);
+                    if (price != null) batch.put(symbol, price);
+                }
+                try {
+                    if (!batch.isEmpty() && !closed) sink.accept(batch);
+                } catch (Exception e) {
+                    log.debug("Price stream client dropped: {}", e.getMessage());
+                    close();
+                } finally {
+                    draining.set(false);
+                }
+            } while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            pending.clear();
+            Feed f = feeds.get(provider);
+            if (f != null) f.remove(this);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.application.ports.NewsHistory;
+import com.project.tradebot.domain.model.News;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded, time-windowed store of recent news. Items live in a fixed pool of slots; an inverted
+ * index maps symbol and token keys to the slots holding them. Every postings list, and the list of
+ * all occupied slots, is kept in timestamp order even though feeds do not deliver in publish order.
+ * Retention and, when the pool is full, eviction therefore always remove the oldest story, which
+ * sits at the head of each list it is in, and search walks its shortest list newest first and
+ * stops once it has {@code limit} matches.
+ */
+@Service
+@Slf4j
+public class RecentNewsStore implements NewsHistory {
+
+    private static final String SYMBOL_KEY = "s:";
+    private static final String TOKEN_KEY = "t:";
+
+    private final SymbolExtractor symbolExtractor;
+    private final int capacity;
+    private final long retentionMillis;
+    private final int maxTokensPerItem;
+
+    private final News[] items;
+    private final long[] times;
+    private final String[][] keys;
+    private final String[] identities;
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final Postings byTime = new Postings(); // all occupied slots, oldest first
+    private final Map<String, Postings> index = new HashMap<>();
+    private final Map<String, Integer> slotByIdentity = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public RecentNewsStore(
+            SymbolExtractor symbolExtractor,
+            @Value("${news.store.capacity:4096}") int capacity,
+            @Value("${news.store.retention-hours:48}") long retentionHours,
+            @Value("${news.store.max-tokens-per-item:64}") int maxTokensPerItem) {
+        this.symbolExtractor = symbolExtractor;
+        this.capacity = Math.max(1, capacity);
+        this.retentionMillis = Duration.ofHours(retentionHours).toMillis();
+        this.maxTokensPerItem = maxTokensPerItem;
+        this.items = new News[this.capacity];
+        this.times = new long[this.capacity];
+        this.keys = new String[this.capacity][];
+        this.identities = new String[this.capacity];
+        for (int slot = 0; slot < this.capacity; slot++) freeSlots.push(slot);
+    }
+
+    public int addAll(Collection<News> news) {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        int added = 0;
+        lock.writeLock().lock();
+        try {
+            expire(cutoff);
+            for (News item : news) {
+                long time = epochMillis(item.getTimestamp());
+                String identity = identity(item);
+                if (time < cutoff || slotByIdentity.containsKey(identity)) continue;
+                if (freeSlots.isEmpty()) {
+                    // Full: a story older than everything held would be the next one out anyway
+                    if (time <= times[byTime.first()]) continue;
+                    remove(byTime.first());
+                }
+
+                int slot = freeSlots.pop();
+                items[slot] = item;
+                times[slot] = time;
+                identities[slot] = identity;
+                keys[slot] = indexKeys(item);
+                slotByIdentity.put(identity, slot);
+                byTime.add(slot, times);
+                for (String key : keys[slot]) {
+                    index.computeIfAbsent(key, k -> new Postings()).add(slot, times);
+                }
+                added++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (added > 0) log.debug("Stored {} new news items; {} held", added, size());
+        return added;
+    }
+
+    /**
+     * Newest-first search. Any of {@code symbol}, {@code keyword}, {@code from} and {@code to} may be
+     * null; a multi-word keyword matches items containing every indexed word (single letters are not
+     * indexed and are ignored).
+     */
+    public List<News> search(String symbol, String keyword, LocalDateTime from, LocalDateTime to, int limit) {
+        // Items past retention may still be held until the next addAll expires them
+        long fromMillis = Math.max(from != null ? epochMillis(from) : Long.MIN_VALUE, System.currentTimeMillis() - retentionMillis);
+        long toMillis = to != null ? epochMillis(to) : Long.MAX_VALUE;
+
+        List<String> required = new ArrayList<>();
+        if (symbol != null && !symbol.isBlank()) required.add(SYMBOL_KEY + symbolExtractor.normalize(symbol));
+        if (keyword != null) {
+            List<String> tokens = SymbolExtractor.tokenize(keyword);
+            tokens.stream().filter(RecentNewsStore::indexable).forEach(t -> required.add(TOKEN_KEY + t));
+            // A keyword made only of unindexed words cannot match anything
+            if (!tokens.isEmpty() && tokens.stream().noneMatch(RecentNewsStore::indexable)) return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Walk the shortest postings list and check the remaining keys against each candidate
+            Postings driver = byTime;
+            for (String key : required) {
+                Postings postings = index.get(key);
+                if (postings == null) return List.of();
+                if (driver == byTime || postings.size < driver.size) driver = postings;
+            }
+            List<News> result = new ArrayList<>(Math.min(limit, driver.size));
+            for (int i = driver.size - 1; i >= 0 && result.size() < limit; i--) {
+                int slot = driver.get(i);
+                if (times[slot] > toMillis) continue;
+                if (times[slot] < fromMillis) break; // everything further back is older still
+                if (containsAll(keys[slot], required)) result.add(items[slot]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<News> recent(String symbol, Duration window) {
+        return search(symbol, null, LocalDateTime.now().minus(window), null, Integer.MAX_VALUE);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByIdentity.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void expire(long cutoff) {
+        while (byTime.size > 0 && times[byTime.first()] < cutoff) remove(byTime.first());
+    }
+
+    // Only ever called with the oldest slot held
+    private void remove(int slot) {
+        byTime.remove(slot);
+        for (String key : keys[slot]) {
+            Postings postings = index.get(key);
+            postings.remove(slot);
+            if (postings.size == 0) index.remove(key);
+        }
+        slotByIdentity.remove(identities[slot]);
+        items[slot] = null;
+        keys[slot] = null;
+        identities[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private String[] indexKeys(News item) {
+        Set<String> itemKeys = new LinkedHashSet<>();
+        symbolExtractor.extract(item).forEach(s -> itemKeys.add(SYMBOL_KEY + s));
+        int tokens = 0;
+        for (String text : new String[] { item.getTitle(), item.getDescription() }) {
+            for (String token : SymbolExtractor.tokenize(text)) {
+                if (tokens >= maxTokensPerItem) break;
+                if (indexable(token) && itemKeys.add(TOKEN_KEY + token)) tokens++;
+            }
+        }
+        return itemKeys.toArray(new String[0]);
+    }
+
+    private static boolean indexable(String token) {
+        return token.length() > 1;
+    }
+
+    private static boolean containsAll(String[] itemKeys, List<String> required) {
+        for (String key : required) {
+            boolean found = false;
+            for (String itemKey : itemKeys) {
+                if (itemKey.equals(key)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private static String identity(News item) {
+        return String.valueOf(item.getTitle()).trim().toLowerCase() + "|" + item.getTimestamp();
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        if (time == null) return System.currentTimeMillis();
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Slots in timestamp order, oldest first, held in [head, head + size) of a growable int[]
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int head;
+        private int size;
+
+        private int first() {
+            return slots[head];
+        }
+
+        private int get(int i) {
+            return slots[head + i];
+        }
+
+        // Feeds mostly deliver newer stories, so the insertion point is usually the end
+        private void add(int slot, long[] times) {
+            if (head + size == slots.length) {
+                // Grow when more than half full; otherwise reclaim the space freed at the head
+                int[] target = size * 2 > slots.length ? new int[slots.length * 2] : slots;
+                System.arraycopy(slots, head, target, 0, size);
+                slots = target;
+                head = 0;
+            }
+            long time = times[slot];
+            int low = head;
+            int high = head + size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[slots[mid]] <= time) low = mid + 1;
+                else high = mid;
+            }
+            System.arraycopy(slots, low, slots, low + 1, head + size - low);
+            slots[low] = slot;
+            size++;
+        }
+
+        // The oldest story is removed first, so the slot is at the head or just behind stories of the same time
+        private void remove(int slot) {
+            int end = head + size;
+            for (int i = head; i < end; i++) {
+                if (slots[i] != slot) continue;
+                if (i == head) {
+                    head++;
+                } else {
+                    System.arraycopy(slots, i + 1, slots, i, end - i - 1);
+                }
+                size--;
+                if (size * 4 < slots.length && slots.length > 4) {
+                    int[] shrunk = new int[slots.length / 2];
+                    System.arraycopy(slots, head, shrunk, 0, size);
+                    slots = shrunk;
+                    head = 0;
+                }
+                return;
+            }
+        }
+    }
+}
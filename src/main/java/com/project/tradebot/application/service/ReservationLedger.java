@@ -0,0 +1,165 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.application.ports.Broker;
+import com.project.tradebot.domain.model.FixedPoint;
+import com.project.tradebot.domain.model.MarketSpec;
+import com.project.tradebot.domain.model.Order;
+import com.project.tradebot.domain.model.Portfolio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-book ledger of INR and asset amounts claimed by orders that are being prepared or submitted.
+ * Concurrent pipelines read the same exchange balances, so each one reserves against the free balance
+ * minus what the others already hold. Every (book, asset) pair is an immutable {@link Hold} swapped
+ * with {@link ConcurrentHashMap#compute}, so pipelines contend only when they touch the same asset.
+ * <p>
+ * Confirmed amounts stay deducted until a portfolio fetched after the confirmation is presented,
+ * since an older snapshot cannot reflect the fill yet.
+ * <p>
+ * Holds are local to this instance. When symbols are partitioned across instances trading one
+ * account, free INR is first cut to this member's {@link SymbolPartitioner#capitalShare()}, so
+ * the members together cannot commit more than the account holds.
+ */
+@Service
+@Slf4j
+public class ReservationLedger {
+
+    private static final String QUOTE_ASSET = "INR";
+
+    private final SymbolPartitioner symbolPartitioner;
+    private final double minBuyInr;
+    private final double feeBuffer;
+
+    private final Map<Key, Hold> holds = new ConcurrentHashMap<>();
+
+    public ReservationLedger(
+            SymbolPartitioner symbolPartitioner,
+            @Value("${trading.reservation.min-buy-inr:100.0}") double minBuyInr,
+            @Value("${trading.reservation.fee-buffer:0.05}") double feeBuffer) {
+        this.symbolPartitioner = symbolPartitioner;
+        this.minBuyInr = minBuyInr;
+        this.feeBuffer = feeBuffer;
+    }
+
+    public record Reservation(String book, String asset, double amount, Order order) {}
+
+    private record Key(String book, String asset) {}
+
+    // reserved: held by in-flight orders; settled: confirmed at settledAt but possibly not yet in fetched balances
+    private record Hold(double reserved, double settled, long settledAt) {}
+
+    /**
+     * Reserves funds for each order, shrinking orders to what is still free and dropping those left
+     * below the minimum. A shrunk quantity is floored to the market's quantity precision again.
+     * {@code observedAt} is the {@link System#nanoTime()} taken before the portfolio was fetched.
+     * Every returned reservation must be passed to {@link #settle}.
+     */
+    public List<Reservation> reserve(String book, Broker broker, List<Order> orders, Portfolio portfolio, long observedAt) {
+        List<Reservation> reservations = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            boolean buy = order.getType() == Order.OrderType.BUY;
+            String asset = buy ? QUOTE_ASSET : order.getSymbol().replace(QUOTE_ASSET, "");
+            double free = portfolio.getBalances().getOrDefault(asset, 0.0);
+            if (buy) free = spendableInr(free);
+            double desired = buy ? order.getQuantity() * order.getPrice() : order.getQuantity();
+
+            double granted = claim(new Key(book, asset), desired, buy ? minBuyInr : 0.0, free, observedAt);
+            if (granted <= 0) {
+                log.info("No free {} left on {} for {} {}", asset, book, order.getType(), order.getSymbol());
+                continue;
+            }
+            Reservation reservation = new Reservation(book, asset, granted, order);
+            if (granted < desired) {
+                MarketSpec spec = broker.getMarketSpec(order.getSymbol());
+                int quantityScale = spec != null ? spec.getQuantityPrecision() : FixedPoint.DEFAULT_SCALE;
+                order.setQuantity(FixedPoint.floor(buy ? granted / order.getPrice() : granted, quantityScale));
+                if (order.getQuantity() <= 0) {
+                    // Less than one quantity step is free; hand the grant straight back
+                    settle(List.of(reservation));
+                    continue;
+                }
+            }
+            reservations.add(reservation);
+        }
+        return reservations;
+    }
+
+    /**
+     * Resolves reservations after submission: amounts used by accepted orders are confirmed, the rest
+     * (failed, rejected, unsubmitted or shrunk orders) goes back to the free pool.
+     */
+    public void settle(List<Reservation> reservations) {
+        long now = System.nanoTime();
+        for (Reservation r : reservations) {
+            Order order = r.order();
+            double used = 0.0;
+            Order.OrderStatus status = order.getStatus();
+            if (status == Order.OrderStatus.CANCELLED) {
+                // Only the filled part left the balance
+                double filled = order.getFilledQuantity();
+                used = Math.min(r.amount(), order.getType() == Order.OrderType.BUY ? filled * order.getPrice() : filled);
+            } else if (status != null && status != Order.OrderStatus.FAILED && status != Order.OrderStatus.REJECTED) {
+                // Open orders lock their funds on the exchange, so they count as used too
+                used = Math.min(r.amount(), order.getType() == Order.OrderType.BUY ? order.getQuantity() * order.getPrice() : order.getQuantity());
+            }
+            double confirmed = used;
+            holds.compute(new Key(r.book(), r.asset()), (k, h) -> {
+                double reserved = Math.max(0.0, (h != null ? h.reserved() : 0.0) - r.amount());
+                if (confirmed <= 0) {
+                    return h == null || (reserved == 0 && h.settled() == 0) ? null : new Hold(reserved, h.settled(), h.settledAt());
+                }
+                return new Hold(reserved, (h != null ? h.settled() : 0.0) + confirmed, now);
+            });
+        }
+    }
+
+    /** The part of a free INR balance that this instance's orders may spend once the fee buffer is kept back. */
+    public double spendableInr(double freeInr) {
+        return freeInr * symbolPartitioner.capitalShare() * (1.0 - feeBuffer);
+    }
+
+    public double getMinBuyInr() {
+        return minBuyInr;
+    }
+
+    public static List<Order> orders(List<Reservation> reservations) {
+        List<Order> orders = new ArrayList<>(reservations.size());
+        reservations.forEach(r -> orders.add(r.order()));
+        return orders;
+    }
+
+    /** Amounts currently held per asset for a book, reserved plus confirmed-but-unobserved. */
+    public Map<String, Double> held(String book) {
+        Map<String, Double> held = new TreeMap<>();
+        holds.forEach((key, h) -> {
+            if (key.book().equals(book)) held.put(key.asset(), h.reserved() + h.settled());
+        });
+        return held;
+    }
+
+    private double claim(Key key, double desired, double minimum, double free, long observedAt) {
+        double[] granted = new double[1];
+        holds.compute(key, (k, h) -> {
+            double reserved = h != null ? h.reserved() : 0.0;
+            // A portfolio fetched after the last confirmation already reflects every settled amount
+            boolean observed = h == null || h.settled() == 0 || observedAt - h.settledAt() > 0;
+            double settled = observed ? 0.0 : h.settled();
+            double grant = Math.min(desired, free - reserved - settled);
+            if (grant <= 0 || grant < minimum) {
+                granted[0] = 0.0;
+                return h == null || (reserved == 0 && settled == 0) ? null : new Hold(reserved, settled, h.settledAt());
+            }
+            granted[0] = grant;
+            return new Hold(reserved + grant, settled, h != null ? h.settledAt() : 0L);
+        });
+        return granted[0];
+    }
+}
@@ -0,0 +1,260 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.application.ports.Broker;
+import com.project.tradebot.domain.model.FixedPoint;
+import com.project.tradebot.domain.model.MarketSpec;
+import com.project.tradebot.domain.model.Order;
+import com.project.tradebot.domain.model.Portfolio;
+import com.project.tradebot.domain.model.RiskSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-trade risk stage between order preparation and submission. Each book (broker or broker
+ * account) keeps running position, exposure, realized-PnL and order-rate state that is updated
+ * incrementally on approval and on order results, so a check is a handful of map lookups.
+ * Exposure is tracked at cost basis and includes approved orders whose results are not yet known.
+ */
+@Service
+@Slf4j
+public class RiskEngine {
+
+    private static final long RATE_WINDOW_MS = 60_000;
+
+    private final double totalManagedCapitalInr;
+    private final double maxPositionPerSymbolInr;
+    private final double maxDailyLossInr;
+    private final int maxOrdersPerMinute;
+
+    private final Map<String, RiskBook> books = new ConcurrentHashMap<>();
+
+    public RiskEngine(
+            @Value("${trading.total-managed-capital-inr:50000.0}") double totalManagedCapitalInr,
+            @Value("${trading.risk.max-position-per-symbol-inr:15000.0}") double maxPositionPerSymbolInr,
+            @Value("${trading.risk.max-daily-loss-inr:2500.0}") double maxDailyLossInr,
+            @Value("${trading.risk.max-orders-per-minute:30}") int maxOrdersPerMinute) {
+        this.totalManagedCapitalInr = totalManagedCapitalInr;
+        this.maxPositionPerSymbolInr = maxPositionPerSymbolInr;
+        this.maxDailyLossInr = maxDailyLossInr;
+        this.maxOrdersPerMinute = Math.max(1, maxOrdersPerMinute);
+    }
+
+    /**
+     * Returns the orders that pass, resized down where a limit leaves partial room. Approved
+     * orders count against the book until {@link #onOrderResults} reports them.
+     */
+    public List<Order> check(String bookName, Broker broker, Portfolio portfolio, List<Order> orders) {
+        RiskBook book = books.computeIfAbsent(bookName, k -> new RiskBook(maxOrdersPerMinute));
+        List<Order> approved = new ArrayList<>(orders.size());
+        synchronized (book) {
+            book.rollDay();
+            long now = System.currentTimeMillis();
+            for (Order order : orders) {
+                String baseAsset = order.getSymbol().replace("INR", "");
+                Position position = book.position(order.getSymbol(), baseAsset, portfolio, order.getPrice());
+                String rejection = order.getType() == Order.OrderType.BUY
+                        ? sizeBuy(book, position, order, broker.getMarketSpec(order.getSymbol()))
+                        : sizeSell(position, order, portfolio.getBalances().getOrDefault(baseAsset, 0.0), broker.getMarketSpec(order.getSymbol()));
+                if (rejection == null && !book.tryAcquireRate(now)) rejection = "order rate limit of " + maxOrdersPerMinute + "/min reached";
+                if (rejection != null) {
+                    log.info("Risk rejected {} {} on {}: {}", order.getType(), order.getSymbol(), bookName, rejection);
+                    continue;
+                }
+
+                if (order.getType() == Order.OrderType.BUY) {
+                    double notional = order.getQuantity() * order.getPrice();
+                    position.pendingBuyNotional += notional;
+                    book.totalExposure += notional;
+                } else {
+                    position.pendingSellQuantity += order.getQuantity();
+                }
+                approved.add(order);
+            }
+        }
+        return approved;
+    }
+
+    /**
+     * Releases pending exposure for orders with a final status and books whatever filled. Orders
+     * still open are ignored here and reported again once the order tracker sees them finish.
+     */
+    public void onOrderResults(String bookName, List<Order> orders) {
+        applyResults(bookName, orders, true);
+    }
+
+    /**
+     * Books the fills of final orders that were placed before a restart. Their exposure was never
+     * reserved in this process, so there is nothing pending to release.
+     */
+    public void onRecoveredOrderResults(String bookName, List<Order> orders) {
+        applyResults(bookName, orders, false);
+    }
+
+    private void applyResults(String bookName, List<Order> orders, boolean releasePending) {
+        RiskBook book = books.get(bookName);
+        if (book == null) return;
+        synchronized (book) {
+            book.rollDay();
+            for (Order order : orders) {
+                if (order.getStatus() == null || !order.getStatus().isFinal()) continue;
+                Position position = book.positions.get(order.getSymbol());
+                if (position == null) continue;
+                double filled = filledQuantity(order);
+                double fillPrice = order.getAveragePrice() > 0 ? order.getAveragePrice() : order.getPrice();
+
+                if (order.getType() == Order.OrderType.BUY) {
+                    if (releasePending) {
+                        double reservedNotional = order.getQuantity() * order.getPrice();
+                        position.pendingBuyNotional -= reservedNotional;
+                        book.totalExposure -= reservedNotional;
+                    }
+                    if (filled > 0) {
+                        double cost = position.quantity * position.averageCost + filled * fillPrice;
+                        position.quantity += filled;
+                        position.averageCost = position.quantity > 0 ? cost / position.quantity : 0.0;
+                        book.totalExposure += filled * fillPrice;
+                    }
+                } else {
+                    if (releasePending) position.pendingSellQuantity -= order.getQuantity();
+                    if (filled > 0) {
+                        double sold = Math.min(filled, position.quantity);
+                        book.dailyRealizedPnl += (fillPrice - position.averageCost) * sold;
+                        book.totalExposure -= position.averageCost * sold;
+                        position.quantity -= sold;
+                    }
+                }
+            }
+        }
+    }
+
+    public RiskSnapshot snapshot(String bookName) {
+        RiskBook book = books.get(bookName);
+        if (book == null) {
+            return RiskSnapshot.builder().book(bookName).positions(Map.of()).exposures(Map.of()).build();
+        }
+        synchronized (book) {
+            book.rollDay();
+            Map<String, Double> positions = new HashMap<>();
+            Map<String, Double> exposures = new HashMap<>();
+            book.positions.forEach((symbol, p) -> {
+                positions.put(symbol, p.quantity);
+                exposures.put(symbol, p.exposure());
+            });
+            return RiskSnapshot.builder()
+                    .book(bookName)
+                    .positions(positions)
+                    .exposures(exposures)
+                    .totalExposure(book.totalExposure)
+                    .dailyRealizedPnl(book.dailyRealizedPnl)
+                    .ordersInLastMinute(book.ordersInWindow(System.currentTimeMillis()))
+                    .build();
+        }
+    }
+
+    private String sizeBuy(RiskBook book, Position position, Order order, MarketSpec spec) {
+        if (book.dailyRealizedPnl <= -maxDailyLossInr) return "daily loss limit of " + maxDailyLossInr + " INR reached";
+
+        double notional = order.getQuantity() * order.getPrice();
+        double room = Math.min(maxPositionPerSymbolInr - position.exposure(), totalManagedCapitalInr - book.totalExposure);
+        if (room <= 0) return "exposure limit reached";
+        if (notional > room) order.setQuantity(room / order.getPrice());
+        return checkMarketMinimums(order, spec);
+    }
+
+    private String sizeSell(Position position, Order order, double freeBalance, MarketSpec spec) {
+        // Only the free balance can be sold; locked units already back open orders
+        double sellable = freeBalance - position.pendingSellQuantity;
+        if (sellable <= 0) return "no free balance to sell";
+        if (order.getQuantity() > sellable) order.setQuantity(sellable);
+        return checkMarketMinimums(order, spec);
+    }
+
+    private String checkMarketMinimums(Order order, MarketSpec spec) {
+        if (spec == null) return null;
+        if (spec.getMaxQuantity() > 0 && order.getQuantity() > spec.getMaxQuantity()) {
+            order.setQuantity(spec.getMaxQuantity());
+        }
+        // Resizing leaves a quantity the exchange can't express; the minimums apply to what is sent
+        order.setQuantity(FixedPoint.floor(order.getQuantity(), spec.getQuantityPrecision()));
+        double notional = order.getQuantity() * order.getPrice();
+        if (spec.getMinNotional() > 0 && notional < spec.getMinNotional()) {
+            return "notional " + notional + " below market minimum " + spec.getMinNotional();
+        }
+        if (spec.getMinQuantity() > 0 && order.getQuantity() < spec.getMinQuantity()) {
+            return "quantity " + order.getQuantity() + " below market minimum " + spec.getMinQuantity();
+        }
+        return null;
+    }
+
+    private static double filledQuantity(Order order) {
+        // Brokers that report no fill detail only say EXECUTED
+        if (order.getStatus() == Order.OrderStatus.EXECUTED && order.getFilledQuantity() <= 0) return order.getQuantity();
+        return Math.min(order.getFilledQuantity(), order.getQuantity());
+    }
+
+    private static final class RiskBook {
+        private final Map<String, Position> positions = new HashMap<>();
+        private final long[] orderTimes; // ring of the last N approval times, for the per-minute rate limit
+        private int orderIndex;
+        private double totalExposure;
+        private double dailyRealizedPnl;
+        private LocalDate pnlDate = LocalDate.now();
+
+        private RiskBook(int maxOrdersPerMinute) {
+            this.orderTimes = new long[maxOrdersPerMinute];
+        }
+
+        private Position position(String symbol, String baseAsset, Portfolio portfolio, double price) {
+            return positions.computeIfAbsent(symbol, s -> {
+                // Seed from the exchange once; afterwards the position moves only with our own fills
+                Position p = new Position();
+                p.quantity = portfolio.getBalances().getOrDefault(baseAsset, 0.0)
+                        + (portfolio.getLockedBalances() != null ? portfolio.getLockedBalances().getOrDefault(baseAsset, 0.0) : 0.0);
+                p.averageCost = price;
+                totalExposure += p.quantity * price;
+                return p;
+            });
+        }
+
+        private boolean tryAcquireRate(long now) {
+            // The slot we would overwrite holds the N-th most recent approval
+            if (now - orderTimes[orderIndex] < RATE_WINDOW_MS) return false;
+            orderTimes[orderIndex] = now;
+            orderIndex = (orderIndex + 1) % orderTimes.length;
+            return true;
+        }
+
+        private int ordersInWindow(long now) {
+            int count = 0;
+            for (long t : orderTimes) if (now - t < RATE_WINDOW_MS) count++;
+            return count;
+        }
+
+        private void rollDay() {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(pnlDate)) {
+                pnlDate = today;
+                dailyRealizedPnl = 0.0;
+            }
+        }
+    }
+
+    private static final class Position {
+        private double quantity;
+        private double averageCost;
+        private double pendingBuyNotional;
+        private double pendingSellQuantity;
+
+        private double exposure() {
+            return quantity * averageCost + pendingBuyNotional;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.tradebot.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key onto one upstream request. The first caller runs the
+ * call, everyone arriving while it is in flight waits for the same result, and a successful result
+ * stays shareable for {@code lingerMs} afterwards, then is dropped. Failures are never lingered.
+ */
+final class SingleFlight<K, V> {
+
+    private final long lingerNanos;
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    SingleFlight(long lingerMs) {
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, lingerMs));
+    }
+
+    V execute(K key, Supplier<V> call) {
+        long now = System.nanoTime();
+        Flight<V> created = new Flight<>();
+        Flight<V> flight = flights.compute(key, (k, current) ->
+                current != null && !current.expired(now, lingerNanos) ? current : created);
+
+        if (flight == created) {
+            try {
+                V value = call.get();
+                flight.completedAt = System.nanoTime();
+                flight.future.complete(value);
+                if (lingerNanos == 0) {
+                    flights.remove(key, flight);
+                } else {
+                    // Keys are open-ended (symbol sets, time ranges), so nothing may outlive its linger
+                    CompletableFuture.delayedExecutor(lingerNanos, TimeUnit.NANOSECONDS).execute(() -> flights.remove(key, flight));
+                }
+            } catch (Throwable e) {
+                // Errors too: waiters must never be left on a future nobody completes
+                flights.remove(key, flight);
+                flight.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long completedAt = -1;
+
+        private boolean expired(long now, long lingerNanos) {
+            long done = completedAt;
+            return done >= 0 && now - done >= lingerNanos;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.application.ports.BatchTradingStrategy;
+import com.project.tradebot.application.ports.TradingStrategy;
+import com.project.tradebot.domain.model.TradeContext;
+import com.project.tradebot.domain.model.TradeSignal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-batches requests to strategies that implement {@link BatchTradingStrategy}: requests arriving
+ * within a short window share one model call, and identical contexts share one result. Other
+ * strategies are called directly, without waiting out the window. Calls are
+ * routed through {@link AdapterHealthRegistry}, so a failing strategy hands over to the next member
+ * of its group; each upstream model call is recorded once, however many requests shared it.
+ * Strategies register no background probe: a probe would be a paid model call on an empty context,
+ * so once the open period has passed the next real request is the trial call instead.
+ */
+@Service
+@Slf4j
+public class StrategyBatcher {
+
+    private final Map<String, TradingStrategy> strategies;
+    private final AdapterHealthRegistry adapterHealth;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxBatchSize;
+
+    private final Map<String, PendingBatch> openBatches = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "strategy-batcher");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StrategyBatcher(
+            Map<String, TradingStrategy> strategies,
+            AdapterHealthRegistry adapterHealth,
+            @Value("${strategy.batching.enabled:true}") boolean enabled,
+            @Value("${strategy.batching.window-ms:50}") long windowMs,
+            @Value("${strategy.batching.max-batch-size:8}") int maxBatchSize) {
+        this.strategies = strategies;
+        this.adapterHealth = adapterHealth;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /** Signals from the strategy or its group; an empty list when every member failed. */
+    public List<TradeSignal> generateSignals(String strategyName, TradeContext context) {
+        return tryGenerateSignals(strategyName, context).orElseGet(ArrayList::new);
+    }
+
+    /**
+     * Like {@link #generateSignals}, but empty when no member of the group answered, so a caller can
+     * tell a strategy that saw nothing to do from one that was never heard from.
+     */
+    public Optional<List<TradeSignal>> tryGenerateSignals(String strategyName, TradeContext context) {
+        if (!strategies.containsKey(strategyName)) throw new IllegalArgumentException("Strategy not found");
+        return adapterHealth.failover(AdapterHealthRegistry.STRATEGY, strategyName, strategies, (name, strategy) -> {
+            // Only a batch-capable strategy gains from waiting out the window; the rest are called directly
+            if (enabled && windowMs > 0 && strategy instanceof BatchTradingStrategy batchStrategy) {
+                return Optional.of(submit(name, batchStrategy, context).join());
+            }
+            return Optional.of(adapterHealth.call(AdapterHealthRegistry.STRATEGY, name, () -> strategy.generateSignals(context)));
+        }, Optional::empty);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        callExecutor.shutdown();
+    }
+
+    private CompletableFuture<List<TradeSignal>> submit(String strategyName, BatchTradingStrategy strategy, TradeContext context) {
+        synchronized (openBatches) {
+            PendingBatch batch = openBatches.get(strategyName);
+            if (batch == null) {
+                PendingBatch created = new PendingBatch(strategy);
+                openBatches.put(strategyName, created);
+                scheduler.schedule(() -> flush(strategyName, created), windowMs, TimeUnit.MILLISECONDS);
+                batch = created;
+            }
+            CompletableFuture<List<TradeSignal>> future = batch.requests.computeIfAbsent(context, c -> new CompletableFuture<>());
+            if (batch.requests.size() >= maxBatchSize) {
+                openBatches.remove(strategyName);
+                PendingBatch full = batch;
+                callExecutor.execute(() -> dispatch(full));
+            }
+            return future;
+        }
+    }
+
+    private void flush(String strategyName, PendingBatch batch) {
+        synchronized (openBatches) {
+            if (openBatches.get(strategyName) != batch) return; // already dispatched as a full batch
+            openBatches.remove(strategyName);
+        }
+        callExecutor.execute(() -> dispatch(batch));
+    }
+
+    private void dispatch(PendingBatch batch) {
+        List<TradeContext> contexts = new ArrayList<>(batch.requests.keySet());
+        try {
+            BatchTradingStrategy batchStrategy = batch.strategy;
+            if (contexts.size() == 1) {
+                TradeContext context = contexts.get(0);
+                batch.requests.get(context).complete(adapterHealth.call(AdapterHealthRegistry.STRATEGY, batch.strategy.getName(),
+                        () -> batch.strategy.generateSignals(context)));
+                return;
+            }
+            log.info("Dispatching {} batched contexts to {} in one call", contexts.size(), batch.strategy.getName());
+            List<List<TradeSignal>> results = adapterHealth.call(AdapterHealthRegistry.STRATEGY, batch.strategy.getName(),
+                    () -> batchStrategy.generateSignalsBatch(contexts));
+            for (int i = 0; i < contexts.size(); i++) {
+                List<TradeSignal> signals = i < results.size() ? results.get(i) : new ArrayList<>();
+                batch.requests.get(contexts.get(i)).complete(signals);
+            }
+        } catch (Exception e) {
+            log.error("Batched strategy call to {} failed: {}", batch.strategy.getName(), e.getMessage());
+            batch.requests.values().forEach(f -> f.completeExceptionally(e));
+        }
+    }
+
+    private static final class PendingBatch {
+        private final BatchTradingStrategy strategy;
+        private final Map<TradeContext, CompletableFuture<List<TradeSignal>>> requests = new LinkedHashMap<>(); // identical contexts dedupe here
+
+        private PendingBatch(BatchTradingStrategy strategy) {
+            this.strategy = strategy;
+        }
+    }
+}
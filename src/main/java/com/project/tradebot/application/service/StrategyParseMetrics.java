@@ -0,0 +1,50 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.StrategyParseStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Per-strategy counters for how model responses were turned into signals. */
+@Component
+public class StrategyParseMetrics {
+
+    public enum Outcome { PARSED, REPAIRED, FAILED }
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public void record(String strategy, Outcome outcome, int droppedSignals) {
+        Counters c = counters.computeIfAbsent(strategy, k -> new Counters());
+        c.responses.increment();
+        switch (outcome) {
+            case PARSED -> c.parsed.increment();
+            case REPAIRED -> c.repaired.increment();
+            case FAILED -> c.failed.increment();
+        }
+        if (droppedSignals > 0) c.droppedSignals.add(droppedSignals);
+    }
+
+    public Map<String, StrategyParseStats> snapshot() {
+        Map<String, StrategyParseStats> result = new TreeMap<>();
+        counters.forEach((strategy, c) -> result.put(strategy, StrategyParseStats.builder()
+                .strategy(strategy)
+                .responses(c.responses.sum())
+                .parsed(c.parsed.sum())
+                .repaired(c.repaired.sum())
+                .failed(c.failed.sum())
+                .droppedSignals(c.droppedSignals.sum())
+                .build()));
+        return result;
+    }
+
+    private static final class Counters {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder parsed = new LongAdder();
+        private final LongAdder repaired = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder droppedSignals = new LongAdder();
+    }
+}
@@ -1,6 +1,6 @@
 package com.project.tradebot.application.service;
 
-import com.project.tradebot.application.ports.TradingStrategy;
+import com.project.tradebot.domain.model.StrategyParseStats;
 import com.project.tradebot.domain.model.TradeContext;
 import com.project.tradebot.domain.model.TradeSignal;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +12,14 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class StrategyService {
-    private final Map<String, TradingStrategy> strategies;
+    private final StrategyBatcher strategyBatcher;
+    private final StrategyParseMetrics strategyParseMetrics;
 
     public List<TradeSignal> runStrategy(String strategyName, TradeContext context) {
-        TradingStrategy strategy = strategies.get(strategyName);
-        if (strategy == null) throw new IllegalArgumentException("Strategy not found");
-        return strategy.generateSignals(context);
+        return strategyBatcher.generateSignals(strategyName, context);
+    }
+
+    public Map<String, StrategyParseStats> getParseMetrics() {
+        return strategyParseMetrics.snapshot();
     }
 }
@@ -0,0 +1,162 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.News;
+import com.project.tradebot.domain.model.Portfolio;
+import com.project.tradebot.domain.model.TradeSignal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks, per evaluation scope (strategy and book) and symbol, what the strategy last saw: the price,
+ * the held balance and the news mentioning the symbol. A symbol is dirty when its price has moved by
+ * {@code trading.incremental.price-move-threshold} since then, its balance changed, a story about it
+ * appeared, or its last evaluation is older than {@code trading.incremental.max-age-ms}. Only dirty
+ * symbols go to the strategy; the others repeat their previous signals marked as carried forward,
+ * which order preparation skips, so an unchanged signal is not traded twice.
+ */
+@Service
+@Slf4j
+public class SymbolChangeTracker {
+
+    private final SymbolExtractor symbolExtractor;
+    private final boolean enabled;
+    private final double priceMoveThreshold;
+    private final long maxAgeMs;
+
+    private final Map<String, Map<String, Evaluation>> scopes = new ConcurrentHashMap<>();
+
+    public SymbolChangeTracker(
+            SymbolExtractor symbolExtractor,
+            @Value("${trading.incremental.enabled:true}") boolean enabled,
+            @Value("${trading.incremental.price-move-threshold:0.005}") double priceMoveThreshold,
+            @Value("${trading.incremental.max-age-ms:300000}") long maxAgeMs) {
+        this.symbolExtractor = symbolExtractor;
+        this.enabled = enabled;
+        this.priceMoveThreshold = Math.max(0.0, priceMoveThreshold);
+        this.maxAgeMs = Math.max(0, maxAgeMs);
+    }
+
+    /** The symbols to evaluate this cycle, and the signals carried forward for the rest. */
+    public record Plan(String scope, Set<String> dirty, List<TradeSignal> carried, Map<String, Observation> observed) {
+
+        /** {@code bySymbol} restricted to the dirty symbols. */
+        public <V> Map<String, V> restrict(Map<String, V> bySymbol) {
+            Map<String, V> result = new HashMap<>();
+            for (String symbol : dirty) {
+                V value = bySymbol.get(symbol);
+                if (value != null) result.put(symbol, value);
+            }
+            return result;
+        }
+    }
+
+    /** What a symbol looked like when it was planned for evaluation. */
+    public record Observation(double price, double balance, Set<String> newsKeys, long observedAt) {}
+
+    private record Evaluation(Observation observation, List<TradeSignal> signals) {}
+
+    /** Classifies the symbols in {@code prices} (exchange markets, e.g. BTCINR) as dirty or unchanged. */
+    public Plan plan(String scope, Map<String, Double> prices, Portfolio portfolio, List<News> news) {
+        Map<String, Set<String>> newsKeys = newsKeysBySymbol(news);
+        long now = System.currentTimeMillis();
+        Set<String> dirty = new LinkedHashSet<>();
+        List<TradeSignal> carried = new ArrayList<>();
+        Map<String, Observation> observed = new LinkedHashMap<>();
+
+        Map<String, Evaluation> last = scopes.computeIfAbsent(scope, k -> new ConcurrentHashMap<>());
+        prices.forEach((symbol, price) -> {
+            Observation observation = new Observation(price, balance(portfolio, symbol), newsKeys.getOrDefault(symbol, Set.of()), now);
+            Evaluation previous = enabled ? last.get(symbol) : null;
+            if (previous == null || changed(previous.observation(), observation)) {
+                dirty.add(symbol);
+                observed.put(symbol, observation);
+            } else {
+                for (TradeSignal signal : previous.signals()) carried.add(carriedForward(signal));
+            }
+        });
+        if (enabled) log.debug("{}: {} of {} symbols changed", scope, dirty.size(), prices.size());
+        return new Plan(scope, dirty, carried, observed);
+    }
+
+    /**
+     * News for the strategy: stories about a dirty symbol plus market-wide stories that name none.
+     * Stories only about unchanged symbols would be evaluated for nothing.
+     */
+    public List<News> relevantNews(Plan plan, List<News> news) {
+        if (!enabled) return news;
+        List<News> result = new ArrayList<>();
+        for (News item : news) {
+            Set<String> symbols = symbolExtractor.extract(item);
+            if (symbols.isEmpty()) {
+                result.add(item);
+                continue;
+            }
+            for (String symbol : symbols) {
+                if (plan.dirty().contains(symbol + "INR")) {
+                    result.add(item);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Records the strategy's output for the plan's dirty symbols, making it the baseline for the next cycle. */
+    public void commit(Plan plan, List<TradeSignal> signals) {
+        if (!enabled) return;
+        Map<String, List<TradeSignal>> bySymbol = new HashMap<>();
+        for (TradeSignal signal : signals) {
+            if (signal.getSymbol() == null) continue;
+            String symbol = signal.getSymbol().endsWith("INR") ? signal.getSymbol() : signal.getSymbol() + "INR";
+            bySymbol.computeIfAbsent(symbol, k -> new ArrayList<>()).add(signal);
+        }
+        Map<String, Evaluation> last = scopes.computeIfAbsent(plan.scope(), k -> new ConcurrentHashMap<>());
+        plan.observed().forEach((symbol, observation) ->
+                last.put(symbol, new Evaluation(observation, bySymbol.getOrDefault(symbol, List.of()))));
+    }
+
+    private boolean changed(Observation before, Observation now) {
+        if (now.observedAt() - before.observedAt() >= maxAgeMs) return true;
+        if (before.price() <= 0 || Math.abs(now.price() - before.price()) / before.price() >= priceMoveThreshold) return true;
+        if (Double.compare(before.balance(), now.balance()) != 0) return true;
+        return !before.newsKeys().containsAll(now.newsKeys());
+    }
+
+    private Map<String, Set<String>> newsKeysBySymbol(List<News> news) {
+        Map<String, Set<String>> result = new HashMap<>();
+        for (News item : news) {
+            String key = item.getUrl() != null ? item.getUrl() : item.getTitle();
+            if (key == null) continue;
+            for (String symbol : symbolExtractor.extract(item)) {
+                result.computeIfAbsent(symbol + "INR", k -> new HashSet<>()).add(key);
+            }
+        }
+        return result;
+    }
+
+    private double balance(Portfolio portfolio, String symbol) {
+        if (portfolio == null || portfolio.getBalances() == null) return 0.0;
+        return portfolio.getBalances().getOrDefault(symbolExtractor.normalize(symbol), 0.0);
+    }
+
+    private static TradeSignal carriedForward(TradeSignal signal) {
+        return TradeSignal.builder()
+                .symbol(signal.getSymbol())
+                .type(signal.getType())
+                .confidence(signal.getConfidence())
+                .reason(signal.getReason())
+                .carriedForward(true)
+                .build();
+    }
+}
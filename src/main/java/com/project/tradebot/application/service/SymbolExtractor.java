@@ -0,0 +1,61 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.News;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class SymbolExtractor {
+
+    // Lower-case token -> base asset traded on the INR markets
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("btc", "BTC"), Map.entry("bitcoin", "BTC"),
+            Map.entry("eth", "ETH"), Map.entry("ethereum", "ETH"), Map.entry("ether", "ETH"),
+            Map.entry("sol", "SOL"), Map.entry("solana", "SOL"),
+            Map.entry("xrp", "XRP"), Map.entry("ripple", "XRP"),
+            Map.entry("doge", "DOGE"), Map.entry("dogecoin", "DOGE"),
+            Map.entry("ada", "ADA"), Map.entry("cardano", "ADA"),
+            Map.entry("bnb", "BNB"),
+            Map.entry("matic", "MATIC"), Map.entry("polygon", "MATIC")
+    );
+
+    public Set<String> extract(News news) {
+        Set<String> symbols = new LinkedHashSet<>();
+        addSymbols(news.getTitle(), symbols);
+        addSymbols(news.getDescription(), symbols);
+        return symbols;
+    }
+
+    public String normalize(String symbol) {
+        String upper = symbol.trim().toUpperCase();
+        return upper.endsWith("INR") && upper.length() > 3 ? upper.substring(0, upper.length() - 3) : upper;
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean alnum = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (alnum && start < 0) {
+                start = i;
+            } else if (!alnum && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void addSymbols(String text, Set<String> symbols) {
+        for (String token : tokenize(text)) {
+            String symbol = ALIASES.get(token);
+            if (symbol != null) symbols.add(symbol);
+        }
+    }
+}
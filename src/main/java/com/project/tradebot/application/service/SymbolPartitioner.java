@@ -0,0 +1,248 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.application.ports.PartitionCoordinator;
+import com.project.tradebot.domain.model.PartitionStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits the symbol universe across the instances in a partition group so that each symbol is
+ * ingested, evaluated and traded by exactly one of them. Members are placed on a consistent hash
+ * ring ({@code partitioning.virtual-nodes} points each), and a symbol belongs to the member whose
+ * point follows the symbol's hash, so a join or leave moves only that member's share.
+ * <p>
+ * Members learn of a change one heartbeat apart, so a symbol that moves is not traded by its new
+ * owner until {@code partitioning.handoff-ms} after the change, by which time the old owner has
+ * seen it too. A node that cannot reach the coordinator for longer than the member TTL assumes it
+ * has been evicted and owns nothing.
+ * <p>
+ * Base assets follow their symbols, so only one member ever sells a given asset, but the INR
+ * balance of a shared account is common to all of them. Each member therefore spends at most
+ * {@link #capitalShare()} of the free INR it observes; this is a static split, not coordination,
+ * so a member with no signals leaves its share unused.
+ */
+@Service
+@Slf4j
+public class SymbolPartitioner {
+
+    private final Map<String, PartitionCoordinator> coordinators;
+    private final SymbolExtractor symbolExtractor;
+    private final boolean enabled;
+    private final String coordinatorName;
+    private final String nodeId;
+    private final int virtualNodes;
+    private final long heartbeatIntervalMs;
+    private final long memberTtlMs;
+    private final long handoffMs;
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("partition-heartbeat").daemon().factory());
+
+    private volatile View view;
+    private volatile long lastHeartbeatAt;
+
+    public SymbolPartitioner(
+            Map<String, PartitionCoordinator> partitionCoordinators,
+            SymbolExtractor symbolExtractor,
+            @Value("${partitioning.enabled:false}") boolean enabled,
+            @Value("${partitioning.coordinator:InProcessPartitionCoordinator}") String coordinatorName,
+            @Value("${partitioning.node-id:}") String nodeId,
+            @Value("${partitioning.virtual-nodes:128}") int virtualNodes,
+            @Value("${partitioning.heartbeat-interval-ms:2000}") long heartbeatIntervalMs,
+            @Value("${partitioning.member-ttl-ms:10000}") long memberTtlMs,
+            @Value("${partitioning.handoff-ms:4000}") long handoffMs) {
+        this.coordinators = partitionCoordinators;
+        this.symbolExtractor = symbolExtractor;
+        this.enabled = enabled;
+        this.coordinatorName = coordinatorName;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId.trim();
+        this.virtualNodes = Math.max(1, virtualNodes);
+        this.heartbeatIntervalMs = Math.max(100, heartbeatIntervalMs);
+        this.memberTtlMs = Math.max(this.heartbeatIntervalMs * 2, memberTtlMs);
+        this.handoffMs = Math.max(this.heartbeatIntervalMs, handoffMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        PartitionCoordinator coordinator = coordinator();
+        coordinator.join(nodeId);
+        lastHeartbeatAt = System.currentTimeMillis();
+        Set<String> members = withSelf(coordinator.members());
+        // On joining, the members already running own our future share until they notice us
+        Set<String> others = new TreeSet<>(members);
+        others.remove(nodeId);
+        view = new View(Ring.of(members, virtualNodes), others.isEmpty() ? null : Ring.of(others, virtualNodes), lastHeartbeatAt);
+        log.info("Joined partition group as {} via {}; members {}", nodeId, coordinatorName, members);
+        heartbeat.scheduleWithFixedDelay(this::beat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        if (enabled) coordinator().leave(nodeId);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Whether this instance may trade {@code symbol} (either a base asset or an exchange market). */
+    public boolean owns(String symbol) {
+        if (!enabled) return true;
+        long now = System.currentTimeMillis();
+        if (now - lastHeartbeatAt > memberTtlMs) return false;
+        View v = view;
+        String key = key(symbol);
+        if (!nodeId.equals(v.current().owner(key))) return false;
+        return v.previous() == null || now - v.changedAt() >= handoffMs || nodeId.equals(v.previous().owner(key));
+    }
+
+    /**
+     * Fraction of a shared balance this member may spend: one over the group size, counting the
+     * larger of the old and new membership during a handoff. 1 when partitioning is off.
+     */
+    public double capitalShare() {
+        View v = view;
+        if (!enabled || v == null) return 1.0;
+        int members = v.current().members().size();
+        if (v.previous() != null) members = Math.max(members, v.previous().members().size());
+        return 1.0 / members;
+    }
+
+    /** The owned subset of {@code symbols}, in their original order. */
+    public Set<String> filter(Collection<String> symbols) {
+        Set<String> owned = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (owns(symbol)) owned.add(symbol);
+        }
+        return owned;
+    }
+
+    /** Runs {@code listener} on the heartbeat thread when membership changes and again when the handoff ends. */
+    public void addRebalanceListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public PartitionStatus status(Collection<String> symbols) {
+        View v = view;
+        Map<String, String> owners = new LinkedHashMap<>();
+        if (v != null && symbols != null) {
+            for (String symbol : symbols) owners.put(symbol, v.current().owner(key(symbol)));
+        }
+        return PartitionStatus.builder()
+                .enabled(enabled)
+                .nodeId(nodeId)
+                .coordinator(enabled ? coordinatorName : null)
+                .members(new TreeSet<>(v != null ? v.current().members() : Set.of(nodeId)))
+                .rebalancedAt(v != null ? v.changedAt() : 0)
+                .handoffPending(v != null && v.previous() != null)
+                .owners(owners)
+                .build();
+    }
+
+    private void beat() {
+        try {
+            PartitionCoordinator coordinator = coordinator();
+            coordinator.join(nodeId);
+            lastHeartbeatAt = System.currentTimeMillis();
+            Set<String> members = withSelf(coordinator.members());
+            View v = view;
+            if (!members.equals(v.current().members())) {
+                view = new View(Ring.of(members, virtualNodes), v.current(), lastHeartbeatAt);
+                log.info("Partition membership changed from {} to {}; rebalancing", new TreeSet<>(v.current().members()), members);
+                notifyListeners();
+            } else if (v.previous() != null && lastHeartbeatAt - v.changedAt() >= handoffMs) {
+                // Handoff over: the symbols gained in the last change become tradable here
+                view = new View(v.current(), null, v.changedAt());
+                notifyListeners();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Partition heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Rebalance listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private PartitionCoordinator coordinator() {
+        PartitionCoordinator coordinator = coordinators.get(coordinatorName);
+        if (coordinator == null) throw new IllegalStateException("Partition coordinator not found: " + coordinatorName);
+        return coordinator;
+    }
+
+    private Set<String> withSelf(Set<String> members) {
+        Set<String> result = new TreeSet<>(members);
+        result.add(nodeId);
+        return result;
+    }
+
+    private String key(String symbol) {
+        // BTC and BTCINR must land on the same member
+        return symbolExtractor.normalize(symbol);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "localhost";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+
+    private record View(Ring current, Ring previous, long changedAt) {}
+
+    private record Ring(Set<String> members, TreeMap<Long, String> points) {
+        private static Ring of(Set<String> members, int virtualNodes) {
+            TreeMap<Long, String> points = new TreeMap<>();
+            for (String member : members) {
+                for (int i = 0; i < virtualNodes; i++) points.put(hash(member + "#" + i), member);
+            }
+            return new Ring(Set.copyOf(members), points);
+        }
+
+        private String owner(String key) {
+            Map.Entry<Long, String> point = points.ceilingEntry(hash(key));
+            return point != null ? point.getValue() : points.firstEntry().getValue();
+        }
+
+        /** 64-bit FNV-1a with a SplitMix64 finalizer, so similar names (node#1, node#2) land far apart. */
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+            h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+            return h ^ (h >>> 31);
+        }
+    }
+}
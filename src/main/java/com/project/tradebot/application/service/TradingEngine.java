@@ -0,0 +1,507 @@
+package com.project.tradebot.application.service;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.EventTranslatorTwoArg;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.project.tradebot.application.ports.Broker;
+import com.project.tradebot.application.ports.NewsSource;
+import com.project.tradebot.application.ports.TradingStrategy;
+import com.project.tradebot.domain.model.EngineStatus;
+import com.project.tradebot.domain.model.LatencyTrace;
+import com.project.tradebot.domain.model.News;
+import com.project.tradebot.domain.model.Order;
+import com.project.tradebot.domain.model.Portfolio;
+import com.project.tradebot.domain.model.TradeContext;
+import com.project.tradebot.domain.model.TradeSignal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event-driven counterpart to {@link TradingService#executeFullPipeline}. News items and price ticks
+ * are published into a pre-allocated Disruptor ring; four stages, each on its own thread, consume it
+ * in order: symbol extraction, strategy, risk and execution. The strategy stage evaluates once per
+ * batch of events it receives, so a burst of ticks while a model call is in flight collapses into
+ * one evaluation of every symbol it touched; symbols held back by the evaluation throttle are
+ * picked up by a flush event once it has passed. Every event carries its ring sequence, offset past
+ * the last sequence in the journal so numbering continues across restarts, and journal entries
+ * record the last sequence a decision saw together with the context it was made from, so a
+ * decision can be replayed against its inputs.
+ */
+@Service
+@Slf4j
+public class TradingEngine {
+
+    private static final int SEEN_NEWS_CAPACITY = 4096;
+
+    private static final EventTranslatorOneArg<EngineEvent, News> NEWS_TRANSLATOR = (event, sequence, news) -> {
+        event.reset(EngineEvent.Kind.NEWS, sequence);
+        event.news = news;
+    };
+    private static final EventTranslatorTwoArg<EngineEvent, String, Double> PRICE_TRANSLATOR = (event, sequence, symbol, price) -> {
+        event.reset(EngineEvent.Kind.PRICE, sequence);
+        event.symbol = symbol;
+        event.price = price;
+    };
+    private static final EventTranslatorOneArg<EngineEvent, Object> FLUSH_TRANSLATOR = (event, sequence, ignored) ->
+            event.reset(EngineEvent.Kind.FLUSH, sequence);
+
+    private final TradingService tradingService;
+    private final PriceStreamService priceStreamService;
+    private final StrategyBatcher strategyBatcher;
+    private final SymbolExtractor symbolExtractor;
+    private final RecentNewsStore recentNewsStore;
+    private final NewsDeduplicator newsDeduplicator;
+    private final IndicatorEngine indicatorEngine;
+    private final CandleService candleService;
+    private final AdapterHealthRegistry adapterHealth;
+    private final LatencyTracker latencyTracker;
+    private final SymbolPartitioner symbolPartitioner;
+    private final SymbolChangeTracker changeTracker;
+    private final Map<String, NewsSource> newsSources;
+    private final Map<String, TradingStrategy> strategies;
+    private final Map<String, Broker> brokers;
+
+    private final boolean enabled;
+    private final int ringSize;
+    private final String waitStrategyName;
+    private final String sourceName;
+    private final String strategyName;
+    private final String brokerName;
+    private final String marketDataName;
+    private final List<String> initialSymbols;
+    private final long newsPollIntervalMs;
+    private final Duration newsWindow;
+    private final long minEvaluationIntervalMs;
+    private final long portfolioRefreshMs;
+    private final double maxAllocationPerTradeInr;
+    private final double minConfidenceThreshold;
+
+    private final Set<String> watchedSymbols = ConcurrentHashMap.newKeySet();
+    private final Map<String, Double> lastPrices = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastPriceNanos = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> seenNews = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > SEEN_NEWS_CAPACITY;
+        }
+    }; // news poller thread only
+
+    private final LongAdder newsEvents = new LongAdder();
+    private final LongAdder priceEvents = new LongAdder();
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder ordersSubmitted = new LongAdder();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("engine-ingest").daemon().factory());
+    private final SymbolStage symbolStage = new SymbolStage();
+    private final StrategyStage strategyStage = new StrategyStage();
+    private final RiskStage riskStage = new RiskStage();
+    private final ExecutionStage executionStage = new ExecutionStage();
+
+    private volatile Disruptor<EngineEvent> disruptor;
+    private volatile RingBuffer<EngineEvent> ringBuffer;
+    private volatile boolean portfolioStale = true;
+    private volatile long eventSequenceBase; // journal numbering of ring sequence 0 in this run
+    private Runnable priceSubscription; // guarded by this
+
+    public TradingEngine(
+            TradingService tradingService,
+            PriceStreamService priceStreamService,
+            StrategyBatcher strategyBatcher,
+            SymbolExtractor symbolExtractor,
+            RecentNewsStore recentNewsStore,
+            NewsDeduplicator newsDeduplicator,
+            IndicatorEngine indicatorEngine,
+            CandleService candleService,
+            AdapterHealthRegistry adapterHealth,
+            LatencyTracker latencyTracker,
+            SymbolPartitioner symbolPartitioner,
+            SymbolChangeTracker changeTracker,
+            Map<String, NewsSource> newsSources,
+            Map<String, TradingStrategy> strategies,
+            Map<String, Broker> brokers,
+            @Value("${engine.enabled:false}") boolean enabled,
+            @Value("${engine.ring-size:4096}") int ringSize,
+            @Value("${engine.wait-strategy:BLOCKING}") String waitStrategyName,
+            @Value("${engine.source:AggregatedNewsSource}") String sourceName,
+            @Value("${engine.strategy:RuleBasedStrategy}") String strategyName,
+            @Value("${engine.broker:CoinDCXBroker}") String brokerName,
+            @Value("${engine.market-data:CoinDCXMarketData}") String marketDataName,
+            @Value("${engine.symbols:BTCINR,ETHINR}") List<String> initialSymbols,
+            @Value("${engine.news-poll-interval-ms:30000}") long newsPollIntervalMs,
+            @Value("${engine.news-window-minutes:60}") long newsWindowMinutes,
+            @Value("${engine.min-evaluation-interval-ms:1000}") long minEvaluationIntervalMs,
+            @Value("${engine.portfolio-refresh-ms:5000}") long portfolioRefreshMs,
+            @Value("${trading.max-allocation-per-trade-inr:5000.0}") double maxAllocationPerTradeInr,
+            @Value("${trading.min-confidence-threshold:0.7}") double minConfidenceThreshold) {
+        this.tradingService = tradingService;
+        this.priceStreamService = priceStreamService;
+        this.strategyBatcher = strategyBatcher;
+        this.symbolExtractor = symbolExtractor;
+        this.recentNewsStore = recentNewsStore;
+        this.newsDeduplicator = newsDeduplicator;
+        this.indicatorEngine = indicatorEngine;
+        this.candleService = candleService;
+        this.adapterHealth = adapterHealth;
+        this.latencyTracker = latencyTracker;
+        this.symbolPartitioner = symbolPartitioner;
+        this.changeTracker = changeTracker;
+        this.newsSources = newsSources;
+        this.strategies = strategies;
+        this.brokers = brokers;
+        this.enabled = enabled;
+        // The ring indexes by mask, so its size must be a power of two: round up, from 64 to 2^30
+        this.ringSize = Integer.highestOneBit(Math.min(1 << 30, Math.max(64, ringSize)) - 1) << 1;
+        this.waitStrategyName = waitStrategyName.trim().toUpperCase(Locale.ROOT);
+        this.sourceName = sourceName;
+        this.strategyName = strategyName;
+        this.brokerName = brokerName;
+        this.marketDataName = marketDataName;
+        this.initialSymbols = initialSymbols;
+        this.newsPollIntervalMs = Math.max(1000, newsPollIntervalMs);
+        this.newsWindow = Duration.ofMinutes(Math.max(1, newsWindowMinutes));
+        this.minEvaluationIntervalMs = Math.max(0, minEvaluationIntervalMs);
+        this.portfolioRefreshMs = Math.max(0, portfolioRefreshMs);
+        this.maxAllocationPerTradeInr = maxAllocationPerTradeInr;
+        this.minConfidenceThreshold = minConfidenceThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        if (!newsSources.containsKey(sourceName) || !strategies.containsKey(strategyName) || !brokers.containsKey(brokerName)) {
+            throw new IllegalStateException("Invalid engine component names: " + sourceName + ", " + strategyName + ", " + brokerName);
+        }
+
+        // Ring sequences restart at 0; the journal's numbering must not, or replay could not order runs
+        eventSequenceBase = tradingService.getJournalState().getLastEventSequence() + 1;
+        Disruptor<EngineEvent> d = new Disruptor<>(EngineEvent::new, ringSize,
+                Thread.ofPlatform().name("engine-stage-", 0).daemon().factory(), ProducerType.MULTI, waitStrategy(waitStrategyName));
+        d.handleEventsWith(symbolStage).then(strategyStage).then(riskStage).then(executionStage);
+        d.setDefaultExceptionHandler(new LoggingExceptionHandler());
+        ringBuffer = d.start();
+        disruptor = d;
+
+        symbolPartitioner.addRebalanceListener(() -> scheduler.execute(this::resubscribe));
+        watch(initialSymbols.stream().map(s -> s.trim().toUpperCase(Locale.ROOT)).toList());
+        scheduler.scheduleWithFixedDelay(this::pollNews, 0, newsPollIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Trading engine started: ring {} ({} wait), {} -> {} -> {}, events numbered from {}", ringSize, waitStrategyName,
+                sourceName, strategyName, brokerName, eventSequenceBase);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        synchronized (this) {
+            if (priceSubscription != null) priceSubscription.run();
+            priceSubscription = null;
+        }
+        Disruptor<EngineEvent> d = disruptor;
+        if (d == null) return;
+        try {
+            d.shutdown(10, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Trading engine did not drain within 10s; halting");
+            d.halt();
+        }
+    }
+
+    public EngineStatus status() {
+        RingBuffer<EngineEvent> ring = ringBuffer;
+        Disruptor<EngineEvent> d = disruptor;
+        Map<String, Long> stageSequences = new LinkedHashMap<>();
+        if (d != null) {
+            stageSequences.put("symbols", d.getSequenceValueFor(symbolStage));
+            stageSequences.put("strategy", d.getSequenceValueFor(strategyStage));
+            stageSequences.put("risk", d.getSequenceValueFor(riskStage));
+            stageSequences.put("execution", d.getSequenceValueFor(executionStage));
+        }
+        return EngineStatus.builder()
+                .running(ring != null)
+                .waitStrategy(waitStrategyName)
+                .ringSize(ringSize)
+                .publishedSequence(ring != null ? ring.getCursor() : -1)
+                .remainingCapacity(ring != null ? ring.remainingCapacity() : 0)
+                .stageSequences(stageSequences)
+                .newsEvents(newsEvents.sum())
+                .priceEvents(priceEvents.sum())
+                .evaluations(evaluations.sum())
+                .ordersSubmitted(ordersSubmitted.sum())
+                .watchedSymbols(new TreeSet<>(watchedSymbols))
+                .build();
+    }
+
+    private void pollNews() {
+        try {
+            List<News> fetched = adapterHealth.route(AdapterHealthRegistry.NEWS, sourceName, newsSources, (name, source) -> source.fetchNews(), List::of);
+            recentNewsStore.addAll(fetched);
+            for (News item : newsDeduplicator.collapse(fetched)) {
+                String key = item.getUrl() != null ? item.getUrl() : item.getTitle();
+                if (key == null || seenNews.put(key, Boolean.TRUE) != null) continue;
+                ringBuffer.publishEvent(NEWS_TRANSLATOR, item);
+            }
+        } catch (Exception e) {
+            log.warn("Engine news poll failed: {}", e.getMessage());
+        }
+    }
+
+    private void publishPrices(Map<String, Double> prices) {
+        RingBuffer<EngineEvent> ring = ringBuffer;
+        if (ring == null) return;
+        // Blocks when the ring is full; the price stream keeps only the latest value per symbol meanwhile
+        prices.forEach((symbol, price) -> ring.publishEvent(PRICE_TRANSLATOR, symbol, price));
+    }
+
+    private void watch(Iterable<String> symbols) {
+        boolean added = false;
+        for (String symbol : symbols) added |= watchedSymbols.add(symbol);
+        if (added && !scheduler.isShutdown()) scheduler.execute(this::resubscribe);
+    }
+
+    private synchronized void resubscribe() {
+        Runnable previous = priceSubscription;
+        // Only this instance's shard is streamed; symbols seen in news stay watched in case they move here
+        Set<String> owned = symbolPartitioner.filter(watchedSymbols);
+        // History first, so the first streamed tick extends a full window rather than starting one
+        candleService.warmIndicators(marketDataName, owned);
+        priceSubscription = priceStreamService.subscribe(marketDataName, owned, this::publishPrices);
+        if (previous != null) previous.run();
+    }
+
+    private static WaitStrategy waitStrategy(String name) {
+        return switch (name) {
+            case "BLOCKING" -> new BlockingWaitStrategy();
+            case "SLEEPING" -> new SleepingWaitStrategy();
+            case "YIELDING" -> new YieldingWaitStrategy();
+            case "BUSY_SPIN" -> new BusySpinWaitStrategy();
+            default -> throw new IllegalArgumentException("Unknown engine wait strategy: " + name);
+        };
+    }
+
+    /** Ring slot, pre-allocated once and overwritten in place by each publish. */
+    static final class EngineEvent {
+        enum Kind { NEWS, PRICE, FLUSH }
+
+        private Kind kind;
+        private long sequence;
+        private long publishedNanos;
+        private News news;
+        private String symbol;
+        private double price;
+        private Decision decision; // set by the strategy stage on the event that closed its batch
+        private TradingService.Approval approval; // set by the risk stage
+
+        private void reset(Kind kind, long sequence) {
+            this.kind = kind;
+            this.sequence = sequence;
+            this.publishedNanos = System.nanoTime();
+            this.news = null;
+            this.symbol = null;
+            this.price = 0.0;
+            this.decision = null;
+            this.approval = null;
+        }
+    }
+
+    private record Decision(List<TradeSignal> signals, Map<String, Double> prices, Portfolio portfolio,
+                            long portfolioObservedAt, TradeContext context, String contextDigest) {}
+
+    private final class SymbolStage implements EventHandler<EngineEvent> {
+        @Override
+        public void onEvent(EngineEvent event, long sequence, boolean endOfBatch) {
+            if (event.kind == EngineEvent.Kind.PRICE) {
+                lastPrices.put(event.symbol, event.price);
+                lastPriceNanos.put(event.symbol, event.publishedNanos);
+                // No indicator update here: MarketDataService.getPrices already fed this poll to the indicator engine
+                priceEvents.increment();
+            } else if (event.kind == EngineEvent.Kind.NEWS) {
+                List<String> markets = new ArrayList<>();
+                symbolExtractor.extract(event.news).forEach(s -> markets.add(s + "INR"));
+                watch(markets);
+                newsEvents.increment();
+            }
+        }
+    }
+
+    private final class StrategyStage implements EventHandler<EngineEvent> {
+        private final Set<String> pending = new LinkedHashSet<>();
+        private long lastEvaluation;
+        private Portfolio portfolio;
+        private long portfolioObservedAt;
+        private long portfolioFetchedAt;
+        private boolean flushScheduled;
+
+        @Override
+        public void onEvent(EngineEvent event, long sequence, boolean endOfBatch) {
+            if (event.kind == EngineEvent.Kind.PRICE) {
+                if (symbolPartitioner.owns(event.symbol)) pending.add(event.symbol);
+            } else if (event.kind == EngineEvent.Kind.NEWS) {
+                symbolExtractor.extract(event.news).forEach(s -> {
+                    if (symbolPartitioner.owns(s)) pending.add(s + "INR");
+                });
+            } else {
+                flushScheduled = false;
+            }
+            if (!endOfBatch || pending.isEmpty()) return;
+            long now = System.currentTimeMillis();
+            long wait = minEvaluationIntervalMs - (now - lastEvaluation);
+            if (wait > 0) {
+                // Throttled symbols stay pending; the flush evaluates them if no later event does
+                scheduleFlush(wait);
+                return;
+            }
+
+            Map<String, Double> prices = new HashMap<>();
+            long priceObserved = 0L;
+            for (String symbol : pending) {
+                Double price = lastPrices.get(symbol);
+                if (price == null) continue;
+                prices.put(symbol, price);
+                priceObserved = Math.max(priceObserved, lastPriceNanos.getOrDefault(symbol, 0L));
+            }
+            if (prices.isEmpty()) return;
+            pending.clear();
+            lastEvaluation = now;
+
+            Broker broker = brokers.get(brokerName);
+            if (portfolio == null || portfolioStale || now - portfolioFetchedAt >= portfolioRefreshMs) {
+                portfolioObservedAt = System.nanoTime();
+                portfolio = broker.getPortfolio();
+                portfolioFetchedAt = now;
+                portfolioStale = false;
+            }
+
+            Set<String> seen = new HashSet<>();
+            List<News> news = new ArrayList<>();
+            for (String symbol : prices.keySet()) {
+                for (News item : recentNewsStore.recent(symbol, newsWindow)) {
+                    String key = item.getUrl() != null ? item.getUrl() : item.getTitle();
+                    if (seen.add(String.valueOf(key))) news.add(item);
+                }
+            }
+            news = newsDeduplicator.collapse(news);
+
+            // A tick below the move threshold leaves its symbol clean; only what changed reaches the model
+            SymbolChangeTracker.Plan plan = changeTracker.plan("engine/" + strategyName + "/" + brokerName, prices, portfolio, news);
+            if (plan.dirty().isEmpty()) return;
+            List<News> relevant = changeTracker.relevantNews(plan, news);
+            TradeContext context = TradeContext.builder()
+                    .recentNews(relevant)
+                    .portfolio(portfolio)
+                    .marketPrices(plan.restrict(prices))
+                    .indicators(indicatorEngine.snapshots(plan.dirty()))
+                    .build();
+            LatencyTrace trace = latencyTracker.start(relevant);
+            trace.setPriceObservedNanos(priceObserved);
+            Optional<List<TradeSignal>> answer = strategyBatcher.tryGenerateSignals(strategyName, context);
+            // No strategy answered: the symbols stay dirty, so the next tick asks again
+            if (answer.isEmpty()) return;
+            List<TradeSignal> signals = latencyTracker.stampSignals(answer.get(), trace);
+            changeTracker.commit(plan, signals);
+            evaluations.increment();
+            event.decision = new Decision(signals, prices, portfolio, portfolioObservedAt, context, tradingService.digest(context));
+        }
+
+        private void scheduleFlush(long delayMs) {
+            if (flushScheduled || scheduler.isShutdown()) return;
+            flushScheduled = true;
+            scheduler.schedule(() -> {
+                RingBuffer<EngineEvent> ring = ringBuffer;
+                if (ring != null) ring.publishEvent(FLUSH_TRANSLATOR, null);
+            }, delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private final class RiskStage implements EventHandler<EngineEvent> {
+        @Override
+        public void onEvent(EngineEvent event, long sequence, boolean endOfBatch) {
+            Decision decision = event.decision;
+            if (decision == null || decision.signals().isEmpty()) return;
+            Broker broker = brokers.get(brokerName);
+            List<Order> candidates = tradingService.prepareOrders(broker, decision.signals(), decision.prices(), decision.portfolio(),
+                    maxAllocationPerTradeInr, minConfidenceThreshold);
+            if (candidates.isEmpty()) return;
+            event.approval = tradingService.approve(brokerName, broker, decision.portfolio(), decision.portfolioObservedAt(), candidates);
+        }
+    }
+
+    private final class ExecutionStage implements EventHandler<EngineEvent> {
+        @Override
+        public void onEvent(EngineEvent event, long sequence, boolean endOfBatch) {
+            Decision decision = event.decision;
+            TradingService.Approval approval = event.approval;
+            event.approval = null;
+            boolean placed = false;
+            try {
+                // Evaluations without signals are not journaled; at tick rate they would dominate the log
+                if (decision == null || decision.signals().isEmpty()) return;
+                long journalSequence = eventSequenceBase + event.sequence;
+                List<Order> results = List.of();
+                if (approval != null) {
+                    placed = true; // place settles the reservations itself, whatever happens
+                    results = tradingService.place(brokerName, brokers.get(brokerName), approval);
+                }
+                if (!results.isEmpty()) {
+                    ordersSubmitted.add(results.size());
+                    portfolioStale = true;
+                    log.info("Engine submitted {} orders at sequence {}", results.size(), journalSequence);
+                }
+                tradingService.journalRun(brokerName, null, strategyName, decision.context(), decision.contextDigest(),
+                        decision.signals(), results, journalSequence);
+            } finally {
+                // Reservations held by the risk stage must not outlive an event that never reached place
+                if (approval != null && !placed) tradingService.release(approval);
+            }
+        }
+    }
+
+    /** Logs and moves on; the Disruptor default would stop the failing stage for good. */
+    private static final class LoggingExceptionHandler implements ExceptionHandler<EngineEvent> {
+        @Override
+        public void handleEventException(Throwable ex, long sequence, EngineEvent event) {
+            log.error("Engine stage failed at sequence {} ({}): {}", sequence, event.kind, ex.getMessage());
+        }
+
+        @Override
+        public void handleOnStartException(Throwable ex) {
+            log.error("Engine stage failed to start: {}", ex.getMessage());
+        }
+
+        @Override
+        public void handleOnShutdownException(Throwable ex) {
+            log.error("Engine stage failed to shut down: {}", ex.getMessage());
+        }
+    }
+}
@@ -3,18 +3,35 @@ package com.project.tradebot.application.service;
 import com.project.tradebot.application.ports.Broker;
 import com.project.tradebot.application.ports.MarketData;
 import com.project.tradebot.application.ports.NewsSource;
+import com.project.tradebot.application.ports.TradeJournal;
 import com.project.tradebot.application.ports.TradingStrategy;
 import com.project.tradebot.domain.model.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +42,24 @@ public class TradingService {
     private final Map<String, TradingStrategy> strategies;
     private final Map<String, Broker> brokers;
     private final Map<String, MarketData> marketDataImplementations;
+    private final TradeJournal tradeJournal;
+    private final StrategyBatcher strategyBatcher;
+    private final SymbolExtractor symbolExtractor;
+    private final RecentNewsStore recentNewsStore;
+    private final NewsDeduplicator newsDeduplicator;
+    private final IndicatorEngine indicatorEngine;
+    private final CandleService candleService;
+    private final RiskEngine riskEngine;
+    private final ReservationLedger reservationLedger;
+    private final OrderTracker orderTracker;
+    private final AdapterHealthRegistry adapterHealth;
+    private final LatencyTracker latencyTracker;
+    private final SymbolPartitioner symbolPartitioner;
+    private final SymbolChangeTracker changeTracker;
+    private final List<TradingAccount> tradingAccounts;
+
+    private final Map<String, Broker> accountBrokers = new ConcurrentHashMap<>();
+    private final ExecutorService accountExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Value("${trading.max-allocation-per-trade-inr:5000.0}")
     private double maxAllocationPerTradeInr;
@@ -32,7 +67,38 @@ public class TradingService {
     @Value("${trading.min-confidence-threshold:0.7}")
     private double minConfidenceThreshold;
 
+    /** Hands the orders the journal still shows as open back to the order tracker. */
+    @PostConstruct
+    public void resumeOpenOrders() {
+        JournalState state = tradeJournal.getState();
+        if (state.getOpenOrders() == null || state.getOpenOrders().isEmpty()) return;
+        Map<String, List<Order>> byBook = new HashMap<>();
+        state.getOpenOrders().forEach((orderId, order) -> {
+            String book = state.getOpenOrderBooks() != null ? state.getOpenOrderBooks().get(orderId) : null;
+            if (book != null) byBook.computeIfAbsent(book, b -> new ArrayList<>()).add(order);
+        });
+        byBook.forEach((book, orders) -> {
+            Broker broker = bookBroker(book);
+            if (broker == null) {
+                log.warn("Cannot resume {} open orders on {}: broker or account no longer configured", orders.size(), book);
+                return;
+            }
+            orderTracker.recover(book, broker, orders);
+            log.info("Resumed tracking {} open orders on {}", orders.size(), book);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        accountExecutor.shutdownNow();
+    }
+
     public List<Order> executeFullPipeline(String sourceName, String strategyName, String brokerName, String marketDataName) {
+        return executeFullPipeline(sourceName, strategyName, brokerName, marketDataName, PipelineListener.NONE);
+    }
+
+    public List<Order> executeFullPipeline(String sourceName, String strategyName, String brokerName, String marketDataName,
+                                           PipelineListener listener) {
         log.info("Starting trading pipeline with Source: {}, Strategy: {}, Broker: {}, MarketData: {}", 
                 sourceName, strategyName, brokerName, marketDataName);
 
@@ -46,94 +112,407 @@ public class TradingService {
         }
 
         // 1. Fetch News
-        List<News> news = source.fetchNews();
-        log.info("Fetched {} news items", news.size());
+        List<News> fetched = adapterHealth.route(AdapterHealthRegistry.NEWS, sourceName, newsSources, (name, newsSource) -> newsSource.fetchNews(), List::of);
+        recentNewsStore.addAll(fetched);
+        LatencyTrace trace = latencyTracker.start(fetched);
+        List<News> news = ownedNews(newsDeduplicator.collapse(fetched));
+        log.info("Fetched {} news items ({} distinct stories)", fetched.size(), news.size());
+        listener.onStage("NEWS", "Fetched " + news.size() + " news items");
 
         // 2. Get Portfolio
+        long portfolioObservedAt = System.nanoTime();
         Portfolio portfolio = broker.getPortfolio();
         log.info("Current portfolio assets: {}", portfolio.getBalances().keySet());
+        listener.onStage("PORTFOLIO", "Portfolio assets: " + portfolio.getBalances().keySet());
 
         // 3. Get Market Data for relevant symbols (INR markets)
-        Set<String> symbolsToFetch = identifyRelevantSymbols(portfolio, news);
-        Map<String, Double> marketPrices = marketData.getPrices(symbolsToFetch);
+        Set<String> symbolsToFetch = identifyRelevantSymbols(List.of(portfolio), news);
+        Map<String, Double> marketPrices = adapterHealth.route(AdapterHealthRegistry.MARKET_DATA, marketDataName, marketDataImplementations,
+                (name, provider) -> provider.getPrices(symbolsToFetch), Map::of);
+        trace.setPriceObservedNanos(System.nanoTime());
+        candleService.warmIndicators(marketDataName, marketPrices.keySet());
+        indicatorEngine.onPrices(marketPrices);
+        Map<String, IndicatorSnapshot> indicators = indicatorEngine.snapshots(marketPrices.keySet());
         log.info("Fetched prices for {} symbols", marketPrices.size());
+        listener.onStage("MARKET_DATA", "Fetched prices for " + marketPrices.size() + " symbols");
 
-        // 4. Create Context
+        // 4. Create Context for the symbols that changed since the strategy last saw them
+        SymbolChangeTracker.Plan plan = changeTracker.plan(strategyName + "/" + brokerName, marketPrices, portfolio, news);
         TradeContext context = TradeContext.builder()
-                .recentNews(news)
+                .recentNews(changeTracker.relevantNews(plan, news))
                 .portfolio(portfolio)
-                .marketPrices(marketPrices)
+                .marketPrices(plan.restrict(marketPrices))
+                .indicators(plan.restrict(indicators))
                 .build();
 
         // 5. Generate Signals
-        List<TradeSignal> signals = strategy.generateSignals(context);
-        log.info("Generated {} trade signals", signals.size());
+        List<TradeSignal> signals = evaluate(strategyName, context, plan, trace);
+        log.info("Generated {} trade signals ({} of {} symbols evaluated)", signals.size(), plan.dirty().size(), marketPrices.size());
+        listener.onSignals(signals);
 
         // 6. Execute Trades Judiciously via Batch API
-        List<Order> ordersToExecute = prepareOrders(signals, marketPrices, portfolio);
-        if (ordersToExecute.isEmpty()) {
+        List<Order> results = submit(brokerName, broker, portfolio, portfolioObservedAt,
+                prepareOrders(broker, signals, marketPrices, portfolio, maxAllocationPerTradeInr, minConfidenceThreshold));
+        if (results.isEmpty()) {
             log.info("No trades met the criteria for execution.");
-            return new ArrayList<>();
         }
+        listener.onOrders(results);
+
+        // 7. Journal the run; the append is group-committed off this thread
+        journalRun(brokerName, null, strategyName, digest(context), signals, results);
+        return results;
+    }
+
+    /**
+     * Runs one cycle for every account in {@code trading.accounts}. News and prices are fetched once,
+     * the strategy runs once per distinct portfolio shape, and only order preparation and submission
+     * fan out per account.
+     */
+    public List<AccountExecutionResult> executeMultiAccountPipeline(String sourceName, String strategyName, String brokerName, String marketDataName) {
+        log.info("Starting multi-account pipeline for {} accounts with Source: {}, Strategy: {}, Broker: {}, MarketData: {}",
+                tradingAccounts.size(), sourceName, strategyName, brokerName, marketDataName);
+
+        NewsSource source = newsSources.get(sourceName);
+        TradingStrategy strategy = strategies.get(strategyName);
+        Broker broker = brokers.get(brokerName);
+        MarketData marketData = marketDataImplementations.get(marketDataName);
+
+        if (source == null || strategy == null || broker == null || marketData == null) {
+            throw new IllegalArgumentException("Invalid component names provided");
+        }
+        if (tradingAccounts.isEmpty()) {
+            throw new IllegalArgumentException("No accounts configured under trading.accounts");
+        }
+
+        // 1. Portfolios per account, fetched concurrently with the shared news fetch
+        long portfolioObservedAt = System.nanoTime();
+        Map<String, CompletableFuture<Portfolio>> portfolioFutures = new LinkedHashMap<>();
+        for (TradingAccount account : tradingAccounts) {
+            Broker accountBroker = accountBroker(broker, account);
+            portfolioFutures.put(account.getName(), CompletableFuture.supplyAsync(accountBroker::getPortfolio, accountExecutor));
+        }
+        List<News> fetched = adapterHealth.route(AdapterHealthRegistry.NEWS, sourceName, newsSources, (name, newsSource) -> newsSource.fetchNews(), List::of);
+        recentNewsStore.addAll(fetched);
+        LatencyTrace trace = latencyTracker.start(fetched);
+        List<News> news = ownedNews(newsDeduplicator.collapse(fetched));
+        log.info("Fetched {} news items ({} distinct stories)", fetched.size(), news.size());
+
+        Map<String, Portfolio> portfolios = new LinkedHashMap<>();
+        Map<String, String> errors = new HashMap<>();
+        portfolioFutures.forEach((accountName, future) -> {
+            try {
+                portfolios.put(accountName, future.join());
+            } catch (CompletionException e) {
+                log.error("Failed to fetch portfolio for account {}: {}", accountName, e.getCause().getMessage());
+                errors.put(accountName, "Portfolio fetch failed: " + e.getCause().getMessage());
+            }
+        });
+
+        // 2. One price fetch covering every account's holdings
+        Set<String> symbolsToFetch = identifyRelevantSymbols(portfolios.values(), news);
+        Map<String, Double> marketPrices = adapterHealth.route(AdapterHealthRegistry.MARKET_DATA, marketDataName, marketDataImplementations,
+                (name, provider) -> provider.getPrices(symbolsToFetch), Map::of);
+        trace.setPriceObservedNanos(System.nanoTime());
+        candleService.warmIndicators(marketDataName, marketPrices.keySet());
+        indicatorEngine.onPrices(marketPrices);
+        Map<String, IndicatorSnapshot> indicators = indicatorEngine.snapshots(marketPrices.keySet());
+        log.info("Fetched prices for {} symbols", marketPrices.size());
+
+        // 3. One strategy call per distinct set of held assets
+        Map<Set<String>, TradeContext> contextsByShape = new HashMap<>();
+        Map<Set<String>, CompletableFuture<List<TradeSignal>>> signalsByShape = new HashMap<>();
+        portfolios.values().forEach(portfolio -> signalsByShape.computeIfAbsent(portfolioShape(portfolio), shape -> {
+            SymbolChangeTracker.Plan plan = changeTracker.plan(strategyName + "/" + brokerName + "/" + shape, marketPrices, portfolio, news);
+            TradeContext context = TradeContext.builder()
+                    .recentNews(changeTracker.relevantNews(plan, news))
+                    .portfolio(portfolio)
+                    .marketPrices(plan.restrict(marketPrices))
+                    .indicators(plan.restrict(indicators))
+                    .build();
+            contextsByShape.put(shape, context);
+            return CompletableFuture.supplyAsync(() -> evaluate(strategyName, context, plan, trace), accountExecutor);
+        }));
+        log.info("Running strategy {} time(s) for {} accounts", signalsByShape.size(), portfolios.size());
+
+        // 4. Fan out order preparation and submission per account
+        Map<String, CompletableFuture<AccountExecutionResult>> resultFutures = new LinkedHashMap<>();
+        for (TradingAccount account : tradingAccounts) {
+            String accountName = account.getName();
+            Portfolio portfolio = portfolios.get(accountName);
+            if (portfolio == null) {
+                resultFutures.put(accountName, CompletableFuture.completedFuture(AccountExecutionResult.builder()
+                        .accountName(accountName)
+                        .orders(new ArrayList<>())
+                        .error(errors.get(accountName))
+                        .build()));
+                continue;
+            }
+            Set<String> shape = portfolioShape(portfolio);
+            String contextDigest = digest(contextsByShape.get(shape));
+            resultFutures.put(accountName, signalsByShape.get(shape).thenApplyAsync(signals ->
+                    executeForAccount(account, accountBroker(broker, account), brokerName, strategyName, contextDigest, portfolio, portfolioObservedAt, signals, marketPrices),
+                    accountExecutor));
+        }
+
+        List<AccountExecutionResult> results = new ArrayList<>();
+        resultFutures.forEach((accountName, future) -> {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                log.error("Pipeline failed for account {}: {}", accountName, e.getCause().getMessage());
+                results.add(AccountExecutionResult.builder()
+                        .accountName(accountName)
+                        .orders(new ArrayList<>())
+                        .error(e.getCause().getMessage())
+                        .build());
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Runs the strategy over the plan's dirty symbols (skipping the call when there are none) and
+     * appends the carried-forward signals for the rest. Only an actual answer becomes the baseline:
+     * when every strategy in the group failed, the dirty symbols stay dirty and are asked again.
+     */
+    private List<TradeSignal> evaluate(String strategyName, TradeContext context, SymbolChangeTracker.Plan plan, LatencyTrace trace) {
+        Optional<List<TradeSignal>> answer = plan.dirty().isEmpty()
+                ? Optional.of(List.of())
+                : strategyBatcher.tryGenerateSignals(strategyName, context);
+        List<TradeSignal> fresh = answer.map(s -> latencyTracker.stampSignals(s, trace)).orElseGet(List::of);
+        if (answer.isPresent()) changeTracker.commit(plan, fresh);
+        List<TradeSignal> signals = new ArrayList<>(fresh);
+        signals.addAll(plan.carried());
+        return signals;
+    }
+
+    private AccountExecutionResult executeForAccount(TradingAccount account, Broker accountBroker, String brokerName, String strategyName,
+                                                     String contextDigest, Portfolio portfolio, long portfolioObservedAt,
+                                                     List<TradeSignal> signals, Map<String, Double> marketPrices) {
+        double maxAllocation = account.getMaxAllocationPerTradeInr() != null ? account.getMaxAllocationPerTradeInr() : maxAllocationPerTradeInr;
+        double minConfidence = account.getMinConfidenceThreshold() != null ? account.getMinConfidenceThreshold() : minConfidenceThreshold;
+
+        List<Order> orders = submit(brokerName + "/" + account.getName(), accountBroker, portfolio, portfolioObservedAt,
+                prepareOrders(accountBroker, signals, marketPrices, portfolio, maxAllocation, minConfidence));
+        log.info("Account {}: {} orders submitted", account.getName(), orders.size());
+
+        journalRun(brokerName, account.getName(), strategyName, contextDigest, signals, orders);
+        return AccountExecutionResult.builder()
+                .accountName(account.getName())
+                .signals(signals)
+                .orders(orders)
+                .build();
+    }
+
+    /**
+     * Reserves funds for the candidate orders, runs them through the risk checks and submits what
+     * passes. Reservations are settled on every path so nothing stays held after a failure.
+     */
+    private List<Order> submit(String book, Broker broker, Portfolio portfolio, long portfolioObservedAt, List<Order> candidates) {
+        return place(book, broker, approve(book, broker, portfolio, portfolioObservedAt, candidates));
+    }
+
+    /** Orders that passed the risk checks, with the reservations backing them. */
+    record Approval(List<ReservationLedger.Reservation> reservations, List<Order> orders) {}
+
+    /**
+     * The risk half of {@link #submit}. The returned reservations stay held until the approval is
+     * passed to {@link #place}, which may happen on another thread.
+     */
+    Approval approve(String book, Broker broker, Portfolio portfolio, long portfolioObservedAt, List<Order> candidates) {
+        List<ReservationLedger.Reservation> reservations = reservationLedger.reserve(book, broker, candidates, portfolio, portfolioObservedAt);
+        try {
+            return new Approval(reservations, riskEngine.check(book, broker, portfolio, ReservationLedger.orders(reservations)));
+        } catch (RuntimeException e) {
+            reservationLedger.settle(reservations);
+            throw e;
+        }
+    }
+
+    /** The execution half of {@link #submit}: places the approved orders and settles the reservations. */
+    List<Order> place(String book, Broker broker, Approval approval) {
+        try {
+            List<Order> approved = approval.orders();
+            if (approved.isEmpty()) return new ArrayList<>();
+            latencyTracker.stampSent(approved);
+            List<Order> results = broker.placeOrders(approved);
+            latencyTracker.recordAcknowledged(results);
+            riskEngine.onOrderResults(book, results);
+            orderTracker.track(book, broker, results);
+            return results;
+        } finally {
+            reservationLedger.settle(approval.reservations());
+        }
+    }
+
+    /** Releases an approval's reservations without placing its orders. */
+    void release(Approval approval) {
+        reservationLedger.settle(approval.reservations());
+    }
+
+    private Broker accountBroker(Broker broker, TradingAccount account) {
+        return accountBrokers.computeIfAbsent(broker.getName() + "/" + account.getName(), k -> broker.forAccount(account));
+    }
+
+    // The broker a book's orders were placed through: "broker" or "broker/account"
+    private Broker bookBroker(String book) {
+        int slash = book.indexOf('/');
+        Broker broker = brokers.get(slash < 0 ? book : book.substring(0, slash));
+        if (broker == null || slash < 0) return broker;
+        String accountName = book.substring(slash + 1);
+        for (TradingAccount account : tradingAccounts) {
+            if (account.getName().equals(accountName)) return accountBroker(broker, account);
+        }
+        return null;
+    }
+
+    private Set<String> portfolioShape(Portfolio portfolio) {
+        Set<String> shape = new TreeSet<>();
+        portfolio.getBalances().forEach((asset, amount) -> {
+            if (amount != null && amount > 0) shape.add(asset);
+        });
+        return shape;
+    }
+
+    public RiskSnapshot getRiskSnapshot(String book) {
+        return riskEngine.snapshot(book);
+    }
+
+    public PartitionStatus getPartitionStatus(Collection<String> symbols) {
+        return symbolPartitioner.status(symbols);
+    }
+
+    public Map<String, AdapterHealth> getAdapterHealth() {
+        return adapterHealth.snapshot();
+    }
+
+    public Map<String, Double> getReservations(String book) {
+        return reservationLedger.held(book);
+    }
+
+    public List<Order> getOpenOrders() {
+        return orderTracker.getOpenOrders();
+    }
+
+    public JournalState getJournalState() {
+        return tradeJournal.getState();
+    }
 
-        return broker.placeOrders(ordersToExecute);
+    private void journalRun(String brokerName, String accountName, String strategyName, String contextDigest,
+                            List<TradeSignal> signals, List<Order> orders) {
+        journalRun(brokerName, accountName, strategyName, null, contextDigest, signals, orders, null);
     }
 
-    private Set<String> identifyRelevantSymbols(Portfolio portfolio, List<News> news) {
+    void journalRun(String brokerName, String accountName, String strategyName, TradeContext context, String contextDigest,
+                    List<TradeSignal> signals, List<Order> orders, Long eventSequence) {
+        tradeJournal.append(JournalEntry.builder()
+                        .type(JournalEntry.EntryType.PIPELINE_RUN)
+                        .timestamp(System.currentTimeMillis())
+                        .brokerName(brokerName)
+                        .accountName(accountName)
+                        .strategyName(strategyName)
+                        .context(context)
+                        .contextDigest(contextDigest)
+                        .signals(signals)
+                        .orders(orders)
+                        .eventSequence(eventSequence)
+                        .build())
+                .exceptionally(e -> {
+                    log.error("Failed to journal pipeline run: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    String digest(TradeContext context) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(String.valueOf(context).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Set<String> identifyRelevantSymbols(Collection<Portfolio> portfolios, List<News> news) {
         Set<String> symbols = new HashSet<>();
-        portfolio.getBalances().keySet().forEach(s -> {
+        portfolios.forEach(portfolio -> portfolio.getBalances().keySet().forEach(s -> {
             if (!s.equals("INR") && !s.equals("USDT")) {
                 symbols.add(s + "INR");
             }
-        });
+        }));
         symbols.add("BTCINR");
         symbols.add("ETHINR");
-        news.forEach(n -> {
-            String title = n.getTitle().toUpperCase();
-            if (title.contains("BTC") || title.contains("BITCOIN")) symbols.add("BTCINR");
-            if (title.contains("ETH") || title.contains("ETHEREUM")) symbols.add("ETHINR");
-            if (title.contains("SOL") || title.contains("SOLANA")) symbols.add("SOLINR");
-        });
-        return symbols;
+        news.forEach(n -> symbolExtractor.extract(n).forEach(s -> symbols.add(s + "INR")));
+        return symbolPartitioner.filter(symbols);
     }
 
-    private List<Order> prepareOrders(List<TradeSignal> signals, Map<String, Double> prices, Portfolio portfolio) {
+    /** News about this instance's symbols, plus stories that name no symbol at all (market-wide news). */
+    private List<News> ownedNews(List<News> news) {
+        if (!symbolPartitioner.isEnabled()) return news;
+        List<News> owned = new ArrayList<>(news.size());
+        for (News item : news) {
+            Set<String> symbols = symbolExtractor.extract(item);
+            if (symbols.isEmpty() || !symbolPartitioner.filter(symbols).isEmpty()) owned.add(item);
+        }
+        return owned;
+    }
+
+    /**
+     * Sizes orders in the market's own units: quantities are truncated to the quantity precision
+     * and prices rounded to the price precision, so the INR spent here is what the exchange will
+     * charge for exactly the quantity that goes on the wire.
+     */
+    List<Order> prepareOrders(Broker broker, List<TradeSignal> signals, Map<String, Double> prices, Portfolio portfolio,
+                                      double maxAllocationPerTradeInr, double minConfidenceThreshold) {
         List<Order> orders = new ArrayList<>();
-        double currentInrBalance = portfolio.getBalances().getOrDefault("INR", 0.0);
+        // Same fee buffer and minimum as the reservation step, so the settings there are the only ones
+        double currentInrBalance = reservationLedger.spendableInr(portfolio.getBalances().getOrDefault("INR", 0.0));
 
         for (TradeSignal signal : signals) {
-            if (signal.getConfidence() < minConfidenceThreshold) continue;
+            if (signal.isCarriedForward() || signal.getConfidence() < minConfidenceThreshold) continue;
 
             String exchangeSymbol = signal.getSymbol().endsWith("INR") ? signal.getSymbol() : signal.getSymbol() + "INR";
-            Double price = prices.get(exchangeSymbol);
+            // A model can name symbols it was not asked about; another instance may own them
+            if (!symbolPartitioner.owns(exchangeSymbol)) continue;
+            Double lastPrice = prices.get(exchangeSymbol);
+
+            if (lastPrice == null || lastPrice <= 0) continue;
 
-            if (price == null || price <= 0) continue;
+            MarketSpec spec = broker.getMarketSpec(exchangeSymbol);
+            int quantityScale = spec != null ? spec.getQuantityPrecision() : FixedPoint.DEFAULT_SCALE;
+            double price = spec != null ? FixedPoint.round(lastPrice, spec.getPricePrecision()) : lastPrice;
+            if (price <= 0) continue;
 
             if (signal.getType() == TradeSignal.SignalType.BUY) {
-                double targetSpend = Math.min(maxAllocationPerTradeInr * signal.getConfidence(), currentInrBalance * 0.95);
-                if (targetSpend < 100) continue;
+                double targetSpend = Math.min(maxAllocationPerTradeInr * signal.getConfidence(), currentInrBalance);
+                if (targetSpend < reservationLedger.getMinBuyInr()) continue;
 
+                double quantity = FixedPoint.floor(targetSpend / price, quantityScale);
+                if (quantity <= 0) continue;
                 orders.add(Order.builder()
                         .symbol(exchangeSymbol)
                         .type(Order.OrderType.BUY)
-                        .quantity(targetSpend / price)
+                        .quantity(quantity)
                         .price(price)
+                        .trace(signal.getTrace())
                         .build());
-                currentInrBalance -= targetSpend;
+                currentInrBalance -= quantity * price;
 
             } else if (signal.getType() == TradeSignal.SignalType.SELL) {
                 String baseAsset = exchangeSymbol.replace("INR", "");
                 double availableAsset = portfolio.getBalances().getOrDefault(baseAsset, 0.0);
-                if (availableAsset > 0) {
+                double quantity = FixedPoint.floor(availableAsset * signal.getConfidence(), quantityScale);
+                if (quantity > 0) {
                     orders.add(Order.builder()
                             .symbol(exchangeSymbol)
                             .type(Order.OrderType.SELL)
-                            .quantity(availableAsset * signal.getConfidence())
+                            .quantity(quantity)
                             .price(price)
+                            .trace(signal.getTrace())
                             .build());
                 }
             }
         }
+        latencyTracker.stampPrepared(orders);
         return orders;
     }
 }
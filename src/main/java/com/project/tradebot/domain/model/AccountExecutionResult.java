@@ -0,0 +1,19 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountExecutionResult {
+    private String accountName;
+    private List<TradeSignal> signals;
+    private List<Order> orders;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdapterHealth {
+    public enum BreakerState { CLOSED, OPEN, HALF_OPEN }
+
+    private String kind; // strategy, news or market-data
+    private String name;
+    private BreakerState state;
+    private double ewmaLatencyMs; // 0 until the first call completes
+    private long lastLatencyMs;
+    private long calls;
+    private long failures;
+    private int consecutiveFailures;
+    private long retryAt; // epoch ms of the next probe while open
+    private String lastError;
+}
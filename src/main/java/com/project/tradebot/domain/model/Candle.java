@@ -0,0 +1,21 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Candle {
+    private String symbol; // exchange market, e.g. BTCINR
+    private CandleInterval interval;
+    private long openTime; // epoch ms; the candle covers [openTime, openTime + interval)
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+    private double volume;
+}
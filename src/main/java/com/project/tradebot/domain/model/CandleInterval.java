@@ -0,0 +1,52 @@
+package com.project.tradebot.domain.model;
+
+import java.util.concurrent.TimeUnit;
+
+public enum CandleInterval {
+    M1("1m", TimeUnit.MINUTES.toMillis(1)),
+    M5("5m", TimeUnit.MINUTES.toMillis(5)),
+    M15("15m", TimeUnit.MINUTES.toMillis(15)),
+    M30("30m", TimeUnit.MINUTES.toMillis(30)),
+    H1("1h", TimeUnit.HOURS.toMillis(1)),
+    H2("2h", TimeUnit.HOURS.toMillis(2)),
+    H4("4h", TimeUnit.HOURS.toMillis(4)),
+    H6("6h", TimeUnit.HOURS.toMillis(6)),
+    H8("8h", TimeUnit.HOURS.toMillis(8)),
+    D1("1d", TimeUnit.DAYS.toMillis(1)),
+    D3("3d", TimeUnit.DAYS.toMillis(3)), // counted from the epoch, like the exchange's own 3d candles
+    W1("1w", TimeUnit.DAYS.toMillis(7), TimeUnit.DAYS.toMillis(4)); // weeks open on Monday; the epoch was a Thursday
+
+    private final String code;
+    private final long durationMs;
+    private final long anchorMs;
+
+    CandleInterval(String code, long durationMs) {
+        this(code, durationMs, 0);
+    }
+
+    CandleInterval(String code, long durationMs, long anchorMs) {
+        this.code = code;
+        this.durationMs = durationMs;
+        this.anchorMs = anchorMs;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /** Open time of the candle containing {@code epochMs}. */
+    public long floor(long epochMs) {
+        return Math.floorDiv(epochMs - anchorMs, durationMs) * durationMs + anchorMs;
+    }
+
+    public static CandleInterval fromCode(String code) {
+        for (CandleInterval interval : values()) {
+            if (interval.code.equalsIgnoreCase(code) || interval.name().equalsIgnoreCase(code)) return interval;
+        }
+        throw new IllegalArgumentException("Unsupported candle interval: " + code);
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EngineStatus {
+    private boolean running;
+    private String waitStrategy;
+    private int ringSize;
+    private long publishedSequence; // -1 until the first event
+    private long remainingCapacity;
+    private Map<String, Long> stageSequences; // last sequence each stage has finished; the gap to publishedSequence is its backlog
+    private long newsEvents;
+    private long priceEvents;
+    private long evaluations;
+    private long ordersSubmitted;
+    private Set<String> watchedSymbols;
+}
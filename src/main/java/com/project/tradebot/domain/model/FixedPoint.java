@@ -0,0 +1,107 @@
+package com.project.tradebot.domain.model;
+
+/**
+ * Fixed-point decimal arithmetic on scaled longs: a value is a pair of {@code units} and
+ * {@code scale}, meaning {@code units / 10^scale}, with the scale taken from the market's precision.
+ * Values are passed as primitives, so rounding and formatting allocate nothing.
+ * <p>
+ * Converting from double snaps to the nearest unit when the double is within a relative 1e-12 of
+ * it, so representation error cannot turn e.g. 0.29 at scale 2 into 28 units. Outside that window,
+ * rounding goes towards zero, which never sells more than is held or spends more than was reserved.
+ * A value whose units do not fit in a long, or that is not finite, throws {@link ArithmeticException}
+ * instead of saturating to a wrong quantity.
+ */
+public final class FixedPoint {
+
+    public static final int MAX_SCALE = 18;
+    /** Scale for markets whose precision is unknown; CoinDCX quotes no market finer than this. */
+    public static final int DEFAULT_SCALE = 8;
+
+    private static final double SNAP = 1e-12;
+    private static final double LONG_RANGE = 0x1p63; // first double past Long.MAX_VALUE
+    private static final long[] POW10 = new long[MAX_SCALE + 1];
+
+    static {
+        POW10[0] = 1L;
+        for (int i = 1; i <= MAX_SCALE; i++) POW10[i] = POW10[i - 1] * 10L;
+    }
+
+    private FixedPoint() {
+    }
+
+    /** Units of {@code value} at {@code scale}, rounded towards zero after snapping. */
+    public static long floorUnits(double value, int scale) {
+        double scaled = scaled(value, scale);
+        double nearest = Math.rint(scaled);
+        if (Math.abs(scaled - nearest) <= SNAP * Math.max(1.0, Math.abs(scaled))) return (long) nearest;
+        return (long) scaled; // the cast truncates towards zero
+    }
+
+    /** Units of {@code value} at {@code scale}, rounded half away from zero. */
+    public static long roundUnits(double value, int scale) {
+        double scaled = scaled(value, scale);
+        return (long) (scaled < 0 ? -Math.floor(-scaled + 0.5) : Math.floor(scaled + 0.5));
+    }
+
+    /** The double closest to {@code units / 10^scale}. */
+    public static double toDouble(long units, int scale) {
+        return units / (double) POW10[checkScale(scale)];
+    }
+
+    /** {@code value} truncated to {@code scale} decimal places, as the exchange will accept it. */
+    public static double floor(double value, int scale) {
+        return toDouble(floorUnits(value, scale), scale);
+    }
+
+    /** {@code value} rounded half away from zero to {@code scale} decimal places. */
+    public static double round(double value, int scale) {
+        return toDouble(roundUnits(value, scale), scale);
+    }
+
+    /**
+     * Appends {@code units / 10^scale} in plain notation without trailing zeros (as
+     * {@code BigDecimal.stripTrailingZeros().toPlainString()} would), e.g. 1230 at scale 4 as
+     * {@code 0.123}.
+     */
+    public static StringBuilder appendPlain(StringBuilder sb, long units, int scale) {
+        long pow = POW10[checkScale(scale)];
+        long whole = units / pow;
+        long fraction = units % pow;
+        if (units < 0) {
+            sb.append('-');
+            whole = -whole; // Long.MIN_VALUE at scale 0 stays negative; printed unsigned it is the right magnitude
+            fraction = -fraction;
+        }
+        sb.append(Long.toUnsignedString(whole));
+        if (fraction == 0) return sb;
+
+        int digits = scale;
+        while (fraction % 10 == 0) {
+            fraction /= 10;
+            digits--;
+        }
+        sb.append('.');
+        for (int i = digitCount(fraction); i < digits; i++) sb.append('0');
+        return sb.append(fraction);
+    }
+
+    private static double scaled(double value, int scale) {
+        double scaled = value * POW10[checkScale(scale)];
+        // Doubles this large are whole numbers, so rounding cannot carry an in-range value out of range
+        if (!(Math.abs(scaled) < LONG_RANGE)) {
+            throw new ArithmeticException(value + " at scale " + scale + " does not fit in fixed point");
+        }
+        return scaled;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (digits <= MAX_SCALE && value >= POW10[digits]) digits++;
+        return digits;
+    }
+
+    private static int checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) throw new IllegalArgumentException("Scale out of range: " + scale);
+        return scale;
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndicatorSnapshot {
+    private String symbol;
+    private double lastPrice;
+    private double emaFast;
+    private double emaSlow;
+    private double vwap; // over the rolling window; ticks without volume weigh 1
+    private double lastReturn; // log return of the latest tick
+    private double volatility; // sample std dev of log returns over the rolling window
+    private double momentum; // lastPrice / oldest price in the window - 1
+    private int samples; // ticks currently in the window
+    private long updatedAt; // epoch millis
+}
@@ -0,0 +1,28 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalEntry {
+    public enum EntryType { PIPELINE_RUN, ORDER_UPDATE }
+
+    private long sequence;
+    private EntryType type;
+    private long timestamp; // epoch millis
+    private String brokerName;
+    private String accountName; // null for the default single-account pipeline
+    private String strategyName;
+    private TradeContext context; // the strategy's input, journaled by the engine so its decisions can be replayed
+    private String contextDigest; // SHA-256 of the TradeContext handed to the strategy
+    private List<TradeSignal> signals;
+    private List<Order> orders;
+    private Long eventSequence; // last engine event the decision saw; null for request-triggered runs
+}
@@ -0,0 +1,20 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalState {
+    private long lastSequence;
+    private long lastEventSequence; // highest engine event sequence journaled, -1 when none
+    private Map<String, Order> openOrders; // exchange order id -> order
+    private Map<String, String> openOrderBooks; // exchange order id -> book that placed it ("broker" or "broker/account")
+    private Map<String, Double> positions; // symbol -> net executed quantity
+}
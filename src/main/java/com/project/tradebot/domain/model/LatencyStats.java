@@ -0,0 +1,22 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyStats {
+    private String segment;
+    private long count;
+    private double minMs;
+    private double meanMs;
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+}
@@ -0,0 +1,30 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Stage timestamps of one trading decision, from the news it reacted to until the exchange
+ * acknowledged the order. The news times are wall clock (the publish time comes from the feed);
+ * every later stage is {@link System#nanoTime()}, so in-process intervals are immune to clock
+ * adjustments. Zero means the stage was not reached.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyTrace {
+    private long newsPublishedAtMs; // epoch ms of the newest news item about the signal's symbol
+    private Map<String, Long> newsPublishedAtBySymbol; // per base asset, set on the cycle trace before signals exist
+    private long newsIngestedAtMs; // epoch ms when the feed returned it
+    private long newsIngestedNanos;
+    private long priceObservedNanos;
+    private long signalProducedNanos;
+    private long orderPreparedNanos;
+    private long orderSentNanos; // handed to the broker
+    private long orderAcknowledgedNanos; // broker call returned with the order accepted
+}
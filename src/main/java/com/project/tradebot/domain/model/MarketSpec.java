@@ -0,0 +1,19 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketSpec {
+    private String symbol;
+    private double minNotional; // in quote currency (INR)
+    private double minQuantity;
+    private double maxQuantity;
+    private int quantityPrecision; // decimal places allowed on quantity
+    private int pricePrecision; // decimal places allowed on price
+}
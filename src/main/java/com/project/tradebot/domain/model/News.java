@@ -15,6 +15,8 @@ public class News {
     private String title;
     private String description;
     private String source;
+    private String url;
     private LocalDateTime timestamp;
     private String sentiment; // e.g., POSITIVE, NEGATIVE, NEUTRAL
+    private int sourceCount; // near-duplicate reports collapsed into this item; 0 when not deduplicated
 }
@@ -11,7 +11,19 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Order {
     public enum OrderType { BUY, SELL }
-    public enum OrderStatus { PENDING, EXECUTED, FAILED }
+    public enum OrderStatus {
+        PENDING, // submitted, exchange state not yet known
+        OPEN,
+        PARTIALLY_FILLED,
+        EXECUTED,
+        CANCELLED, // may carry a partial fill
+        REJECTED,
+        FAILED; // never reached the exchange
+
+        public boolean isFinal() {
+            return this == EXECUTED || this == CANCELLED || this == REJECTED || this == FAILED;
+        }
+    }
 
     private String symbol;
     private OrderType type;
@@ -19,4 +31,7 @@ public class Order {
     private double price;
     private OrderStatus status;
     private String orderId;
+    private double filledQuantity;
+    private double averagePrice; // average fill price, 0 until something fills
+    private LatencyTrace trace; // stage timestamps from news to exchange acknowledgement
 }
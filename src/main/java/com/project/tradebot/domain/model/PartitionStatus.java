@@ -0,0 +1,23 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionStatus {
+    private boolean enabled;
+    private String nodeId;
+    private String coordinator;
+    private Set<String> members;
+    private long rebalancedAt; // epoch ms of the last membership change seen
+    private boolean handoffPending; // symbols gained in that change are not traded until the previous owner has let go
+    private Map<String, String> owners; // symbol -> owning node, for the symbols asked about
+}
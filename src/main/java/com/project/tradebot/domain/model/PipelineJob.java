@@ -0,0 +1,30 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineJob {
+    public enum JobStatus { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    private String jobId;
+    private JobStatus status;
+    private String source;
+    private String strategy;
+    private String broker;
+    private String marketData;
+    private String stage; // last stage reported by the pipeline
+    private long submittedAt; // epoch millis
+    private Long startedAt;
+    private Long finishedAt;
+    private List<TradeSignal> signals;
+    private List<Order> orders;
+    private String error;
+}
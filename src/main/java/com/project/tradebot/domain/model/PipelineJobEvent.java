@@ -0,0 +1,25 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineJobEvent {
+    public enum EventType { STAGE, SIGNALS, ORDERS, COMPLETED, FAILED }
+
+    private String jobId;
+    private int sequence; // position within the job, so reconnecting clients can skip what they have seen
+    private EventType type;
+    private String stage;
+    private String message;
+    private List<TradeSignal> signals;
+    private List<Order> orders;
+    private long timestamp; // epoch millis
+}
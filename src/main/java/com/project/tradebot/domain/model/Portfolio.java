@@ -12,6 +12,7 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Portfolio {
-    private Map<String, Double> balances; // symbol -> amount
+    private Map<String, Double> balances; // symbol -> amount available to trade
+    private Map<String, Double> lockedBalances; // symbol -> amount held by open orders
     private double totalValueInUsd;
 }
@@ -0,0 +1,21 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskSnapshot {
+    private String book;
+    private Map<String, Double> positions; // symbol -> quantity held (tracked incrementally)
+    private Map<String, Double> exposures; // symbol -> cost-basis exposure incl. pending buys, INR
+    private double totalExposure;
+    private double dailyRealizedPnl;
+    private int ordersInLastMinute;
+}
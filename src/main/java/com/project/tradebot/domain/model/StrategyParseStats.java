@@ -0,0 +1,19 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategyParseStats {
+    private String strategy;
+    private long responses; // model answers handed to the parser
+    private long parsed; // read directly into typed signals
+    private long repaired; // needed the repair pass
+    private long failed; // nothing usable, the cycle produced no signals
+    private long droppedSignals; // individual entries discarded as invalid
+}
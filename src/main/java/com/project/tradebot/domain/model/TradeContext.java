@@ -16,4 +16,5 @@ public class TradeContext {
     private List<News> recentNews;
     private Portfolio portfolio;
     private Map<String, Double> marketPrices; // symbol -> price
+    private Map<String, IndicatorSnapshot> indicators; // symbol -> incremental trend/volatility context
 }
@@ -16,4 +16,6 @@ public class TradeSignal {
     private SignalType type;
     private double confidence; // 0.0 to 1.0
     private String reason;
+    private LatencyTrace trace; // set by the pipeline, not by strategies
+    private boolean carriedForward; // repeated from an earlier evaluation because nothing about the symbol changed; never traded
 }
@@ -0,0 +1,18 @@
+package com.project.tradebot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TradingAccount {
+    private String name;
+    private String apiKey;
+    private String apiSecret;
+    private Double maxAllocationPerTradeInr; // falls back to trading.max-allocation-per-trade-inr
+    private Double minConfidenceThreshold; // falls back to trading.min-confidence-threshold
+}
@@ -4,8 +4,11 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.tradebot.application.ports.Broker;
+import com.project.tradebot.domain.model.FixedPoint;
+import com.project.tradebot.domain.model.MarketSpec;
 import com.project.tradebot.domain.model.Order;
 import com.project.tradebot.domain.model.Portfolio;
+import com.project.tradebot.domain.model.TradingAccount;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,8 +22,6 @@ import reactor.core.publisher.Mono;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Component
@@ -45,9 +47,12 @@ public class CoinDCXBroker implements Broker {
     private final String spotBaseUrl;
     private final String portfolioPath;
     private final String orderPath;
+    private final String orderStatusPath;
+    private final int statusBatchSize;
     private final String marketDetailsUrl;
     
-    private final Map<String, Integer> marketPrecisions = new ConcurrentHashMap<>();
+    private final Map<String, MarketSpec> marketSpecs;
+    private final AtomicLong lastMarketDetailsAttempt;
 
     public CoinDCXBroker(
             WebClient.Builder webClientBuilder, 
@@ -58,6 +63,8 @@ public class CoinDCXBroker implements Broker {
             @Value("${coindcx.api.spot-base-url:https://apigw.coindcx.com}") String spotBaseUrl,
             @Value("${coindcx.api.portfolio-path:/exchange/v1/users/balances}") String portfolioPath,
             @Value("${coindcx.api.order-path:/exchange/v1/orders/create_multiple}") String orderPath,
+            @Value("${coindcx.api.order-status-path:/exchange/v1/orders/status_multiple}") String orderStatusPath,
+            @Value("${coindcx.api.status-batch-size:50}") int statusBatchSize,
             @Value("${coindcx.api.market-details-url:/exchange/v1/markets_details}") String marketDetailsUrl) {
         
         this.webClient = webClientBuilder.build();
@@ -68,11 +75,41 @@ public class CoinDCXBroker implements Broker {
         this.spotBaseUrl = spotBaseUrl;
         this.portfolioPath = portfolioPath;
         this.orderPath = orderPath;
+        this.orderStatusPath = orderStatusPath;
+        this.statusBatchSize = Math.max(1, statusBatchSize);
         this.marketDetailsUrl = marketDetailsUrl;
+        this.marketSpecs = new ConcurrentHashMap<>();
+        this.lastMarketDetailsAttempt = new AtomicLong();
+    }
+
+    // Account-scoped copy: shares the HTTP client and market details, swaps only the credentials
+    private CoinDCXBroker(CoinDCXBroker template, String apiKey, String apiSecret) {
+        this.webClient = template.webClient;
+        this.objectMapper = template.objectMapper;
+        this.apiKey = apiKey != null ? apiKey.trim() : "";
+        this.apiSecret = apiSecret != null ? apiSecret.trim() : "";
+        this.generalBaseUrl = template.generalBaseUrl;
+        this.spotBaseUrl = template.spotBaseUrl;
+        this.portfolioPath = template.portfolioPath;
+        this.orderPath = template.orderPath;
+        this.orderStatusPath = template.orderStatusPath;
+        this.statusBatchSize = template.statusBatchSize;
+        this.marketDetailsUrl = template.marketDetailsUrl;
+        this.marketSpecs = template.marketSpecs;
+        this.lastMarketDetailsAttempt = template.lastMarketDetailsAttempt;
+    }
+
+    @Override
+    public Broker forAccount(TradingAccount account) {
+        return new CoinDCXBroker(this, account.getApiKey(), account.getApiSecret());
     }
 
     private void loadMarketDetails() {
-        if (!marketPrecisions.isEmpty()) return;
+        if (!marketSpecs.isEmpty()) return;
+        // Public endpoint; retried at most once a minute so an outage doesn't add a call to every order
+        long now = System.currentTimeMillis();
+        long last = lastMarketDetailsAttempt.get();
+        if (now - last < 60_000 || !lastMarketDetailsAttempt.compareAndSet(last, now)) return;
         try {
             List<CoinDCXMarketDetail> details = webClient.get()
                     .uri(spotBaseUrl + marketDetailsUrl)
@@ -83,7 +120,14 @@ public class CoinDCXBroker implements Broker {
                 if (details != null) {
                 details.forEach(d -> {
                     if (d.getSymbol() != null) {
-                        marketPrecisions.put(d.getSymbol(), d.getTargetCurrencyPrecision());
+                        marketSpecs.put(d.getSymbol(), MarketSpec.builder()
+                                .symbol(d.getSymbol())
+                                .minNotional(d.getMinNotional())
+                                .minQuantity(d.getMinQuantity())
+                                .maxQuantity(d.getMaxQuantity())
+                                .quantityPrecision(d.getTargetCurrencyPrecision())
+                                .pricePrecision(d.getBaseCurrencyPrecision())
+                                .build());
                     }
                 });
             }
@@ -92,6 +136,12 @@ public class CoinDCXBroker implements Broker {
         }
     }
 
+    @Override
+    public MarketSpec getMarketSpec(String symbol) {
+        loadMarketDetails();
+        return marketSpecs.get(symbol);
+    }
+
     @Override
     public Portfolio getPortfolio() {
         if (isMissingCredentials()) return getMockPortfolio();
@@ -118,7 +168,10 @@ public class CoinDCXBroker implements Broker {
                 Map<String, Double> balanceMap = balances.stream()
                         .filter(b -> b.getBalance() > 0)
                         .collect(Collectors.toMap(CoinDCXBalance::getCurrency, CoinDCXBalance::getBalance));
-                return Portfolio.builder().balances(balanceMap).totalValueInUsd(0.0).build();
+                Map<String, Double> lockedMap = balances.stream()
+                        .filter(b -> b.getLockedBalance() > 0)
+                        .collect(Collectors.toMap(CoinDCXBalance::getCurrency, CoinDCXBalance::getLockedBalance));
+                return Portfolio.builder().balances(balanceMap).lockedBalances(lockedMap).totalValueInUsd(0.0).build();
             }
         } catch (Exception e) {
             log.error("Error fetching CoinDCX portfolio: {}", e.getMessage());
@@ -139,6 +192,8 @@ public class CoinDCXBroker implements Broker {
             orders.forEach(o -> {
                 o.setStatus(Order.OrderStatus.EXECUTED);
                 o.setOrderId("MOCK-" + UUID.randomUUID());
+                o.setFilledQuantity(o.getQuantity());
+                o.setAveragePrice(o.getPrice());
             });
             return orders;
         }
@@ -147,33 +202,14 @@ public class CoinDCXBroker implements Broker {
         long timestamp = System.currentTimeMillis();
 
         try {
-            List<Map<String, Object>> orderList = new ArrayList<>();
-            for (Order order : orders) {
-                int precision = marketPrecisions.getOrDefault(order.getSymbol(), 8);
-                
-                BigDecimal qty = BigDecimal.valueOf(order.getQuantity())
-                        .setScale(precision, RoundingMode.HALF_DOWN)
-                        .stripTrailingZeros();
-
-                Map<String, Object> oMap = new LinkedHashMap<>();
-                oMap.put("side", order.getType().toString().toLowerCase());
-                oMap.put("order_type", "market_order");
-                oMap.put("market", order.getSymbol());
-                oMap.put("total_quantity", qty.toPlainString());
-                oMap.put("timestamp", timestamp);
-                oMap.put("ecode", "I");
-                oMap.put("client_order_id", UUID.randomUUID().toString().replace("-", ""));
-                orderList.add(oMap);
-            }
-
-            Map<String, Object> body = new LinkedHashMap<>();
-            body.put("timestamp", timestamp);
-            body.put("orders", orderList);
-            body.put("ecode", "I");
-
-            String jsonBody = objectMapper.writeValueAsString(body);
+            String jsonBody = encodeOrders(orders, timestamp);
             String signature = generateSignature(jsonBody);
 
+            // Re-stamp at the wire so signing and serialization count towards preparation, not the exchange
+            long sentAt = System.nanoTime();
+            orders.forEach(o -> {
+                if (o.getTrace() != null) o.getTrace().setOrderSentNanos(sentAt);
+            });
             String rawResponse = webClient.post()
                     .uri(spotBaseUrl + orderPath)
                     .header("X-AUTH-APIKEY", apiKey)
@@ -196,9 +232,9 @@ public class CoinDCXBroker implements Broker {
                 for (int i = 0; i < Math.min(orders.size(), response.getOrders().size()); i++) {
                     CoinDCXOrderInfo info = response.getOrders().get(i);
                     orders.get(i).setOrderId(info.getId());
-                    orders.get(i).setStatus(Order.OrderStatus.EXECUTED);
+                    applyOrderInfo(orders.get(i), info);
                 }
-                log.info("Successfully executed {}/{} batch orders", response.getOrders().size(), orders.size());
+                log.info("Submitted {}/{} batch orders", response.getOrders().size(), orders.size());
             }
         } catch (Exception e) {
             log.error("Error executing batch orders: {}", e.getMessage());
@@ -208,6 +244,91 @@ public class CoinDCXBroker implements Broker {
         return orders;
     }
 
+    /**
+     * Writes the create_multiple body straight into one buffer, with quantities truncated to the
+     * market's precision as scaled longs. The exact string is both signed and sent, and its field
+     * order matches what the Map-based serialization produced.
+     */
+    private String encodeOrders(List<Order> orders, long timestamp) {
+        StringBuilder sb = new StringBuilder(64 + orders.size() * 224);
+        sb.append("{\"timestamp\":").append(timestamp).append(",\"orders\":[");
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            MarketSpec spec = marketSpecs.get(order.getSymbol());
+            int scale = spec != null ? spec.getQuantityPrecision() : FixedPoint.DEFAULT_SCALE;
+
+            if (i > 0) sb.append(',');
+            sb.append("{\"side\":\"").append(order.getType() == Order.OrderType.BUY ? "buy" : "sell")
+                    .append("\",\"order_type\":\"market_order\",\"market\":");
+            appendJsonString(sb, order.getSymbol());
+            sb.append(",\"total_quantity\":\"");
+            FixedPoint.appendPlain(sb, FixedPoint.floorUnits(order.getQuantity(), scale), scale);
+            sb.append("\",\"timestamp\":").append(timestamp)
+                    .append(",\"ecode\":\"I\",\"client_order_id\":\"");
+            UUID id = UUID.randomUUID();
+            appendHex(sb, id.getMostSignificantBits());
+            appendHex(sb, id.getLeastSignificantBits());
+            sb.append("\"}");
+        }
+        return sb.append("],\"ecode\":\"I\"}").toString();
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') sb.append('\\').append(c);
+            else if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+            else sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private static void appendHex(StringBuilder sb, long bits) {
+        for (int shift = 60; shift >= 0; shift -= 4) sb.append(Character.forDigit((int) (bits >>> shift) & 0xF, 16));
+    }
+
+    @Override
+    public List<Order> refreshOrderStatuses(List<Order> orders) {
+        if (isMissingCredentials()) return orders;
+        Map<String, Order> byId = new LinkedHashMap<>();
+        orders.forEach(o -> {
+            if (o.getOrderId() != null) byId.put(o.getOrderId(), o);
+        });
+        List<String> ids = new ArrayList<>(byId.keySet());
+        for (int from = 0; from < ids.size(); from += statusBatchSize) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + statusBatchSize));
+            try {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("ids", chunk);
+                body.put("timestamp", System.currentTimeMillis());
+
+                String jsonBody = objectMapper.writeValueAsString(body);
+                String signature = generateSignature(jsonBody);
+
+                List<CoinDCXOrderInfo> statuses = webClient.post()
+                        .uri(generalBaseUrl + orderStatusPath)
+                        .header("X-AUTH-APIKEY", apiKey)
+                        .header("X-AUTH-SIGNATURE", signature)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(jsonBody)
+                        .retrieve()
+                        .bodyToFlux(CoinDCXOrderInfo.class)
+                        .collectList()
+                        .block();
+                if (statuses != null) {
+                    statuses.forEach(info -> {
+                        Order order = byId.get(info.getId());
+                        if (order != null) applyOrderInfo(order, info);
+                    });
+                }
+            } catch (Exception e) {
+                log.error("Error fetching CoinDCX order statuses: {}", e.getMessage());
+            }
+        }
+        return orders;
+    }
+
     @Override
     public double getBalance(String asset) {
         return getPortfolio().getBalances().getOrDefault(asset, 0.0);
@@ -230,11 +351,33 @@ public class CoinDCXBroker implements Broker {
         return java.util.HexFormat.of().formatHex(hash);
     }
 
+    private void applyOrderInfo(Order order, CoinDCXOrderInfo info) {
+        order.setStatus(mapStatus(info.getStatus()));
+        if (info.getTotalQuantity() != null && info.getRemainingQuantity() != null) {
+            order.setFilledQuantity(Math.max(0.0, info.getTotalQuantity() - info.getRemainingQuantity()));
+        } else if (order.getStatus() == Order.OrderStatus.EXECUTED) {
+            order.setFilledQuantity(order.getQuantity());
+        }
+        if (info.getAvgPrice() != null && info.getAvgPrice() > 0) order.setAveragePrice(info.getAvgPrice());
+    }
+
+    private static Order.OrderStatus mapStatus(String status) {
+        if (status == null) return Order.OrderStatus.PENDING;
+        return switch (status.toLowerCase()) {
+            case "init", "open" -> Order.OrderStatus.OPEN;
+            case "partially_filled" -> Order.OrderStatus.PARTIALLY_FILLED;
+            case "filled" -> Order.OrderStatus.EXECUTED;
+            case "cancelled", "partially_cancelled" -> Order.OrderStatus.CANCELLED;
+            case "rejected" -> Order.OrderStatus.REJECTED;
+            default -> Order.OrderStatus.PENDING;
+        };
+    }
+
     private Portfolio getMockPortfolio() {
         Map<String, Double> balances = new HashMap<>();
         balances.put("BTC", 0.0);
         balances.put("INR", 10000.0);
-        return Portfolio.builder().balances(balances).totalValueInUsd(120.0).build();
+        return Portfolio.builder().balances(balances).lockedBalances(new HashMap<>()).totalValueInUsd(120.0).build();
     }
 
     @Data @NoArgsConstructor @AllArgsConstructor
@@ -262,6 +405,12 @@ public class CoinDCXBroker implements Broker {
         private String clientOrderId;
         private String status;
         private String market;
+        @JsonProperty("total_quantity")
+        private Double totalQuantity;
+        @JsonProperty("remaining_quantity")
+        private Double remainingQuantity;
+        @JsonProperty("avg_price")
+        private Double avgPrice;
     }
 
     @Data @NoArgsConstructor @AllArgsConstructor
@@ -271,5 +420,13 @@ public class CoinDCXBroker implements Broker {
         private String symbol;
         @JsonProperty("target_currency_precision")
         private int targetCurrencyPrecision;
+        @JsonProperty("base_currency_precision")
+        private int baseCurrencyPrecision;
+        @JsonProperty("min_notional")
+        private double minNotional;
+        @JsonProperty("min_quantity")
+        private double minQuantity;
+        @JsonProperty("max_quantity")
+        private double maxQuantity;
     }
 }
@@ -0,0 +1,15 @@
+package com.project.tradebot.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "routing")
+public class AdapterRoutingProperties {
+    private List<List<String>> groups = new ArrayList<>(); // adapter names that may stand in for each other
+}
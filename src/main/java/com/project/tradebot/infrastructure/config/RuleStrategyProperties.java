@@ -0,0 +1,17 @@
+package com.project.tradebot.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rules.strategy")
+public class RuleStrategyProperties {
+    private String file = ""; // optional rules file, one rule per line; takes precedence over the inline list
+    private long reloadCheckMs = 1000;
+    private List<String> rules = new ArrayList<>();
+}
@@ -0,0 +1,16 @@
+package com.project.tradebot.infrastructure.config;
+
+import com.project.tradebot.domain.model.TradingAccount;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "trading")
+public class TradingAccountsProperties {
+    private List<TradingAccount> accounts = new ArrayList<>();
+}
@@ -3,9 +3,12 @@ package com.project.tradebot.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.project.tradebot.application.ports.Broker;
+import com.project.tradebot.application.ports.HistoricalMarketData;
 import com.project.tradebot.application.ports.MarketData;
 import com.project.tradebot.application.ports.NewsSource;
+import com.project.tradebot.application.ports.PartitionCoordinator;
 import com.project.tradebot.application.ports.TradingStrategy;
+import com.project.tradebot.domain.model.TradingAccount;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -51,4 +54,24 @@ public class TradingConfig {
     public Map<String, MarketData> marketDataImplementations(List<MarketData> services) {
         return services.stream().collect(Collectors.toMap(MarketData::getName, Function.identity()));
     }
+
+    @Bean
+    public Map<String, HistoricalMarketData> historicalMarketData(List<HistoricalMarketData> services) {
+        return services.stream().collect(Collectors.toMap(HistoricalMarketData::getName, Function.identity()));
+    }
+
+    @Bean
+    public Map<String, PartitionCoordinator> partitionCoordinators(List<PartitionCoordinator> coordinators) {
+        return coordinators.stream().collect(Collectors.toMap(PartitionCoordinator::getName, Function.identity()));
+    }
+
+    @Bean
+    public List<TradingAccount> tradingAccounts(TradingAccountsProperties properties) {
+        return properties.getAccounts();
+    }
+
+    @Bean
+    public List<List<String>> adapterGroups(AdapterRoutingProperties properties) {
+        return properties.getGroups();
+    }
 }
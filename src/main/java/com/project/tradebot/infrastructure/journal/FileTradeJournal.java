@@ -0,0 +1,377 @@
+package com.project.tradebot.infrastructure.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.tradebot.application.ports.TradeJournal;
+import com.project.tradebot.domain.model.JournalEntry;
+import com.project.tradebot.domain.model.JournalState;
+import com.project.tradebot.domain.model.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal split into size-bounded segment files. Callers only serialize and enqueue;
+ * a single writer thread drains whatever has queued up and commits it with one gathering write,
+ * so concurrent pipelines share one fsync. Each record is framed as
+ * {@code [int length][int crc32c][long sequence][json payload]}.
+ */
+@Component
+@Slf4j
+public class FileTradeJournal implements TradeJournal {
+
+    public enum FsyncPolicy { ALWAYS, INTERVAL, NONE }
+
+    private static final int HEADER_BYTES = 16;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMs;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Map<String, Order> openOrders = new ConcurrentHashMap<>();
+    private final Map<String, String> openOrderBooks = new ConcurrentHashMap<>();
+    private final Map<String, Double> positions = new ConcurrentHashMap<>();
+
+    private volatile long lastSequence;
+    private volatile long lastEventSequence = -1;
+    private volatile boolean running;
+    private Thread writer;
+    private FileChannel segment;
+    private long segmentBytes;
+    private long lastFsyncAt;
+    private boolean dirty;
+
+    public FileTradeJournal(
+            ObjectMapper objectMapper,
+            @Value("${trading.journal.enabled:true}") boolean enabled,
+            @Value("${trading.journal.directory:data/journal}") String directory,
+            @Value("${trading.journal.segment-size-bytes:67108864}") long segmentSizeBytes,
+            @Value("${trading.journal.fsync-policy:INTERVAL}") FsyncPolicy fsyncPolicy,
+            @Value("${trading.journal.fsync-interval-ms:200}") long fsyncIntervalMs,
+            @Value("${trading.journal.max-batch-size:512}") int maxBatchSize) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMs = Math.max(1, fsyncIntervalMs);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Trade journal disabled");
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            long started = System.nanoTime();
+            List<Path> segments = listSegments();
+            int records = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                records += replay(segments.get(i), i == segments.size() - 1);
+            }
+            log.info("Replayed {} journal records from {} segments in {} ms; {} open orders, {} positions",
+                    records, segments.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                    openOrders.size(), positions.size());
+
+            if (!segments.isEmpty() && Files.size(segments.get(segments.size() - 1)) < segmentSizeBytes) {
+                openSegment(segments.get(segments.size() - 1));
+            } else {
+                openSegment(segmentPath(lastSequence + 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open trade journal in " + directory, e);
+        }
+
+        running = true;
+        writer = new Thread(this::writeLoop, "trade-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writer == null) return;
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (segment != null) {
+                segment.force(false);
+                segment.close();
+            }
+        } catch (IOException e) {
+            log.error("Failed to close trade journal segment: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Long> append(JournalEntry entry) {
+        if (!enabled) {
+            apply(entry);
+            return CompletableFuture.completedFuture(0L);
+        }
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        try {
+            // Serialize on the caller so later mutation of the orders cannot leak into the record
+            queue.add(new PendingAppend(entry, objectMapper.writeValueAsBytes(entry), future));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public JournalState getState() {
+        return JournalState.builder()
+                .lastSequence(lastSequence)
+                .lastEventSequence(lastEventSequence)
+                .openOrders(new HashMap<>(openOrders))
+                .openOrderBooks(new HashMap<>(openOrderBooks))
+                .positions(new HashMap<>(positions))
+                .build();
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>(maxBatchSize);
+        long pollMs = Math.min(fsyncIntervalMs, 200);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAppend first = queue.poll(pollMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    commit(batch);
+                }
+                if (fsyncPolicy == FsyncPolicy.INTERVAL) maybeFsync();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Trade journal commit failed: {}", e.getMessage());
+                batch.forEach(p -> p.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingAppend> batch) throws IOException {
+        long batchBytes = 0;
+        for (PendingAppend p : batch) batchBytes += HEADER_BYTES + p.payload().length;
+        if (segmentBytes > 0 && segmentBytes + batchBytes > segmentSizeBytes) {
+            segment.force(false);
+            segment.close();
+            openSegment(segmentPath(lastSequence + 1));
+        }
+
+        long sequence = lastSequence;
+        ByteBuffer[] frames = new ByteBuffer[batch.size()];
+        CRC32C crc = new CRC32C();
+        for (int i = 0; i < batch.size(); i++) {
+            byte[] payload = batch.get(i).payload();
+            crc.reset();
+            crc.update(payload);
+            frames[i] = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                    .putInt(payload.length)
+                    .putInt((int) crc.getValue())
+                    .putLong(++sequence)
+                    .put(payload)
+                    .flip();
+        }
+
+        long written = 0;
+        try {
+            while (written < batchBytes) {
+                written += segment.write(frames);
+            }
+            dirty = true;
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) fsync();
+        } catch (IOException e) {
+            discardFailedWrite(sequence);
+            throw e;
+        }
+        segmentBytes += batchBytes;
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingAppend p = batch.get(i);
+            long assigned = lastSequence + i + 1;
+            p.entry().setSequence(assigned);
+            apply(p.entry());
+            p.future().complete(assigned);
+        }
+        lastSequence = sequence;
+    }
+
+    /**
+     * Cuts a failed batch back off the segment, whether the write broke off part way or the fsync
+     * after it failed, so the file ends at {@code lastSequence} again and the batch's sequences are
+     * free to reuse. Replay stops at the first torn frame, so anything appended behind one would be
+     * lost; if the cut fails, the batch may still be on disk, so its sequences count as used and
+     * later appends go to a new segment named past them.
+     */
+    private void discardFailedWrite(long batchLastSequence) {
+        try {
+            segment.truncate(segmentBytes);
+            return;
+        } catch (IOException e) {
+            log.error("Failed to truncate journal segment after a failed write; rolling to a new segment: {}", e.getMessage());
+        }
+        lastSequence = batchLastSequence;
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close journal segment: {}", e.getMessage());
+        }
+        try {
+            // Past every sequence the old segment may hold, so the name cannot be the old segment's own
+            openSegment(segmentPath(batchLastSequence + 1));
+        } catch (IOException e) {
+            log.error("Failed to roll trade journal segment: {}", e.getMessage());
+        }
+    }
+
+    private void maybeFsync() throws IOException {
+        if (dirty && System.currentTimeMillis() - lastFsyncAt >= fsyncIntervalMs) fsync();
+    }
+
+    private void fsync() throws IOException {
+        segment.force(false);
+        lastFsyncAt = System.currentTimeMillis();
+        dirty = false;
+    }
+
+    private int replay(Path path, boolean lastSegment) throws IOException {
+        int records = 0;
+        long validEnd;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CRC32C crc = new CRC32C();
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int start = buffer.position();
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                long sequence = buffer.getLong();
+                if (length < 0 || length > buffer.remaining()) {
+                    buffer.position(start);
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    buffer.position(start);
+                    break;
+                }
+                JournalEntry entry = objectMapper.readValue(payload, JournalEntry.class);
+                entry.setSequence(sequence);
+                apply(entry);
+                lastSequence = sequence;
+                records++;
+            }
+            validEnd = buffer.position();
+            if (validEnd < channel.size()) {
+                if (lastSegment) {
+                    log.warn("Truncating torn journal tail in {} at byte {}", path.getFileName(), validEnd);
+                    channel.truncate(validEnd);
+                } else {
+                    log.error("Corrupt record in sealed journal segment {} at byte {}", path.getFileName(), validEnd);
+                }
+            }
+        }
+        return records;
+    }
+
+    private void apply(JournalEntry entry) {
+        if (entry.getEventSequence() != null) lastEventSequence = Math.max(lastEventSequence, entry.getEventSequence());
+        if (entry.getOrders() == null) return;
+        String book = entry.getBrokerName() == null || entry.getAccountName() == null
+                ? entry.getBrokerName() : entry.getBrokerName() + "/" + entry.getAccountName();
+        for (Order order : entry.getOrders()) {
+            if (order.getOrderId() == null || order.getStatus() == null) continue;
+            switch (order.getStatus()) {
+                case PENDING, OPEN, PARTIALLY_FILLED -> {
+                    openOrders.put(order.getOrderId(), order);
+                    if (book != null) openOrderBooks.put(order.getOrderId(), book);
+                }
+                case EXECUTED, CANCELLED -> {
+                    openOrders.remove(order.getOrderId());
+                    openOrderBooks.remove(order.getOrderId());
+                    // Older records carry no fill quantity; EXECUTED then means fully filled
+                    double filled = order.getStatus() == Order.OrderStatus.EXECUTED && order.getFilledQuantity() <= 0
+                            ? order.getQuantity() : order.getFilledQuantity();
+                    if (filled > 0) {
+                        positions.merge(order.getSymbol(), order.getType() == Order.OrderType.SELL ? -filled : filled, Double::sum);
+                    }
+                }
+                case REJECTED, FAILED -> {
+                    openOrders.remove(order.getOrderId());
+                    openOrderBooks.remove(order.getOrderId());
+                }
+            }
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void openSegment(Path path) throws IOException {
+        segment = openChannel(path);
+        segmentBytes = segment.size();
+        log.debug("Appending to journal segment {}", path.getFileName());
+    }
+
+    // Overridden by tests to inject I/O failures
+    FileChannel openChannel(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private record PendingAppend(JournalEntry entry, byte[] payload, CompletableFuture<Long> future) {}
+}
@@ -0,0 +1,216 @@
+package com.project.tradebot.infrastructure.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives concurrent /trade/execute and /market/prices traffic against a running instance (usually
+ * this one, with the {@code simulator} profile standing in for the upstreams) and reports throughput
+ * and latency percentiles per endpoint. Concurrency is stepped through {@code loadtest.concurrency-steps};
+ * a step that adds little throughput while tail latency climbs marks the saturation point.
+ * Trade traffic places real orders through the configured broker, so the driver only runs together
+ * with the {@code simulator} profile and refuses to start unless every upstream points at /sim.
+ */
+@Component
+@Profile("loadtest & simulator")
+@Slf4j
+public class LoadDriver implements ApplicationRunner {
+
+    private final WebClient webClient;
+    private final ApplicationContext applicationContext;
+    private final List<Integer> concurrencySteps;
+    private final long stepMs;
+    private final long warmupMs;
+    private final int tradeWeight;
+    private final int marketWeight;
+    private final String strategy;
+    private final String symbols;
+    private final boolean exitWhenDone;
+
+    public LoadDriver(
+            WebClient.Builder webClientBuilder,
+            ApplicationContext applicationContext,
+            @Value("${loadtest.base-url:http://localhost:${server.port:8080}}") String baseUrl,
+            @Value("${loadtest.concurrency-steps:1,4,16,64}") List<Integer> concurrencySteps,
+            @Value("${loadtest.step-duration-ms:20000}") long stepMs,
+            @Value("${loadtest.warmup-ms:5000}") long warmupMs,
+            @Value("${loadtest.trade-weight:1}") int tradeWeight,
+            @Value("${loadtest.market-weight:9}") int marketWeight,
+            @Value("${loadtest.strategy:RuleBasedStrategy}") String strategy,
+            @Value("${loadtest.symbols:BTCINR,ETHINR,SOLINR}") String symbols,
+            @Value("${loadtest.exit-when-done:false}") boolean exitWhenDone,
+            @Value("${coindcx.api.base-url:}") String brokerUrl,
+            @Value("${coindcx.api.spot-base-url:}") String spotUrl,
+            @Value("${coindcx.api.public-base-url:}") String publicUrl,
+            @Value("${news.api.url:}") String newsUrl,
+            @Value("${ollama.url:}") String ollamaUrl,
+            @Value("${google.llm.base-url:}") String geminiUrl) {
+        Map<String, String> upstreams = new LinkedHashMap<>();
+        upstreams.put("coindcx.api.base-url", brokerUrl);
+        upstreams.put("coindcx.api.spot-base-url", spotUrl);
+        upstreams.put("coindcx.api.public-base-url", publicUrl);
+        upstreams.put("news.api.url", newsUrl);
+        upstreams.put("ollama.url", ollamaUrl);
+        upstreams.put("google.llm.base-url", geminiUrl);
+        upstreams.forEach((property, url) -> {
+            if (!(url + "/").contains("/sim/")) {
+                throw new IllegalStateException("Load test refused: " + property + " points at " + url + ", not the simulator");
+            }
+        });
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.applicationContext = applicationContext;
+        this.concurrencySteps = concurrencySteps;
+        this.stepMs = Math.max(1000, stepMs);
+        this.warmupMs = Math.max(0, warmupMs);
+        this.tradeWeight = Math.max(0, tradeWeight);
+        this.marketWeight = Math.max(0, marketWeight);
+        this.strategy = strategy;
+        this.symbols = symbols;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Off the startup thread, so ApplicationReadyEvent listeners (e.g. model warm-up) still run first
+        Thread.ofPlatform().name("load-driver").daemon().start(this::runSteps);
+    }
+
+    private void runSteps() {
+        List<StepResult> results = new ArrayList<>();
+        try {
+            for (int concurrency : concurrencySteps) {
+                StepResult result = runStep(Math.max(1, concurrency));
+                results.add(result);
+                report(result, results.size() > 1 ? results.get(results.size() - 2) : null);
+            }
+        } catch (Exception e) {
+            log.error("Load test aborted: {}", e.getMessage());
+        }
+        log.info("Load test finished after {} steps", results.size());
+        if (exitWhenDone) System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private StepResult runStep(int concurrency) throws InterruptedException {
+        log.info("Load step: {} concurrent clients for {} ms (+{} ms warm-up)", concurrency, stepMs, warmupMs);
+        Map<Endpoint, Stats> stats = new LinkedHashMap<>();
+        for (Endpoint endpoint : Endpoint.values()) stats.put(endpoint, new Stats());
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(warmupMs);
+        long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(stepMs);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        Endpoint endpoint = pick();
+                        long sent = System.nanoTime();
+                        boolean ok = call(endpoint);
+                        long done = System.nanoTime();
+                        if (sent < measureFrom) continue;
+                        Stats s = stats.get(endpoint);
+                        if (ok) s.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(done - sent));
+                        else s.errors.increment();
+                    }
+                });
+            }
+        }
+
+        Map<Endpoint, Histogram> histograms = new LinkedHashMap<>();
+        Map<Endpoint, Long> errors = new LinkedHashMap<>();
+        stats.forEach((endpoint, s) -> {
+            histograms.put(endpoint, s.latency.getIntervalHistogram());
+            errors.put(endpoint, s.errors.sum());
+        });
+        return new StepResult(concurrency, stepMs, histograms, errors);
+    }
+
+    private Endpoint pick() {
+        int total = tradeWeight + marketWeight;
+        if (total == 0) return Endpoint.MARKET_PRICES;
+        return ThreadLocalRandom.current().nextInt(total) < tradeWeight ? Endpoint.TRADE_EXECUTE : Endpoint.MARKET_PRICES;
+    }
+
+    private boolean call(Endpoint endpoint) {
+        try {
+            if (endpoint == Endpoint.TRADE_EXECUTE) {
+                webClient.post()
+                        .uri(uri -> uri.path("/trade/execute").queryParam("strategy", strategy).build())
+                        .retrieve()
+                        .toBodilessEntity()
+                        .block(Duration.ofSeconds(60));
+            } else {
+                webClient.get()
+                        .uri(uri -> uri.path("/market/prices").queryParam("symbols", symbols).build())
+                        .retrieve()
+                        .toBodilessEntity()
+                        .block(Duration.ofSeconds(60));
+            }
+            return true;
+        } catch (Exception e) {
+            log.debug("{} failed: {}", endpoint, e.getMessage());
+            return false;
+        }
+    }
+
+    private void report(StepResult result, StepResult previous) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%nconcurrency=%d  total %.1f req/s%n", result.concurrency(), result.throughput()));
+        result.histograms().forEach((endpoint, h) -> sb.append(String.format(Locale.ROOT,
+                "  %-14s %8.1f req/s  errors=%-6d p50=%8.2f ms  p90=%8.2f ms  p99=%8.2f ms  p99.9=%8.2f ms  max=%8.2f ms%n",
+                endpoint, h.getTotalCount() * 1000.0 / result.durationMs(), result.errors().get(endpoint),
+                h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0, h.getValueAtPercentile(99) / 1000.0,
+                h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0)));
+        log.info(sb.toString());
+
+        if (previous != null && previous.throughput() > 0) {
+            double gain = result.throughput() / previous.throughput();
+            double tail = previous.p99Micros() > 0 ? (double) result.p99Micros() / previous.p99Micros() : 1.0;
+            if (gain < 1.1 && tail > 1.5) {
+                log.warn("Saturation: going from {} to {} clients added {}% throughput while p99 grew {}x",
+                        previous.concurrency(), result.concurrency(), Math.round((gain - 1) * 100), String.format(Locale.ROOT, "%.1f", tail));
+            }
+        }
+    }
+
+    private enum Endpoint { TRADE_EXECUTE, MARKET_PRICES }
+
+    private static final class Stats {
+        private final Recorder latency = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    private record StepResult(int concurrency, long durationMs, Map<Endpoint, Histogram> histograms, Map<Endpoint, Long> errors) {
+        private double throughput() {
+            long count = 0;
+            for (Histogram h : histograms.values()) count += h.getTotalCount();
+            return count * 1000.0 / durationMs;
+        }
+
+        private long p99Micros() {
+            Histogram all = new Histogram(3);
+            histograms.values().forEach(all::add);
+            return all.getValueAtPercentile(99);
+        }
+    }
+}
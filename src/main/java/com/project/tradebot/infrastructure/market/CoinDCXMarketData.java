@@ -1,35 +1,54 @@
 package com.project.tradebot.infrastructure.market;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.project.tradebot.application.ports.HistoricalMarketData;
 import com.project.tradebot.application.ports.MarketData;
+import com.project.tradebot.domain.model.Candle;
+import com.project.tradebot.domain.model.CandleInterval;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Component
 @Slf4j
-public class CoinDCXMarketData implements MarketData {
+public class CoinDCXMarketData implements MarketData, HistoricalMarketData {
+
+    private static final int MAX_CANDLES_PER_CALL = 1000;
 
     private final WebClient webClient;
+    private final WebClient publicWebClient;
     private final String tickerUrl;
+    private final String candlesPath;
+    private final JsonFactory jsonFactory = new JsonFactory();
 
     public CoinDCXMarketData(
             WebClient.Builder webClientBuilder,
             @Value("${coindcx.api.spot-base-url:https://apigw.coindcx.com}") String baseUrl,
-            @Value("${coindcx.api.ticker-url:/exchange/ticker}") String tickerUrl) {
+            @Value("${coindcx.api.ticker-url:/exchange/ticker}") String tickerUrl,
+            @Value("${coindcx.api.public-base-url:https://public.coindcx.com}") String publicBaseUrl,
+            @Value("${coindcx.api.candles-path:/market_data/candles}") String candlesPath) {
         this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.publicWebClient = webClientBuilder.clone().baseUrl(publicBaseUrl).build();
         this.tickerUrl = tickerUrl;
+        this.candlesPath = candlesPath;
     }
 
     @Override
@@ -38,36 +57,25 @@ public class CoinDCXMarketData implements MarketData {
 
         if (symbols == null) return Collections.emptyMap();
 
-        try {
-            List<CoinDCXTicker> tickers = webClient.get()
-                    .uri(tickerUrl)
-                    .retrieve()
-                    .bodyToFlux(CoinDCXTicker.class)
-                    .collectList()
-                    .block();
-
-            if (tickers != null) {
-                return tickers.stream()
-                        .filter(t -> t.getMarket() != null && (symbols.isEmpty() || symbols.contains(t.getMarket())))
-                        .filter(t -> t.getLastPrice() != null) // Avoid parsing null prices
-                        .collect(Collectors.toMap(
-                                CoinDCXTicker::getMarket,
-                                t -> {
-                                    try {
-                                        return Double.parseDouble(t.getLastPrice());
-                                    } catch (NumberFormatException e) {
-                                        log.warn("Failed to parse price for {}: {}", t.getMarket(), t.getLastPrice());
-                                        return 0.0;
-                                    }
-                                },
-                                (existing, replacement) -> existing
-                        ));
-            }
-        } catch (Exception e) {
-            log.error("Error fetching market prices from CoinDCX: {}. Message: {}", e.getClass().getSimpleName(), e.getMessage());
-        }
+        // Failures propagate so the routing layer can track this provider's health
+        TickerStreamParser parser = new TickerStreamParser(jsonFactory, symbols);
+        Map<String, Double> prices = webClient.get()
+                .uri(tickerUrl)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .doOnNext(buffer -> {
+                    try {
+                        parser.feed(buffer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .then(Mono.fromCallable(parser::finish))
+                .block();
 
-        return Collections.emptyMap();
+        return prices != null ? prices : Collections.emptyMap();
     }
 
     @Override
@@ -77,18 +85,71 @@ public class CoinDCXMarketData implements MarketData {
         return prices.getOrDefault(symbol, 0.0);
     }
 
+    @Override
+    public List<Candle> getCandles(String symbol, CandleInterval interval, long fromMs, long toMs) {
+        if (symbol == null || toMs <= fromMs) return List.of();
+        int limit = (int) Math.min(MAX_CANDLES_PER_CALL, Math.ceilDiv(toMs - fromMs, interval.getDurationMs()));
+        log.debug("Fetching {} {} candles for {} from CoinDCX", limit, interval.getCode(), symbol);
+
+        // Failures propagate so the caller leaves the range unfetched and retries it later
+        List<CoinDCXCandle> response = publicWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path(candlesPath)
+                        .queryParam("pair", pair(symbol))
+                        .queryParam("interval", interval.getCode())
+                        .queryParam("startTime", fromMs)
+                        .queryParam("endTime", toMs - 1)
+                        .queryParam("limit", limit)
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<CoinDCXCandle>>() {})
+                .block();
+        if (response == null) return List.of();
+
+        List<Candle> candles = new ArrayList<>(response.size());
+        for (CoinDCXCandle c : response) {
+            if (c.getTime() < fromMs || c.getTime() >= toMs) continue;
+            candles.add(Candle.builder()
+                    .symbol(symbol)
+                    .interval(interval)
+                    .openTime(c.getTime())
+                    .open(c.getOpen())
+                    .high(c.getHigh())
+                    .low(c.getLow())
+                    .close(c.getClose())
+                    .volume(c.getVolume())
+                    .build());
+        }
+        // CoinDCX lists the newest candle first
+        candles.sort(Comparator.comparingLong(Candle::getOpenTime));
+        return candles;
+    }
+
+    @Override
+    public int getMaxCandlesPerCall() {
+        return MAX_CANDLES_PER_CALL;
+    }
+
     @Override
     public String getName() {
         return "CoinDCXMarketData";
     }
 
-    @Data
-    @NoArgsConstructor
-    @AllArgsConstructor
+    /** Candle endpoints take the pair (I-BTC_INR for INR markets, B-BTC_USDT for the rest), not the ticker market. */
+    private static String pair(String symbol) {
+        if (symbol.contains("-") && symbol.contains("_")) return symbol;
+        if (symbol.endsWith("INR")) return "I-" + symbol.substring(0, symbol.length() - 3) + "_INR";
+        if (symbol.endsWith("USDT")) return "B-" + symbol.substring(0, symbol.length() - 4) + "_USDT";
+        throw new IllegalArgumentException("Cannot derive a CoinDCX pair for " + symbol);
+    }
+
+    @Data @NoArgsConstructor @AllArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
-    public static class CoinDCXTicker {
-        private String market;
-        @JsonProperty("last_price")
-        private String lastPrice;
+    public static class CoinDCXCandle {
+        private double open;
+        private double high;
+        private double low;
+        private double close;
+        private double volume;
+        private long time;
     }
 }
@@ -0,0 +1,191 @@
+package com.project.tradebot.infrastructure.market;
+
+import com.project.tradebot.application.ports.CandleStore;
+import com.project.tradebot.domain.model.Candle;
+import com.project.tradebot.domain.model.CandleInterval;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Candle cache on disk, one directory per provider, market and interval, split into files of
+ * {@value #SLOTS_PER_FILE} fixed 48-byte slots (a day of 1m candles). A slot's position gives its
+ * open time, so lookups are offset arithmetic over a memory-mapped file and need no index. Each slot
+ * is {@code [long state][double open][double high][double low][double close][double volume]}, where
+ * state is 0 for never fetched, {@link #EMPTY} for fetched without a candle (no trades, or before
+ * the market listed) and the open time otherwise. Recently used files stay mapped.
+ */
+@Component
+public class MappedCandleStore implements CandleStore {
+
+    private static final int SLOTS_PER_FILE = 1440;
+    private static final int SLOT_BYTES = 48;
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final String SUFFIX = ".candles";
+
+    private final Path directory;
+    private final int maxMappedFiles;
+    private final Map<Path, MappedByteBuffer> mapped; // guarded by itself
+    private final ReadWriteLock lock = new ReentrantReadWriteLock(); // slot contents: readers share, a write is exclusive
+
+    public MappedCandleStore(
+            @Value("${market.candles.directory:data/candles}") String directory,
+            @Value("${market.candles.max-mapped-files:256}") int maxMappedFiles) {
+        this.directory = Paths.get(directory);
+        this.maxMappedFiles = Math.max(1, maxMappedFiles);
+        this.mapped = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, MappedByteBuffer> eldest) {
+                return size() > MappedCandleStore.this.maxMappedFiles; // unmapped once collected
+            }
+        };
+    }
+
+    @Override
+    public List<Range> missing(String provider, String symbol, CandleInterval interval, long fromMs, long toMs) {
+        List<Range> ranges = new ArrayList<>();
+        long step = interval.getDurationMs();
+        long rangeStart = -1;
+        lock.readLock().lock();
+        try {
+            for (long t = interval.floor(fromMs); t < toMs; ) {
+                long fileIndex = fileIndex(interval, t);
+                long fileEnd = Math.min(toMs, (fileIndex + 1) * SLOTS_PER_FILE * step);
+                MappedByteBuffer buffer = map(provider, symbol, interval, fileIndex, false);
+                if (buffer == null) {
+                    if (rangeStart < 0) rangeStart = t;
+                    t = fileEnd;
+                    continue;
+                }
+                for (; t < fileEnd; t += step) {
+                    boolean stored = buffer.getLong(offset(interval, t)) != 0;
+                    if (!stored && rangeStart < 0) rangeStart = t;
+                    if (stored && rangeStart >= 0) {
+                        ranges.add(new Range(rangeStart, t));
+                        rangeStart = -1;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (rangeStart >= 0) ranges.add(new Range(rangeStart, toMs));
+        return ranges;
+    }
+
+    @Override
+    public List<Candle> read(String provider, String symbol, CandleInterval interval, long fromMs, long toMs) {
+        List<Candle> candles = new ArrayList<>();
+        long step = interval.getDurationMs();
+        lock.readLock().lock();
+        try {
+            for (long t = interval.floor(fromMs); t < toMs; ) {
+                long fileIndex = fileIndex(interval, t);
+                long fileEnd = Math.min(toMs, (fileIndex + 1) * SLOTS_PER_FILE * step);
+                MappedByteBuffer buffer = map(provider, symbol, interval, fileIndex, false);
+                if (buffer == null) {
+                    t = fileEnd;
+                    continue;
+                }
+                for (; t < fileEnd; t += step) {
+                    int offset = offset(interval, t);
+                    long state = buffer.getLong(offset);
+                    if (state == 0 || state == EMPTY) continue;
+                    candles.add(Candle.builder()
+                            .symbol(symbol)
+                            .interval(interval)
+                            .openTime(state)
+                            .open(buffer.getDouble(offset + 8))
+                            .high(buffer.getDouble(offset + 16))
+                            .low(buffer.getDouble(offset + 24))
+                            .close(buffer.getDouble(offset + 32))
+                            .volume(buffer.getDouble(offset + 40))
+                            .build());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candles;
+    }
+
+    @Override
+    public void write(String provider, String symbol, CandleInterval interval, long fromMs, long toMs, List<Candle> candles) {
+        long step = interval.getDurationMs();
+        Map<Long, Candle> byOpenTime = new HashMap<>();
+        for (Candle candle : candles) byOpenTime.put(interval.floor(candle.getOpenTime()), candle);
+
+        lock.writeLock().lock();
+        try {
+            for (long t = interval.floor(fromMs); t < toMs; ) {
+                long fileIndex = fileIndex(interval, t);
+                long fileEnd = Math.min(toMs, (fileIndex + 1) * SLOTS_PER_FILE * step);
+                MappedByteBuffer buffer = map(provider, symbol, interval, fileIndex, true);
+                for (; t < fileEnd; t += step) {
+                    int offset = offset(interval, t);
+                    Candle candle = byOpenTime.get(t);
+                    if (candle == null) {
+                        // Never overwrite a stored candle with "empty" from a sparser response
+                        if (buffer.getLong(offset) == 0) buffer.putLong(offset, EMPTY);
+                        continue;
+                    }
+                    buffer.putDouble(offset + 8, candle.getOpen());
+                    buffer.putDouble(offset + 16, candle.getHigh());
+                    buffer.putDouble(offset + 24, candle.getLow());
+                    buffer.putDouble(offset + 32, candle.getClose());
+                    buffer.putDouble(offset + 40, candle.getVolume());
+                    buffer.putLong(offset, t);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private MappedByteBuffer map(String provider, String symbol, CandleInterval interval, long fileIndex, boolean create) {
+        Path file = directory.resolve(safe(provider)).resolve(safe(symbol)).resolve(interval.getCode()).resolve(fileIndex + SUFFIX);
+        synchronized (mapped) {
+            MappedByteBuffer buffer = mapped.get(file);
+            if (buffer != null) return buffer;
+            if (!create && !Files.exists(file)) return null;
+            try {
+                Files.createDirectories(file.getParent());
+                // Mapping past the end grows the file; the new slots read as zero, i.e. never fetched
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SLOTS_PER_FILE * SLOT_BYTES);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map candle file " + file, e);
+            }
+            mapped.put(file, buffer);
+            return buffer;
+        }
+    }
+
+    private static long fileIndex(CandleInterval interval, long openTime) {
+        return Math.floorDiv(openTime, interval.getDurationMs() * SLOTS_PER_FILE);
+    }
+
+    private static int offset(CandleInterval interval, long openTime) {
+        return (int) Math.floorMod(Math.floorDiv(openTime, interval.getDurationMs()), (long) SLOTS_PER_FILE) * SLOT_BYTES;
+    }
+
+    private static String safe(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
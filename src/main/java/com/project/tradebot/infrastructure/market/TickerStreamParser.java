@@ -0,0 +1,176 @@
+package com.project.tradebot.infrastructure.market;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental parser for the CoinDCX ticker array. Response buffers are fed to Jackson's
+ * non-blocking parser as they arrive; market names are matched against the requested symbols
+ * directly on the parser's char buffer, so unrequested markets never become objects or strings,
+ * and {@code last_price} is converted to a double without an intermediate String.
+ */
+@Slf4j
+final class TickerStreamParser {
+
+    private static final int FIELD_OTHER = 0;
+    private static final int FIELD_MARKET = 1;
+    private static final int FIELD_LAST_PRICE = 2;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final boolean allMarkets;
+    private final String[] wantedNames;
+    private final char[][] wantedChars;
+    private final Map<String, Double> prices = new HashMap<>();
+    private byte[] scratch = new byte[8192];
+
+    private int depth;
+    private int field;
+    private String market;
+    private boolean skip;
+    private boolean hasPrice;
+    private double price;
+
+    TickerStreamParser(JsonFactory jsonFactory, Set<String> symbols) throws IOException {
+        this.parser = jsonFactory.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.allMarkets = symbols.isEmpty();
+        this.wantedNames = symbols.toArray(new String[0]);
+        this.wantedChars = new char[wantedNames.length][];
+        for (int i = 0; i < wantedNames.length; i++) wantedChars[i] = wantedNames[i].toCharArray();
+    }
+
+    void feed(DataBuffer buffer) throws IOException {
+        int length = buffer.readableByteCount();
+        if (scratch.length < length) scratch = new byte[Math.max(length, scratch.length * 2)];
+        buffer.read(scratch, 0, length);
+        feeder.feedInput(scratch, 0, length);
+        drain();
+    }
+
+    Map<String, Double> finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        parser.close();
+        return prices;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    depth++;
+                    if (depth == 2) resetTicker();
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (depth == 2) completeTicker();
+                    depth--;
+                }
+                case FIELD_NAME -> field = depth == 2 ? fieldId(parser.currentName()) : FIELD_OTHER;
+                case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                    if (depth == 2 && !skip) onValue(token);
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void onValue(JsonToken token) throws IOException {
+        if (field == FIELD_MARKET && token == JsonToken.VALUE_STRING) {
+            market = matchMarket();
+            skip = market == null;
+        } else if (field == FIELD_LAST_PRICE) {
+            try {
+                price = token == JsonToken.VALUE_STRING
+                        ? parseDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                        : parser.getDoubleValue();
+                hasPrice = true;
+            } catch (NumberFormatException e) {
+                // A zero price would read as a crash to the strategy; leave the market out instead
+                log.warn("Failed to parse price for {}: {}", market, parser.getText());
+                hasPrice = false;
+            }
+        }
+    }
+
+    private void resetTicker() {
+        field = FIELD_OTHER;
+        market = null;
+        skip = false;
+        hasPrice = false;
+    }
+
+    private void completeTicker() {
+        if (!skip && market != null && hasPrice) prices.putIfAbsent(market, price);
+    }
+
+    private static int fieldId(String name) {
+        // Jackson canonicalizes field names, so this compares interned strings without allocating
+        if ("market".equals(name)) return FIELD_MARKET;
+        if ("last_price".equals(name)) return FIELD_LAST_PRICE;
+        return FIELD_OTHER;
+    }
+
+    private String matchMarket() throws IOException {
+        if (allMarkets) return parser.getText();
+        char[] buf = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        for (int i = 0; i < wantedChars.length; i++) {
+            char[] wanted = wantedChars[i];
+            if (wanted.length != length) continue;
+            int j = 0;
+            while (j < length && wanted[j] == buf[offset + j]) j++;
+            if (j == length) return wantedNames[i];
+        }
+        return null;
+    }
+
+    // Exact fast path for plain decimals (mantissa < 2^53, at most 22 fractional digits); anything else goes to Double.parseDouble
+    static double parseDecimal(char[] buf, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int scale = 0;
+        boolean seenDot = false;
+        boolean seenDigit = false;
+        for (; i < end; i++) {
+            char c = buf[i];
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (mantissa > (Long.MAX_VALUE - 9) / 10) return Double.parseDouble(new String(buf, offset, length));
+                mantissa = mantissa * 10 + (c - '0');
+                if (seenDot) scale++;
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                return Double.parseDouble(new String(buf, offset, length));
+            }
+        }
+        if (!seenDigit) throw new NumberFormatException("Not a number: " + new String(buf, offset, length));
+        if (mantissa >= (1L << 53) || scale >= POWERS_OF_TEN.length) return Double.parseDouble(new String(buf, offset, length));
+        double value = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+}
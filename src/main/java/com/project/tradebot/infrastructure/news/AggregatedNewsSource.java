@@ -0,0 +1,147 @@
+package com.project.tradebot.infrastructure.news;
+
+import com.project.tradebot.application.ports.NewsSource;
+import com.project.tradebot.application.service.AdapterHealthRegistry;
+import com.project.tradebot.domain.model.News;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Polls every other registered {@link NewsSource} concurrently, each under its own timeout, and
+ * merges the results newest-first with cross-source dedup on normalized title and URL. A slow or
+ * failing feed only loses its own items, and total latency is bounded by the slowest feed rather
+ * than the sum of all of them. Sources whose circuit is open in {@link AdapterHealthRegistry} are
+ * skipped, so a feed that is known to be down does not cost a timeout every cycle. Sources are
+ * identified by {@link NewsSource#getName()}; of several with the same name only the first is polled.
+ */
+@Component
+@Slf4j
+public class AggregatedNewsSource implements NewsSource {
+
+    private final ObjectProvider<NewsSource> sourceProvider;
+    private final AdapterHealthRegistry adapterHealth;
+    private final long timeoutMs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AggregatedNewsSource(
+            ObjectProvider<NewsSource> sourceProvider,
+            AdapterHealthRegistry adapterHealth,
+            @Value("${news.aggregate.timeout-ms:5000}") long timeoutMs) {
+        this.sourceProvider = sourceProvider;
+        this.adapterHealth = adapterHealth;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public List<News> fetchNews() {
+        // Resolved lazily: the other sources are beans of the same type as this one
+        Map<String, NewsSource> byName = new LinkedHashMap<>();
+        sourceProvider.orderedStream().filter(s -> s != this).forEach(source -> {
+            NewsSource previous = byName.putIfAbsent(source.getName(), source);
+            if (previous != null) log.warn("Ignoring news source {}: another source already uses the name {}", source.getClass().getSimpleName(), source.getName());
+        });
+        List<NewsSource> sources = List.copyOf(byName.values());
+        sources.forEach(source -> adapterHealth.registerProbe(AdapterHealthRegistry.NEWS, source.getName(), source::fetchNews));
+        List<NewsSource> available = sources.stream()
+                .filter(source -> adapterHealth.isAvailable(AdapterHealthRegistry.NEWS, source.getName()))
+                .toList();
+        if (available.size() < sources.size()) {
+            log.info("Skipping {} news source(s) with an open circuit", sources.size() - available.size());
+        }
+
+        long started = System.nanoTime();
+        Map<String, CompletableFuture<List<News>>> futures = new LinkedHashMap<>();
+        for (NewsSource source : available) {
+            futures.put(source.getName(), CompletableFuture
+                    .supplyAsync(source::fetchNews, executor)
+                    .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                    .whenComplete((items, e) -> {
+                        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                        if (e == null) adapterHealth.recordSuccess(AdapterHealthRegistry.NEWS, source.getName(), elapsedMs);
+                        else adapterHealth.recordFailure(AdapterHealthRegistry.NEWS, source.getName(), elapsedMs, e.getCause() != null ? e.getCause() : e);
+                    })
+                    .exceptionally(e -> {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        if (cause instanceof TimeoutException) {
+                            log.warn("News source {} timed out after {} ms; dropping its items", source.getName(), timeoutMs);
+                        } else {
+                            log.error("News source {} failed: {}", source.getName(), cause.getMessage());
+                        }
+                        return List.of();
+                    }));
+        }
+
+        List<News> merged = new ArrayList<>();
+        futures.forEach((name, future) -> {
+            List<News> items = future.join();
+            log.debug("News source {} returned {} items", name, items.size());
+            merged.addAll(items);
+        });
+
+        merged.sort(Comparator.comparing(News::getTimestamp, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        Set<String> seenTitles = new HashSet<>();
+        Set<String> seenUrls = new HashSet<>();
+        List<News> result = new ArrayList<>(merged.size());
+        for (News news : merged) {
+            String title = normalizeTitle(news.getTitle());
+            String url = normalizeUrl(news.getUrl());
+            boolean duplicate = (!title.isEmpty() && seenTitles.contains(title)) || (!url.isEmpty() && seenUrls.contains(url));
+            if (!title.isEmpty()) seenTitles.add(title);
+            if (!url.isEmpty()) seenUrls.add(url);
+            if (!duplicate) result.add(news);
+        }
+
+        log.info("Aggregated {} news items ({} before dedup) from {} sources", result.size(), merged.size(), available.size());
+        return result;
+    }
+
+    @Override
+    public String getName() {
+        return "AggregatedNewsSource";
+    }
+
+    private static String normalizeTitle(String title) {
+        if (title == null) return "";
+        StringBuilder sb = new StringBuilder(title.length());
+        for (int i = 0; i < title.length(); i++) {
+            char c = Character.toLowerCase(title.charAt(i));
+            if (Character.isLetterOrDigit(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static String normalizeUrl(String url) {
+        if (url == null) return "";
+        String normalized = url.trim().toLowerCase(Locale.ROOT);
+        int query = normalized.indexOf('?');
+        if (query >= 0) normalized = normalized.substring(0, query);
+        int fragment = normalized.indexOf('#');
+        if (fragment >= 0) normalized = normalized.substring(0, fragment);
+        normalized = normalized.replaceFirst("^https?://(www\\.)?", "");
+        while (normalized.endsWith("/")) normalized = normalized.substring(0, normalized.length() - 1);
+        return normalized;
+    }
+}
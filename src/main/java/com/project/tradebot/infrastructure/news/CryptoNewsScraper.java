@@ -34,22 +34,18 @@ public class CryptoNewsScraper implements NewsSource {
     public List<News> fetchNews() {
         log.info("Fetching latest crypto news from: {}", newsApiUrl);
 
-        try {
-            CryptoCompareResponse response = webClient.get()
-                    .uri(newsApiUrl)
-                    .retrieve()
-                    .bodyToMono(CryptoCompareResponse.class)
-                    .block();
+        // Failures propagate so the routing layer and the aggregator can track this feed's health
+        CryptoCompareResponse response = webClient.get()
+                .uri(newsApiUrl)
+                .retrieve()
+                .bodyToMono(CryptoCompareResponse.class)
+                .block();
 
-            if (response != null && response.getData() != null) {
-                return response.getData().stream()
-                        .map(this::mapToDomain)
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            log.error("Error fetching news from CryptoCompare: {}", e.getMessage());
+        if (response != null && response.getData() != null) {
+            return response.getData().stream()
+                    .map(this::mapToDomain)
+                    .collect(Collectors.toList());
         }
-
         return new ArrayList<>();
     }
 
@@ -58,6 +54,7 @@ public class CryptoNewsScraper implements NewsSource {
                 .title(data.getTitle())
                 .description(data.getBody())
                 .source(data.getSource())
+                .url(data.getUrl())
                 .timestamp(LocalDateTime.ofInstant(Instant.ofEpochSecond(data.getPublishedOn()), ZoneId.systemDefault()))
                 .sentiment("NEUTRAL") // API doesn't provide sentiment directly in this endpoint
                 .build();
@@ -83,6 +80,7 @@ public class CryptoNewsScraper implements NewsSource {
         private String title;
         private String body;
         private String source;
+        private String url;
         @JsonProperty("published_on")
         private long publishedOn;
     }
@@ -0,0 +1,95 @@
+package com.project.tradebot.infrastructure.partition;
+
+import com.project.tradebot.application.ports.PartitionCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Membership through a directory every instance can reach (local disk for instances on one host,
+ * or a shared mount). Each node keeps {@code <nodeId>.node} touched; a file not touched within
+ * {@code partitioning.member-ttl-ms} counts as a node that died without leaving.
+ */
+@Component
+@Slf4j
+public class FilePartitionCoordinator implements PartitionCoordinator {
+
+    private static final String SUFFIX = ".node";
+
+    private final Path directory;
+    private final long memberTtlMs;
+
+    public FilePartitionCoordinator(
+            @Value("${partitioning.file.directory:data/partition}") String directory,
+            @Value("${partitioning.member-ttl-ms:10000}") long memberTtlMs) {
+        this.directory = Paths.get(directory);
+        this.memberTtlMs = Math.max(1000, memberTtlMs);
+    }
+
+    @Override
+    public String getName() {
+        return "FilePartitionCoordinator";
+    }
+
+    @Override
+    public void join(String nodeId) {
+        Path file = file(nodeId);
+        try {
+            if (Files.exists(file)) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                return;
+            }
+            Files.createDirectories(directory);
+            // Written aside and moved in, so a reader never sees a half-written member
+            Path temp = Files.createTempFile(directory, "member-", ".tmp");
+            Files.writeString(temp, nodeId);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to register partition member " + nodeId, e);
+        }
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        try {
+            Files.deleteIfExists(file(nodeId));
+        } catch (IOException e) {
+            log.warn("Failed to remove partition member {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Set<String> members() {
+        Set<String> members = new TreeSet<>();
+        if (!Files.isDirectory(directory)) return members;
+        long cutoff = System.currentTimeMillis() - memberTtlMs;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < cutoff) continue;
+                    members.add(Files.readString(file).trim());
+                } catch (IOException e) {
+                    log.debug("Skipping partition member file {}: {}", file, e.getMessage()); // left while we were listing
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list partition members in " + directory, e);
+        }
+        return members;
+    }
+
+    private Path file(String nodeId) {
+        return directory.resolve(nodeId.replaceAll("[^A-Za-z0-9._-]", "_") + SUFFIX);
+    }
+}
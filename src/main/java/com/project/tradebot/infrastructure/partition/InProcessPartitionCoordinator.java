@@ -0,0 +1,48 @@
+package com.project.tradebot.infrastructure.partition;
+
+import com.project.tradebot.application.ports.PartitionCoordinator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Membership held in a JVM-wide map, so several application contexts started in one process (as in
+ * tests) see each other. Not a coordinator for separate processes; use the file coordinator there.
+ */
+@Component
+public class InProcessPartitionCoordinator implements PartitionCoordinator {
+
+    private static final Map<String, Long> LAST_SEEN = new ConcurrentHashMap<>();
+
+    private final long memberTtlMs;
+
+    public InProcessPartitionCoordinator(@Value("${partitioning.member-ttl-ms:10000}") long memberTtlMs) {
+        this.memberTtlMs = Math.max(1000, memberTtlMs);
+    }
+
+    @Override
+    public String getName() {
+        return "InProcessPartitionCoordinator";
+    }
+
+    @Override
+    public void join(String nodeId) {
+        LAST_SEEN.put(nodeId, System.currentTimeMillis());
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        LAST_SEEN.remove(nodeId);
+    }
+
+    @Override
+    public Set<String> members() {
+        long cutoff = System.currentTimeMillis() - memberTtlMs;
+        LAST_SEEN.values().removeIf(seen -> seen < cutoff);
+        return new TreeSet<>(LAST_SEEN.keySet());
+    }
+}
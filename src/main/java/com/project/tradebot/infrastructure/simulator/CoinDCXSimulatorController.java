@@ -0,0 +1,201 @@
+package com.project.tradebot.infrastructure.simulator;
+
+import com.project.tradebot.domain.model.CandleInterval;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stand-in for the CoinDCX endpoints the market data and broker adapters call. Prices random-walk
+ * on every ticker request; orders are accepted as open and report filled after
+ * {@code simulator.fill-delay-ms}. Candles are derived from the pair and open time, so a range
+ * fetched twice comes back identical. The payload size is the number of markets listed.
+ */
+@RestController
+@Profile("simulator")
+@RequestMapping("/sim/coindcx")
+public class CoinDCXSimulatorController {
+
+    private static final String UPSTREAM = "coindcx";
+    private static final String[] KNOWN_ASSETS = { "BTC", "ETH", "SOL", "XRP", "DOGE", "ADA", "MATIC", "DOT", "LTC", "TRX", "AVAX", "LINK" };
+    private static final long ORDER_RETENTION_MS = 600_000;
+
+    private final UpstreamSimulator simulator;
+    private final SimulatorProperties properties;
+    private final Map<String, Double> prices = new ConcurrentHashMap<>();
+    private final Map<String, SimulatedOrder> orders = new ConcurrentHashMap<>();
+
+    public CoinDCXSimulatorController(UpstreamSimulator simulator, SimulatorProperties properties) {
+        this.simulator = simulator;
+        this.properties = properties;
+    }
+
+    @GetMapping("/exchange/ticker")
+    public List<Map<String, Object>> ticker() {
+        int size = simulator.respond(UPSTREAM).getPayloadSize();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis() / 1000;
+        List<Map<String, Object>> result = new ArrayList<>(size);
+        for (String market : markets(size)) {
+            double price = prices.compute(market, (k, p) -> p == null ? initialPrice(k) : p * (1 + random.nextGaussian() * 0.002));
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("market", market);
+            entry.put("change_24_hour", String.format("%.3f", random.nextGaussian() * 2));
+            entry.put("high", Double.toString(price * 1.02));
+            entry.put("low", Double.toString(price * 0.98));
+            entry.put("volume", Double.toString(random.nextDouble(1e6)));
+            entry.put("last_price", Double.toString(price));
+            entry.put("bid", price * 0.999);
+            entry.put("ask", price * 1.001);
+            entry.put("timestamp", now);
+            result.add(entry);
+        }
+        return result;
+    }
+
+    @GetMapping("/exchange/v1/markets_details")
+    public List<Map<String, Object>> marketDetails() {
+        int size = simulator.respond(UPSTREAM).getPayloadSize();
+        List<Map<String, Object>> result = new ArrayList<>(size);
+        for (String market : markets(size)) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("coindcx_name", market);
+            entry.put("symbol", market);
+            entry.put("base_currency_short_name", "INR");
+            entry.put("target_currency_short_name", market.substring(0, market.length() - 3));
+            entry.put("target_currency_precision", market.startsWith("BTC") ? 5 : 3);
+            entry.put("base_currency_precision", 2);
+            entry.put("min_notional", 100.0);
+            entry.put("min_quantity", market.startsWith("BTC") ? 0.00001 : 0.001);
+            entry.put("max_quantity", 1_000_000.0);
+            entry.put("status", "active");
+            result.add(entry);
+        }
+        return result;
+    }
+
+    @GetMapping("/market_data/candles")
+    public List<Map<String, Object>> candles(
+            @RequestParam String pair,
+            @RequestParam String interval,
+            @RequestParam long startTime,
+            @RequestParam long endTime,
+            @RequestParam(defaultValue = "500") int limit) {
+        simulator.respond(UPSTREAM);
+        CandleInterval candleInterval = CandleInterval.fromCode(interval);
+        String market = pair.replaceFirst("^[A-Z]-", "").replace("_", "");
+        long last = Math.min(endTime, System.currentTimeMillis());
+        List<Map<String, Object>> result = new ArrayList<>();
+        // Newest first, like the exchange
+        for (long t = candleInterval.floor(last); t >= startTime && result.size() < limit; t -= candleInterval.getDurationMs()) {
+            SplittableRandom random = new SplittableRandom(market.hashCode() * 31L + t);
+            double open = initialPrice(market) * (1 + (random.nextDouble() - 0.5) * 0.1);
+            double close = open * (1 + (random.nextDouble() - 0.5) * 0.01);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("open", open);
+            entry.put("high", Math.max(open, close) * (1 + random.nextDouble() * 0.002));
+            entry.put("low", Math.min(open, close) * (1 - random.nextDouble() * 0.002));
+            entry.put("volume", random.nextDouble(1e3));
+            entry.put("close", close);
+            entry.put("time", t);
+            result.add(entry);
+        }
+        return result;
+    }
+
+    @PostMapping("/exchange/v1/users/balances")
+    public List<Map<String, Object>> balances() {
+        simulator.respond(UPSTREAM);
+        List<Map<String, Object>> result = new ArrayList<>();
+        result.add(balance("INR", 1_000_000.0));
+        result.add(balance("BTC", 0.05));
+        result.add(balance("ETH", 1.5));
+        result.add(balance("SOL", 20.0));
+        return result;
+    }
+
+    @PostMapping("/exchange/v1/orders/create_multiple")
+    public Map<String, Object> createOrders(@RequestBody Map<String, Object> body) {
+        simulator.respond(UPSTREAM);
+        long now = System.currentTimeMillis();
+        orders.values().removeIf(o -> now - o.createdAt() > ORDER_RETENTION_MS);
+
+        List<Map<String, Object>> accepted = new ArrayList<>();
+        Object requested = body.get("orders");
+        if (requested instanceof List<?> list) {
+            for (Object item : list) {
+                if (!(item instanceof Map<?, ?> request)) continue;
+                String market = String.valueOf(request.get("market"));
+                double quantity = Double.parseDouble(String.valueOf(request.get("total_quantity")));
+                SimulatedOrder order = new SimulatedOrder(UUID.randomUUID().toString(), String.valueOf(request.get("client_order_id")),
+                        market, quantity, prices.computeIfAbsent(market, this::initialPrice), now);
+                orders.put(order.id(), order);
+                accepted.add(order.toInfo(now, properties.getFillDelayMs()));
+            }
+        }
+        return Map.of("orders", accepted);
+    }
+
+    @PostMapping("/exchange/v1/orders/status_multiple")
+    public List<Map<String, Object>> orderStatuses(@RequestBody Map<String, Object> body) {
+        simulator.respond(UPSTREAM);
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> result = new ArrayList<>();
+        if (body.get("ids") instanceof List<?> ids) {
+            for (Object id : ids) {
+                SimulatedOrder order = orders.get(String.valueOf(id));
+                if (order != null) result.add(order.toInfo(now, properties.getFillDelayMs()));
+            }
+        }
+        return result;
+    }
+
+    private static List<String> markets(int size) {
+        List<String> markets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            markets.add(i < KNOWN_ASSETS.length ? KNOWN_ASSETS[i] + "INR" : "SIM" + i + "INR");
+        }
+        return markets;
+    }
+
+    private double initialPrice(String market) {
+        // Stable per market so restarts of the walk land in the same range
+        return 10 + Math.abs(market.hashCode() % 5_000_000) / 10.0;
+    }
+
+    private static Map<String, Object> balance(String currency, double amount) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("currency", currency);
+        entry.put("balance", amount);
+        entry.put("locked_balance", 0.0);
+        return entry;
+    }
+
+    private record SimulatedOrder(String id, String clientOrderId, String market, double quantity, double price, long createdAt) {
+        private Map<String, Object> toInfo(long now, long fillDelayMs) {
+            boolean filled = now - createdAt >= fillDelayMs;
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("id", id);
+            info.put("client_order_id", clientOrderId);
+            info.put("market", market);
+            info.put("status", filled ? "filled" : "open");
+            info.put("total_quantity", quantity);
+            info.put("remaining_quantity", filled ? 0.0 : quantity);
+            info.put("avg_price", filled ? price : 0.0);
+            return info;
+        }
+    }
+}
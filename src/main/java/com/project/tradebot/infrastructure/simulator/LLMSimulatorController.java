@@ -0,0 +1,76 @@
+package com.project.tradebot.infrastructure.simulator;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stand-ins for Ollama's {@code /api/generate} and Gemini's {@code generateContent}. Answers are
+ * signal lists over the markets named in the prompt; the payload size is the number of signals per
+ * context. Latency is usually the profile that matters here.
+ */
+@RestController
+@Profile("simulator")
+@RequestMapping("/sim")
+public class LLMSimulatorController {
+
+    private final UpstreamSimulator simulator;
+
+    public LLMSimulatorController(UpstreamSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @PostMapping("/ollama/api/generate")
+    public Map<String, Object> ollamaGenerate(@RequestBody Map<String, Object> request) {
+        long started = System.nanoTime();
+        int size = simulator.respond("ollama").getPayloadSize();
+        String prompt = String.valueOf(request.getOrDefault("prompt", ""));
+
+        // A session warm-up asks for one token; answer with a context to continue from
+        Object options = request.get("options");
+        boolean warmUp = options instanceof Map<?, ?> o && Integer.valueOf(1).equals(o.get("num_predict"));
+        List<Integer> context = new ArrayList<>();
+        for (int i = 0; i < Math.min(256, prompt.length() / 4); i++) context.add(i);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("model", request.get("model"));
+        response.put("response", warmUp ? "" : SimulatedSignals.answer(prompt, size));
+        response.put("done", true);
+        response.put("context", context);
+        response.put("prompt_eval_count", prompt.length() / 4);
+        response.put("prompt_eval_duration", System.nanoTime() - started);
+        return response;
+    }
+
+    @PostMapping("/gemini/v1beta/models/{model}:generateContent")
+    public Map<String, Object> geminiGenerate(@PathVariable String model, @RequestBody Map<String, Object> request) {
+        int size = simulator.respond("gemini").getPayloadSize();
+        String text = SimulatedSignals.answer(promptOf(request), size);
+        Map<String, Object> content = Map.of("role", "model", "parts", List.of(Map.of("text", text)));
+        return Map.of(
+                "candidates", List.of(Map.of("content", content, "finishReason", "STOP")),
+                "modelVersion", model);
+    }
+
+    private static String promptOf(Map<String, Object> request) {
+        StringBuilder sb = new StringBuilder();
+        if (request.get("contents") instanceof List<?> contents) {
+            for (Object content : contents) {
+                if (content instanceof Map<?, ?> c && c.get("parts") instanceof List<?> parts) {
+                    for (Object part : parts) {
+                        if (part instanceof Map<?, ?> p && p.get("text") != null) sb.append(p.get("text"));
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
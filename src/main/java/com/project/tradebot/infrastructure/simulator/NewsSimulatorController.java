@@ -0,0 +1,55 @@
+package com.project.tradebot.infrastructure.simulator;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Stand-in for the CryptoCompare news API. The payload size is the number of articles returned. */
+@RestController
+@Profile("simulator")
+@RequestMapping("/sim/cryptocompare")
+public class NewsSimulatorController {
+
+    private static final String UPSTREAM = "news";
+    private static final String[] ASSETS = { "Bitcoin", "Ethereum", "Solana", "XRP", "Dogecoin", "Cardano" };
+    private static final String[] EVENTS = {
+            "rallies as ETF inflows accelerate", "slides after exchange outage", "holds steady ahead of Fed decision",
+            "jumps on network upgrade news", "drops as regulators widen probe", "sees record on-chain activity" };
+    private static final String[] SOURCES = { "coindesk", "cointelegraph", "decrypt", "theblock" };
+
+    private final UpstreamSimulator simulator;
+
+    public NewsSimulatorController(UpstreamSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @GetMapping("/data/v2/news/")
+    public Map<String, Object> news() {
+        int size = simulator.respond(UPSTREAM).getPayloadSize();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis() / 1000;
+        List<Map<String, Object>> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String asset = ASSETS[random.nextInt(ASSETS.length)];
+            String title = asset + " " + EVENTS[random.nextInt(EVENTS.length)];
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", Long.toString(now * 1000 + i));
+            item.put("published_on", now - random.nextInt(600));
+            item.put("title", title);
+            item.put("url", "https://news.example/" + (now * 1000 + i));
+            item.put("body", title + ". Traders watched " + asset + " closely as volumes moved "
+                    + (random.nextBoolean() ? "higher" : "lower") + " across major venues.");
+            item.put("source", SOURCES[random.nextInt(SOURCES.length)]);
+            item.put("categories", asset.toUpperCase() + "|MARKET");
+            items.add(item);
+        }
+        return Map.of("Type", 100, "Message", "News list successfully returned", "Data", items);
+    }
+}
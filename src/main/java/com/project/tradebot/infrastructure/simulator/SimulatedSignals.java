@@ -0,0 +1,45 @@
+package com.project.tradebot.infrastructure.simulator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Builds a plausible model answer for a strategy prompt: a JSON signal list over the prompt's markets. */
+final class SimulatedSignals {
+
+    private static final Pattern MARKET = Pattern.compile("\\b([A-Z0-9]{2,10})INR=");
+    private static final Pattern CONTEXT = Pattern.compile("(?m)^Context (\\d+):");
+    private static final String[] TYPES = { "BUY", "SELL", "HOLD" };
+
+    private SimulatedSignals() {
+    }
+
+    static String answer(String prompt, int signalsPerContext) {
+        Set<String> symbols = new LinkedHashSet<>();
+        Matcher m = MARKET.matcher(prompt == null ? "" : prompt);
+        while (m.find()) symbols.add(m.group(1));
+        List<String> pool = symbols.isEmpty() ? List.of("BTC", "ETH", "SOL") : new ArrayList<>(symbols);
+
+        int contexts = 0;
+        Matcher c = CONTEXT.matcher(prompt == null ? "" : prompt);
+        while (c.find()) contexts = Math.max(contexts, Integer.parseInt(c.group(1)) + 1);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringJoiner json = new StringJoiner(", ", "[", "]");
+        for (int context = 0; context < Math.max(1, contexts); context++) {
+            for (int i = 0; i < signalsPerContext; i++) {
+                json.add(String.format(Locale.ROOT,
+                        "{%s\"symbol\": \"%s\", \"type\": \"%s\", \"confidence\": %.2f, \"reason\": \"Simulated signal %d\"}",
+                        contexts > 0 ? "\"context\": " + context + ", " : "",
+                        pool.get(random.nextInt(pool.size())), TYPES[random.nextInt(TYPES.length)], random.nextDouble(0.5, 1.0), i));
+            }
+        }
+        return json.toString();
+    }
+}
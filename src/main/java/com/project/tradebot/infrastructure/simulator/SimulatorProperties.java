@@ -0,0 +1,33 @@
+package com.project.tradebot.infrastructure.simulator;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@Profile("simulator")
+@ConfigurationProperties(prefix = "simulator")
+public class SimulatorProperties {
+    private Map<String, UpstreamProfile> upstreams = new HashMap<>(); // coindcx, news, ollama, gemini
+    private long fillDelayMs = 1000; // simulated orders stay open this long before filling
+
+    public UpstreamProfile profile(String upstream) {
+        return upstreams.getOrDefault(upstream, UpstreamProfile.DEFAULT);
+    }
+
+    @Data
+    public static class UpstreamProfile {
+        private static final UpstreamProfile DEFAULT = new UpstreamProfile();
+
+        private long latencyMs = 0;
+        private long jitterMs = 0; // uniform extra delay in [0, jitter-ms]
+        private double errorRate = 0.0; // share of requests answered with error-status
+        private int errorStatus = 503;
+        private int payloadSize = 10; // markets, news items or signals per response
+    }
+}
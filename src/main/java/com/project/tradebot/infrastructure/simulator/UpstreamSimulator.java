@@ -0,0 +1,37 @@
+package com.project.tradebot.infrastructure.simulator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Applies an upstream's configured latency and error profile to a simulated request. */
+@Component
+@Profile("simulator")
+@RequiredArgsConstructor
+class UpstreamSimulator {
+
+    private final SimulatorProperties properties;
+
+    /** Sleeps for the profile's latency and throws the configured error status at its error rate. */
+    SimulatorProperties.UpstreamProfile respond(String upstream) {
+        SimulatorProperties.UpstreamProfile profile = properties.profile(upstream);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMs = profile.getLatencyMs() + (profile.getJitterMs() > 0 ? random.nextLong(profile.getJitterMs() + 1) : 0);
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted");
+            }
+        }
+        if (profile.getErrorRate() > 0 && random.nextDouble() < profile.getErrorRate()) {
+            throw new ResponseStatusException(HttpStatus.valueOf(profile.getErrorStatus()), "Simulated " + upstream + " failure");
+        }
+        return profile;
+    }
+}
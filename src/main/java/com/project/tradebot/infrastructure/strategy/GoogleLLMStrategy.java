@@ -1,9 +1,9 @@
 package com.project.tradebot.infrastructure.strategy;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.project.tradebot.application.ports.TradingStrategy;
+import com.project.tradebot.application.ports.BatchTradingStrategy;
+import com.project.tradebot.application.service.StrategyParseMetrics;
 import com.project.tradebot.domain.model.TradeContext;
 import com.project.tradebot.domain.model.TradeSignal;
 import lombok.AllArgsConstructor;
@@ -15,15 +15,20 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @Slf4j
-public class GoogleLLMStrategy implements TradingStrategy {
+public class GoogleLLMStrategy implements BatchTradingStrategy {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final StrategyParseMetrics parseMetrics;
+
+    // Gemini's response schema (OpenAPI subset, upper-case type names)
+    private static final Map<String, Object> SIGNAL_SCHEMA = SignalParser.schema(false, true);
+    private static final Map<String, Object> BATCH_SIGNAL_SCHEMA = SignalParser.schema(true, true);
 
     @Value("${google.llm.model:gemini-3-flash-preview}")
     private String modelName;
@@ -31,78 +36,74 @@ public class GoogleLLMStrategy implements TradingStrategy {
     @Value("${google.llm.api-key:}")
     private String apiKey;
 
-    private static final String API_URL_TEMPLATE = "https://generativelanguage.googleapis.com/v1beta/models/%s:generateContent";
+    @Value("${google.llm.base-url:https://generativelanguage.googleapis.com}")
+    private String baseUrl;
+
+    private static final String API_PATH_TEMPLATE = "/v1beta/models/%s:generateContent";
 
-    public GoogleLLMStrategy(WebClient.Builder webClientBuilder, ObjectMapper objectMapper) {
+    public GoogleLLMStrategy(WebClient.Builder webClientBuilder, ObjectMapper objectMapper, StrategyParseMetrics parseMetrics) {
         this.webClient = webClientBuilder.build();
         this.objectMapper = objectMapper;
+        this.parseMetrics = parseMetrics;
     }
 
     @Override
     public List<TradeSignal> generateSignals(TradeContext context) {
-        if (apiKey == null || apiKey.isEmpty()) {
-            log.warn("Google LLM API Key is missing. Skipping strategy.");
-            return new ArrayList<>();
-        }
-
+        requireApiKey();
         log.info("Generating signals using Google LLM model: {} for news items: {}", modelName, context.getRecentNews().size());
 
-        String prompt = buildPrompt(context);
-        String url = String.format(API_URL_TEMPLATE, modelName);
-
-        try {
-            GeminiRequest request = new GeminiRequest(List.of(new Content(List.of(new Part(prompt)))));
-
-            GeminiResponse response = webClient.post()
-                    .uri(url)
-                    .header("x-goog-api-key", apiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(GeminiResponse.class)
-                    .block();
-
-            if (response != null && response.getCandidates() != null && !response.getCandidates().isEmpty()) {
-                String responseText = response.getCandidates().get(0).getContent().getParts().get(0).getText();
-                log.debug("Google LLM Response: {}", responseText);
-                return parseSignals(responseText);
-            }
-        } catch (Exception e) {
-            log.error("Error calling Google LLM API: {}", e.getMessage());
-        }
+        // Call failures propagate: the router fails over to the strategy's group or skips the cycle
+        String responseText = generate(StrategyPrompts.buildPrompt(context), SIGNAL_SCHEMA);
+        if (responseText == null) throw new IllegalStateException("Google LLM returned no candidates");
+        log.debug("Google LLM Response: {}", responseText);
+        return SignalParser.toTradeSignals(parse(responseText, 0));
+    }
 
-        return new ArrayList<>();
+    @Override
+    public List<List<TradeSignal>> generateSignalsBatch(List<TradeContext> contexts) {
+        requireApiKey();
+        log.info("Generating signals using Google LLM model: {} for a batch of {} contexts", modelName, contexts.size());
+
+        String responseText = generate(StrategyPrompts.buildBatchPrompt(contexts), BATCH_SIGNAL_SCHEMA);
+        if (responseText == null) throw new IllegalStateException("Google LLM returned no candidates");
+        log.debug("Google LLM Batch Response: {}", responseText);
+        return SignalParser.groupByContext(parse(responseText, contexts.size()), contexts.size());
     }
 
-    private String buildPrompt(TradeContext context) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("You are an expert crypto trading analyst. Analyze the following context to generate trade signals.\n\n");
-        sb.append("Current Portfolio: ").append(context.getPortfolio()).append("\n");
-        sb.append("Market Prices: ").append(context.getMarketPrices()).append("\n\n");
-        sb.append("Recent News:\n");
-        context.getRecentNews().forEach(n -> 
-            sb.append("- Title: ").append(n.getTitle())
-              .append("\n  Description: ").append(n.getDescription())
-              .append("\n  Sentiment: ").append(n.getSentiment()).append("\n")
-        );
-        sb.append("\nRespond ONLY with a JSON list of objects. Each object MUST have fields: ");
-        sb.append("\"symbol\", \"type\" (must be one of BUY, SELL, HOLD), \"confidence\" (float 0.0 to 1.0), and \"reason\".\n");
-        sb.append("Format Example: [{\"symbol\": \"BTC\", \"type\": \"BUY\", \"confidence\": 0.9, \"reason\": \"Strong positive sentiment in recent news.\"}]\n");
-        return sb.toString();
+    private void requireApiKey() {
+        // Reported as a failure so the circuit opens instead of this strategy answering "no signals" every cycle
+        if (apiKey == null || apiKey.isEmpty()) throw new IllegalStateException("Google LLM API Key is missing");
     }
 
-    private List<TradeSignal> parseSignals(String text) {
-        try {
-            int start = text.indexOf('[');
-            int end = text.lastIndexOf(']');
-            if (start != -1 && end != -1) {
-                String jsonPart = text.substring(start, end + 1);
-                return objectMapper.readValue(jsonPart, new TypeReference<List<TradeSignal>>() {});
-            }
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse Google LLM response as JSON: {}. Response text: {}", e.getMessage(), text);
+    private String generate(String prompt, Map<String, Object> responseSchema) {
+        String url = baseUrl + String.format(API_PATH_TEMPLATE, modelName);
+        GeminiRequest request = new GeminiRequest(List.of(new Content(List.of(new Part(prompt)))),
+                new GenerationConfig("application/json", responseSchema));
+
+        GeminiResponse response = webClient.post()
+                .uri(url)
+                .header("x-goog-api-key", apiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(GeminiResponse.class)
+                .block();
+
+        if (response != null && response.getCandidates() != null && !response.getCandidates().isEmpty()) {
+            return response.getCandidates().get(0).getContent().getParts().get(0).getText();
         }
-        return new ArrayList<>();
+        return null;
+    }
+
+    private List<SignalParser.ParsedSignal> parse(String text, int contexts) {
+        SignalParser.Result result = SignalParser.parse(objectMapper, text, contexts);
+        parseMetrics.record(getName(), result.outcome(), result.dropped());
+        if (result.outcome() == StrategyParseMetrics.Outcome.FAILED) {
+            log.warn("Failed to parse Google LLM response as signals. Response text: {}", text);
+        } else if (result.outcome() == StrategyParseMetrics.Outcome.REPAIRED) {
+            log.debug("Google LLM response needed repair before parsing");
+        }
+        return result.signals();
     }
 
     @Override
@@ -113,8 +114,19 @@ public class GoogleLLMStrategy implements TradingStrategy {
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class GeminiRequest {
         private List<Content> contents;
+        private GenerationConfig generationConfig;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class GenerationConfig {
+        private String responseMimeType;
+        private Map<String, Object> responseSchema;
     }
 
     @Data
@@ -1,9 +1,10 @@
 package com.project.tradebot.infrastructure.strategy;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.project.tradebot.application.ports.TradingStrategy;
+import com.project.tradebot.application.ports.BatchTradingStrategy;
+import com.project.tradebot.application.service.StrategyParseMetrics;
 import com.project.tradebot.domain.model.TradeContext;
 import com.project.tradebot.domain.model.TradeSignal;
 import lombok.AllArgsConstructor;
@@ -12,19 +13,30 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
-public class OllamaStrategy implements TradingStrategy {
+public class OllamaStrategy implements BatchTradingStrategy {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final StrategyParseMetrics parseMetrics;
+
+    // Passed as Ollama's "format" so generation is constrained to the signal list shape
+    private static final Map<String, Object> SIGNAL_SCHEMA = SignalParser.schema(false, false);
+    private static final Map<String, Object> BATCH_SIGNAL_SCHEMA = SignalParser.schema(true, false);
 
     @Value("${ollama.model:llama3.2}")
     private String modelName;
@@ -32,85 +44,137 @@ public class OllamaStrategy implements TradingStrategy {
     @Value("${ollama.url:http://localhost:11434/api/generate}")
     private String ollamaUrl;
 
-    public OllamaStrategy(WebClient.Builder webClientBuilder, ObjectMapper objectMapper) {
+    @Value("${ollama.keep-alive:30m}")
+    private String keepAlive;
+
+    @Value("${ollama.num-predict:512}")
+    private int numPredict;
+
+    @Value("${ollama.session.enabled:true}")
+    private boolean sessionEnabled;
+
+    // Evaluated instruction prefixes: the token context Ollama returned after reading each one
+    private final Map<String, CompletableFuture<List<Integer>>> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService warmUpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OllamaStrategy(WebClient.Builder webClientBuilder, ObjectMapper objectMapper, StrategyParseMetrics parseMetrics) {
         this.webClient = webClientBuilder.build();
         this.objectMapper = objectMapper;
+        this.parseMetrics = parseMetrics;
     }
 
     @Override
     public List<TradeSignal> generateSignals(TradeContext context) {
         log.info("Generating signals using real Ollama model: {} for news items: {}", modelName, context.getRecentNews().size());
 
-        String prompt = buildPrompt(context);
-        
-        try {
-            OllamaRequest request = OllamaRequest.builder()
-                    .model(modelName)
-                    .prompt(prompt)
-                    .stream(false)
-                    .build();
-
-            OllamaResponse response = webClient.post()
-                    .uri(ollamaUrl)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(OllamaResponse.class)
-                    .block();
-
-            if (response != null && response.getResponse() != null) {
-                String responseText = response.getResponse();
-                log.debug("Ollama Response: {}", responseText);
-                return parseSignals(responseText);
-            }
-        } catch (Exception e) {
-            log.error("Error calling Ollama API: {}. Falling back to demo strategy logic.", e.getMessage());
-        }
+        // Call failures propagate: the router fails over to the strategy's group or skips the cycle
+        String responseText = generate(StrategyPrompts.INSTRUCTIONS, StrategyPrompts.buildContextSection(context), SIGNAL_SCHEMA);
+        if (responseText == null) throw new IllegalStateException("Ollama returned no response");
+        log.debug("Ollama Response: {}", responseText);
+        return SignalParser.toTradeSignals(parse(responseText, 0));
+    }
+
+    @Override
+    public List<List<TradeSignal>> generateSignalsBatch(List<TradeContext> contexts) {
+        log.info("Generating signals using real Ollama model: {} for a batch of {} contexts", modelName, contexts.size());
 
-        // Fallback to demo logic if Ollama is unavailable
-        return fallbackLogic(context);
+        String responseText = generate(StrategyPrompts.BATCH_INSTRUCTIONS, StrategyPrompts.buildBatchSection(contexts), BATCH_SIGNAL_SCHEMA);
+        if (responseText == null) throw new IllegalStateException("Ollama returned no response");
+        log.debug("Ollama Batch Response: {}", responseText);
+        return SignalParser.groupByContext(parse(responseText, contexts.size()), contexts.size());
     }
 
-    private String buildPrompt(TradeContext context) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("You are an expert crypto trading analyst. Analyze the following context to generate trade signals.\n\n");
-        sb.append("Current Portfolio: ").append(context.getPortfolio()).append("\n");
-        sb.append("Market Prices: ").append(context.getMarketPrices()).append("\n\n");
-        sb.append("Recent News:\n");
-        context.getRecentNews().forEach(n -> 
-            sb.append("- Title: ").append(n.getTitle())
-              .append("\n  Description: ").append(n.getDescription())
-              .append("\n  Sentiment: ").append(n.getSentiment()).append("\n")
-        );
-        sb.append("\nRespond ONLY with a JSON list of objects. Each object MUST have fields: ");
-        sb.append("\"symbol\", \"type\" (must be one of BUY, SELL, HOLD), \"confidence\" (float 0.0 to 1.0), and \"reason\".\n");
-        sb.append("Format Example: [{\"symbol\": \"BTC\", \"type\": \"BUY\", \"confidence\": 0.9, \"reason\": \"Strong positive sentiment in recent news.\"}]\n");
-        return sb.toString();
+    /**
+     * Loads the model and evaluates both instruction prefixes in the background once the application
+     * is up, so the first trading cycle neither waits for a cold model nor re-reads the instructions.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!sessionEnabled) return;
+        session(StrategyPrompts.INSTRUCTIONS, SIGNAL_SCHEMA);
+        session(StrategyPrompts.BATCH_INSTRUCTIONS, BATCH_SIGNAL_SCHEMA);
     }
 
-    private List<TradeSignal> parseSignals(String text) {
-        try {
-            int start = text.indexOf('[');
-            int end = text.lastIndexOf(']');
-            if (start != -1 && end != -1) {
-                String jsonPart = text.substring(start, end + 1);
-                return objectMapper.readValue(jsonPart, new TypeReference<List<TradeSignal>>() {});
-            }
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse Ollama response as JSON: {}. Response text: {}", e.getMessage(), text);
+    private String generate(String instructions, String input, Map<String, Object> format) {
+        // With a warm session only the new input is sent; Ollama continues from the evaluated instructions
+        List<Integer> context = sessionEnabled ? session(instructions, format).getNow(null) : null;
+        OllamaRequest request = OllamaRequest.builder()
+                .model(modelName)
+                .prompt(context != null ? input : instructions + input)
+                .context(context)
+                .format(format)
+                .stream(false)
+                .keepAlive(keepAlive)
+                .options(Map.of("num_predict", numPredict))
+                .build();
+
+        OllamaResponse response = call(request);
+        if (response != null && response.getPromptEvalCount() != null) {
+            log.debug("Ollama evaluated {} prompt tokens in {} ms (session {})", response.getPromptEvalCount(),
+                    TimeUnit.NANOSECONDS.toMillis(response.getPromptEvalDuration() != null ? response.getPromptEvalDuration() : 0),
+                    context != null ? "warm" : "cold");
+        }
+        return response != null ? response.getResponse() : null;
+    }
+
+    private CompletableFuture<List<Integer>> session(String instructions, Map<String, Object> format) {
+        CompletableFuture<List<Integer>> session = sessions.computeIfAbsent(instructions, key -> warmSession(key, format));
+        if (session.isDone() && session.getNow(null) == null) {
+            // Failed warm-up: forget it so the next call tries again
+            sessions.remove(instructions, session);
         }
-        return new ArrayList<>();
+        return session;
+    }
+
+    /**
+     * Evaluates {@code instructions} under the same format constraint the real calls use. Ollama
+     * cannot return a context without generating, so the warm-up asks for a single token and cuts the
+     * generated tokens back off; the session then holds exactly the instruction prefix.
+     */
+    private CompletableFuture<List<Integer>> warmSession(String instructions, Map<String, Object> format) {
+        return CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            OllamaResponse response = call(OllamaRequest.builder()
+                    .model(modelName)
+                    .prompt(instructions)
+                    .format(format)
+                    .stream(false)
+                    .keepAlive(keepAlive)
+                    .options(Map.of("num_predict", 1))
+                    .build());
+            if (response == null || response.getContext() == null || response.getEvalCount() == null
+                    || response.getContext().size() <= response.getEvalCount()) {
+                log.warn("Ollama returned no usable context for the instruction prefix; sending full prompts");
+                return null;
+            }
+            List<Integer> prefix = List.copyOf(response.getContext().subList(0, response.getContext().size() - response.getEvalCount()));
+            log.info("Warmed Ollama session for {} ({} tokens) in {} ms", modelName, prefix.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return prefix;
+        }, warmUpExecutor).exceptionally(e -> {
+            log.warn("Ollama warm-up failed: {}", e.getMessage());
+            return null;
+        });
     }
 
-    private List<TradeSignal> fallbackLogic(TradeContext context) {
-        return context.getRecentNews().stream()
-                .filter(n -> "POSITIVE".equalsIgnoreCase(n.getSentiment()))
-                .map(n -> TradeSignal.builder()
-                        .symbol("BTC")
-                        .type(TradeSignal.SignalType.BUY)
-                        .confidence(0.7)
-                        .reason("Fallback: News sentiment analysis: " + n.getTitle())
-                        .build())
-                .collect(Collectors.toList());
+    private OllamaResponse call(OllamaRequest request) {
+        return webClient.post()
+                .uri(ollamaUrl)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OllamaResponse.class)
+                .block();
+    }
+
+    private List<SignalParser.ParsedSignal> parse(String text, int contexts) {
+        SignalParser.Result result = SignalParser.parse(objectMapper, text, contexts);
+        parseMetrics.record(getName(), result.outcome(), result.dropped());
+        if (result.outcome() == StrategyParseMetrics.Outcome.FAILED) {
+            log.warn("Failed to parse Ollama response as signals. Response text: {}", text);
+        } else if (result.outcome() == StrategyParseMetrics.Outcome.REPAIRED) {
+            log.debug("Ollama response needed repair before parsing");
+        }
+        return result.signals();
     }
 
     @Override
@@ -122,10 +186,16 @@ public class OllamaStrategy implements TradingStrategy {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class OllamaRequest {
         private String model;
         private String prompt;
         private boolean stream;
+        private List<Integer> context;
+        private Object format; // "json" or a JSON schema
+        @JsonProperty("keep_alive")
+        private String keepAlive;
+        private Map<String, Object> options;
     }
 
     @Data
@@ -133,5 +203,12 @@ public class OllamaStrategy implements TradingStrategy {
     @AllArgsConstructor
     public static class OllamaResponse {
         private String response;
+        private List<Integer> context;
+        @JsonProperty("prompt_eval_count")
+        private Integer promptEvalCount;
+        @JsonProperty("prompt_eval_duration")
+        private Long promptEvalDuration; // nanoseconds
+        @JsonProperty("eval_count")
+        private Integer evalCount; // generated tokens, included at the end of context
     }
 }
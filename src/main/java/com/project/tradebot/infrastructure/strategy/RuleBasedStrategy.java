@@ -0,0 +1,148 @@
+package com.project.tradebot.infrastructure.strategy;
+
+import com.project.tradebot.application.ports.TradingStrategy;
+import com.project.tradebot.application.service.SymbolExtractor;
+import com.project.tradebot.domain.model.IndicatorSnapshot;
+import com.project.tradebot.domain.model.News;
+import com.project.tradebot.domain.model.TradeContext;
+import com.project.tradebot.domain.model.TradeSignal;
+import com.project.tradebot.infrastructure.config.RuleStrategyProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signals from configured rules over prices, indicators and news sentiment. Rules are compiled
+ * once into lambda trees by {@link RuleCompiler}; a rules file is re-read only when its
+ * modification time changes. The first matching rule per symbol wins.
+ */
+@Component
+@Slf4j
+public class RuleBasedStrategy implements TradingStrategy {
+
+    private final RuleStrategyProperties properties;
+    private final SymbolExtractor symbolExtractor;
+
+    private volatile List<RuleCompiler.CompiledRule> rules = List.of();
+    private volatile long loadedModifiedAt = -1;
+    private volatile long nextReloadCheckAt;
+
+    public RuleBasedStrategy(RuleStrategyProperties properties, SymbolExtractor symbolExtractor) {
+        this.properties = properties;
+        this.symbolExtractor = symbolExtractor;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (rulesFile() == null) {
+            rules = RuleCompiler.compile(properties.getRules());
+            log.info("Compiled {} inline trading rules", rules.size());
+        } else {
+            reloadIfChanged();
+        }
+    }
+
+    @Override
+    public List<TradeSignal> generateSignals(TradeContext context) {
+        reloadIfChanged();
+        List<RuleCompiler.CompiledRule> active = rules;
+        List<TradeSignal> signals = new ArrayList<>();
+        if (active.isEmpty() || context.getMarketPrices() == null) return signals;
+
+        Map<String, double[]> sentiment = sentimentBySymbol(context.getRecentNews());
+        Map<String, IndicatorSnapshot> indicators = context.getIndicators() != null ? context.getIndicators() : Map.of();
+        Map<String, Double> balances = context.getPortfolio() != null && context.getPortfolio().getBalances() != null
+                ? context.getPortfolio().getBalances() : Map.of();
+
+        double[] features = new double[RuleCompiler.VARIABLES.size()];
+        for (Map.Entry<String, Double> entry : context.getMarketPrices().entrySet()) {
+            if (entry.getValue() == null) continue;
+            String market = entry.getKey();
+            String base = symbolExtractor.normalize(market);
+            fillFeatures(features, entry.getValue(), indicators.get(market), sentiment.get(base), balances.getOrDefault(base, 0.0));
+
+            for (RuleCompiler.CompiledRule rule : active) {
+                if (rule.condition().test(features)) {
+                    signals.add(TradeSignal.builder()
+                            .symbol(market)
+                            .type(rule.action())
+                            .confidence(rule.confidence().applyAsDouble(features))
+                            .reason("Rule: " + rule.source())
+                            .build());
+                    break;
+                }
+            }
+        }
+        return signals;
+    }
+
+    @Override
+    public String getName() {
+        return "RuleBasedStrategy";
+    }
+
+    private void fillFeatures(double[] f, double price, IndicatorSnapshot indicator, double[] sentiment, double position) {
+        f[RuleCompiler.PRICE] = price;
+        f[RuleCompiler.EMA_FAST] = indicator != null ? indicator.getEmaFast() : price;
+        f[RuleCompiler.EMA_SLOW] = indicator != null ? indicator.getEmaSlow() : price;
+        f[RuleCompiler.VWAP] = indicator != null ? indicator.getVwap() : price;
+        f[RuleCompiler.MOMENTUM] = indicator != null ? indicator.getMomentum() : 0.0;
+        f[RuleCompiler.VOLATILITY] = indicator != null ? indicator.getVolatility() : 0.0;
+        f[RuleCompiler.LAST_RETURN] = indicator != null ? indicator.getLastReturn() : 0.0;
+        f[RuleCompiler.SAMPLES] = indicator != null ? indicator.getSamples() : 0;
+        f[RuleCompiler.SENTIMENT] = sentiment != null && sentiment[1] > 0 ? sentiment[0] / sentiment[1] : 0.0;
+        f[RuleCompiler.NEWS_COUNT] = sentiment != null ? sentiment[1] : 0;
+        f[RuleCompiler.POSITION] = position;
+        f[RuleCompiler.POSITION_VALUE] = position * price;
+    }
+
+    // base symbol -> {sentiment sum, report count}; POSITIVE = 1, NEGATIVE = -1, anything else 0. Collapsed stories count once per source
+    private Map<String, double[]> sentimentBySymbol(List<News> news) {
+        Map<String, double[]> result = new HashMap<>();
+        if (news == null) return result;
+        for (News item : news) {
+            double score = "POSITIVE".equalsIgnoreCase(item.getSentiment()) ? 1.0
+                    : "NEGATIVE".equalsIgnoreCase(item.getSentiment()) ? -1.0 : 0.0;
+            int reports = Math.max(1, item.getSourceCount());
+            for (String symbol : symbolExtractor.extract(item)) {
+                double[] acc = result.computeIfAbsent(symbol, s -> new double[2]);
+                acc[0] += score * reports;
+                acc[1] += reports;
+            }
+        }
+        return result;
+    }
+
+    private void reloadIfChanged() {
+        Path file = rulesFile();
+        long now = System.currentTimeMillis();
+        if (file == null || now < nextReloadCheckAt) return;
+        nextReloadCheckAt = now + properties.getReloadCheckMs();
+        synchronized (this) {
+            try {
+                long modifiedAt = Files.getLastModifiedTime(file).toMillis();
+                if (modifiedAt == loadedModifiedAt) return;
+                rules = RuleCompiler.compile(Files.readAllLines(file));
+                loadedModifiedAt = modifiedAt;
+                log.info("Compiled {} trading rules from {}", rules.size(), file);
+            } catch (IOException | IllegalArgumentException e) {
+                // Keep trading on the previous rule set until the file is fixed
+                log.error("Failed to load trading rules from {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private Path rulesFile() {
+        String file = properties.getFile();
+        return file == null || file.isBlank() ? null : Paths.get(file);
+    }
+}
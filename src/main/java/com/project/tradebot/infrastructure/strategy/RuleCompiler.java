@@ -0,0 +1,287 @@
+package com.project.tradebot.infrastructure.strategy;
+
+import com.project.tradebot.domain.model.TradeSignal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compiles trading rules into lambda trees once, at load time. A rule reads
+ * <pre>BUY WHEN momentum &gt; 0.01 AND emaFast &gt; emaSlow CONFIDENCE 0.6 + momentum * 10</pre>
+ * Conditions support AND / OR / NOT, parentheses and the comparisons {@code > >= < <= == !=}
+ * between arithmetic expressions ({@code + - * /}, {@code abs}, {@code min}, {@code max}) over the
+ * per-symbol feature vector. Variables are resolved to array indices at compile time.
+ */
+final class RuleCompiler {
+
+    static final List<String> VARIABLES = List.of(
+            "price", "emaFast", "emaSlow", "vwap", "momentum", "volatility", "lastReturn", "samples",
+            "sentiment", "newsCount", "position", "positionValue");
+
+    static final int PRICE = 0;
+    static final int EMA_FAST = 1;
+    static final int EMA_SLOW = 2;
+    static final int VWAP = 3;
+    static final int MOMENTUM = 4;
+    static final int VOLATILITY = 5;
+    static final int LAST_RETURN = 6;
+    static final int SAMPLES = 7;
+    static final int SENTIMENT = 8;
+    static final int NEWS_COUNT = 9;
+    static final int POSITION = 10;
+    static final int POSITION_VALUE = 11;
+
+    private static final Set<String> COMPARISONS = Set.of(">", ">=", "<", "<=", "==", "!=");
+
+    record CompiledRule(TradeSignal.SignalType action, Predicate<double[]> condition, ToDoubleFunction<double[]> confidence, String source) {}
+
+    private RuleCompiler() {
+    }
+
+    static List<CompiledRule> compile(List<String> sources) {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (String source : sources) {
+            if (source == null) continue;
+            String trimmed = source.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+            rules.add(new Parser(trimmed).parseRule());
+        }
+        return rules;
+    }
+
+    private static final class Parser {
+        private final String source;
+        private final List<String> tokens;
+        private int pos;
+
+        private Parser(String source) {
+            this.source = source;
+            this.tokens = tokenize(source);
+        }
+
+        private CompiledRule parseRule() {
+            TradeSignal.SignalType action = switch (next().toUpperCase(Locale.ROOT)) {
+                case "BUY" -> TradeSignal.SignalType.BUY;
+                case "SELL" -> TradeSignal.SignalType.SELL;
+                case "HOLD" -> TradeSignal.SignalType.HOLD;
+                default -> throw error("expected BUY, SELL or HOLD");
+            };
+            expectKeyword("WHEN");
+            Predicate<double[]> condition = parseOr();
+            ToDoubleFunction<double[]> confidence = v -> 1.0;
+            if (acceptKeyword("CONFIDENCE")) confidence = parseExpression();
+            if (pos < tokens.size()) throw error("unexpected '" + peek() + "'");
+
+            ToDoubleFunction<double[]> raw = confidence;
+            return new CompiledRule(action, condition, v -> clampConfidence(raw.applyAsDouble(v)), source);
+        }
+
+        // Division by zero (e.g. sentiment / newsCount with no news) yields NaN or infinity; treat it as no confidence
+        private static double clampConfidence(double confidence) {
+            return Double.isFinite(confidence) ? Math.max(0.0, Math.min(1.0, confidence)) : 0.0;
+        }
+
+        private Predicate<double[]> parseOr() {
+            Predicate<double[]> left = parseAnd();
+            while (acceptKeyword("OR")) {
+                Predicate<double[]> a = left;
+                Predicate<double[]> b = parseAnd();
+                left = v -> a.test(v) || b.test(v);
+            }
+            return left;
+        }
+
+        private Predicate<double[]> parseAnd() {
+            Predicate<double[]> left = parseNot();
+            while (acceptKeyword("AND")) {
+                Predicate<double[]> a = left;
+                Predicate<double[]> b = parseNot();
+                left = v -> a.test(v) && b.test(v);
+            }
+            return left;
+        }
+
+        private Predicate<double[]> parseNot() {
+            if (acceptKeyword("NOT")) {
+                Predicate<double[]> inner = parseNot();
+                return v -> !inner.test(v);
+            }
+            if ("(".equals(peek())) {
+                // A parenthesis may open either a boolean group or an arithmetic expression; try boolean first
+                int mark = pos;
+                pos++;
+                try {
+                    Predicate<double[]> group = parseOr();
+                    if (accept(")") && !isOperator(peek())) return group;
+                } catch (IllegalArgumentException ignored) {
+                    // not a boolean group
+                }
+                pos = mark;
+            }
+            return parseComparison();
+        }
+
+        private Predicate<double[]> parseComparison() {
+            ToDoubleFunction<double[]> left = parseExpression();
+            String op = next();
+            if (!COMPARISONS.contains(op)) throw error("expected a comparison but found '" + op + "'");
+            ToDoubleFunction<double[]> right = parseExpression();
+            return switch (op) {
+                case ">" -> v -> left.applyAsDouble(v) > right.applyAsDouble(v);
+                case ">=" -> v -> left.applyAsDouble(v) >= right.applyAsDouble(v);
+                case "<" -> v -> left.applyAsDouble(v) < right.applyAsDouble(v);
+                case "<=" -> v -> left.applyAsDouble(v) <= right.applyAsDouble(v);
+                case "==" -> v -> left.applyAsDouble(v) == right.applyAsDouble(v);
+                default -> v -> left.applyAsDouble(v) != right.applyAsDouble(v);
+            };
+        }
+
+        private ToDoubleFunction<double[]> parseExpression() {
+            ToDoubleFunction<double[]> left = parseTerm();
+            while ("+".equals(peek()) || "-".equals(peek())) {
+                String op = next();
+                ToDoubleFunction<double[]> a = left;
+                ToDoubleFunction<double[]> b = parseTerm();
+                left = op.equals("+") ? v -> a.applyAsDouble(v) + b.applyAsDouble(v) : v -> a.applyAsDouble(v) - b.applyAsDouble(v);
+            }
+            return left;
+        }
+
+        private ToDoubleFunction<double[]> parseTerm() {
+            ToDoubleFunction<double[]> left = parseFactor();
+            while ("*".equals(peek()) || "/".equals(peek())) {
+                String op = next();
+                ToDoubleFunction<double[]> a = left;
+                ToDoubleFunction<double[]> b = parseFactor();
+                left = op.equals("*") ? v -> a.applyAsDouble(v) * b.applyAsDouble(v) : v -> a.applyAsDouble(v) / b.applyAsDouble(v);
+            }
+            return left;
+        }
+
+        private ToDoubleFunction<double[]> parseFactor() {
+            String token = next();
+            if (token.equals("-")) {
+                ToDoubleFunction<double[]> inner = parseFactor();
+                return v -> -inner.applyAsDouble(v);
+            }
+            if (token.equals("(")) {
+                ToDoubleFunction<double[]> inner = parseExpression();
+                expect(")");
+                return inner;
+            }
+            if (Character.isDigit(token.charAt(0)) || token.charAt(0) == '.') {
+                double constant;
+                try {
+                    constant = Double.parseDouble(token);
+                } catch (NumberFormatException e) {
+                    throw error("invalid number '" + token + "'");
+                }
+                return v -> constant;
+            }
+            String name = token.toLowerCase(Locale.ROOT);
+            if (accept("(")) {
+                ToDoubleFunction<double[]> first = parseExpression();
+                return switch (name) {
+                    case "abs" -> {
+                        expect(")");
+                        yield v -> Math.abs(first.applyAsDouble(v));
+                    }
+                    case "min", "max" -> {
+                        expect(",");
+                        ToDoubleFunction<double[]> second = parseExpression();
+                        expect(")");
+                        yield name.equals("min")
+                                ? v -> Math.min(first.applyAsDouble(v), second.applyAsDouble(v))
+                                : v -> Math.max(first.applyAsDouble(v), second.applyAsDouble(v));
+                    }
+                    default -> throw error("unknown function '" + token + "'");
+                };
+            }
+            for (int i = 0; i < VARIABLES.size(); i++) {
+                if (VARIABLES.get(i).equalsIgnoreCase(token)) {
+                    int index = i;
+                    return v -> v[index];
+                }
+            }
+            throw error("unknown variable '" + token + "', expected one of " + VARIABLES);
+        }
+
+        private boolean isOperator(String token) {
+            return token != null && (COMPARISONS.contains(token) || "+-*/".contains(token));
+        }
+
+        private String peek() {
+            return pos < tokens.size() ? tokens.get(pos) : null;
+        }
+
+        private String next() {
+            if (pos >= tokens.size()) throw error("unexpected end of rule");
+            return tokens.get(pos++);
+        }
+
+        private boolean accept(String token) {
+            if (token.equals(peek())) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            if (keyword.equalsIgnoreCase(peek())) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) throw error("expected '" + token + "'");
+        }
+
+        private void expectKeyword(String keyword) {
+            if (!acceptKeyword(keyword)) throw error("expected " + keyword);
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid rule '" + source + "': " + message);
+        }
+
+        private static List<String> tokenize(String source) {
+            List<String> tokens = new ArrayList<>();
+            int i = 0;
+            while (i < source.length()) {
+                char c = source.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (Character.isLetter(c) || c == '_') {
+                    int start = i;
+                    while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) i++;
+                    tokens.add(source.substring(start, i));
+                } else if (Character.isDigit(c) || c == '.') {
+                    int start = i;
+                    while (i < source.length() && (Character.isDigit(source.charAt(i)) || source.charAt(i) == '.')) i++;
+                    if (i < source.length() && (source.charAt(i) == 'e' || source.charAt(i) == 'E')) {
+                        i++;
+                        if (i < source.length() && (source.charAt(i) == '-' || source.charAt(i) == '+')) i++;
+                        while (i < source.length() && Character.isDigit(source.charAt(i))) i++;
+                    }
+                    tokens.add(source.substring(start, i));
+                } else if (i + 1 < source.length() && source.charAt(i + 1) == '=' && "<>=!".indexOf(c) >= 0) {
+                    tokens.add(source.substring(i, i + 2));
+                    i += 2;
+                } else if ("<>+-*/(),".indexOf(c) >= 0) {
+                    tokens.add(String.valueOf(c));
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("Invalid rule '" + source + "': unexpected character '" + c + "'");
+                }
+            }
+            return tokens;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.project.tradebot.infrastructure.strategy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.tradebot.application.service.StrategyParseMetrics;
+import com.project.tradebot.domain.model.TradeSignal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Turns a model answer into signals. Schema-constrained answers deserialize directly into typed
+ * objects; anything else goes through one repair pass (code fences, surrounding prose, trailing
+ * commas, a single object instead of a list, lower-case enums, percentages) before it is given up on.
+ */
+final class SignalParser {
+
+    private static final TypeReference<List<ParsedSignal>> SIGNAL_LIST = new TypeReference<>() {};
+    private static final Pattern TRAILING_COMMA = Pattern.compile(",\\s*([\\]}])");
+
+    private SignalParser() {
+    }
+
+    record Result(List<ParsedSignal> signals, StrategyParseMetrics.Outcome outcome, int dropped) {}
+
+    /**
+     * Parses an answer to a prompt covering {@code contexts} numbered contexts, or to a single-context
+     * prompt when {@code contexts} is 0. In a batch every signal must name a context in range: one
+     * without is dropped rather than guessed, since it could belong to any symbol's context.
+     */
+    static Result parse(ObjectMapper objectMapper, String text, int contexts) {
+        if (text == null || text.isBlank()) return new Result(List.of(), StrategyParseMetrics.Outcome.FAILED, 0);
+        try {
+            List<ParsedSignal> signals = objectMapper.readValue(text, SIGNAL_LIST);
+            List<ParsedSignal> valid = new ArrayList<>(signals.size());
+            for (ParsedSignal s : signals) {
+                // The schema bounds confidence, but a model can still answer 85 or "NaN"
+                double confidence = normalizeConfidence(s.getConfidence());
+                if (s.getSymbol() == null || s.getType() == null || Double.isNaN(confidence) || !hasValidContext(s, contexts)) continue;
+                s.setConfidence(confidence);
+                valid.add(s);
+            }
+            return new Result(valid, StrategyParseMetrics.Outcome.PARSED, signals.size() - valid.size());
+        } catch (JsonProcessingException e) {
+            // fall through to the repair pass
+        }
+
+        try {
+            JsonNode root = objectMapper.readTree(repair(text));
+            if (root == null) return new Result(List.of(), StrategyParseMetrics.Outcome.FAILED, 0);
+            if (root.isObject() && root.path("signals").isArray()) root = root.get("signals");
+
+            List<JsonNode> items = new ArrayList<>();
+            if (root.isArray()) root.forEach(items::add);
+            else if (root.isObject()) items.add(root);
+
+            List<ParsedSignal> signals = new ArrayList<>(items.size());
+            for (JsonNode item : items) {
+                ParsedSignal signal = toSignal(item, contexts > 0);
+                if (signal != null && hasValidContext(signal, contexts)) signals.add(signal);
+            }
+            if (signals.isEmpty() && !items.isEmpty()) return new Result(signals, StrategyParseMetrics.Outcome.FAILED, items.size());
+            return new Result(signals, StrategyParseMetrics.Outcome.REPAIRED, items.size() - signals.size());
+        } catch (JsonProcessingException e) {
+            return new Result(List.of(), StrategyParseMetrics.Outcome.FAILED, 0);
+        }
+    }
+
+    static List<TradeSignal> toTradeSignals(List<ParsedSignal> signals) {
+        List<TradeSignal> result = new ArrayList<>(signals.size());
+        signals.forEach(s -> result.add(s.toTradeSignal()));
+        return result;
+    }
+
+    static List<List<TradeSignal>> groupByContext(List<ParsedSignal> signals, int contextCount) {
+        List<List<TradeSignal>> results = new ArrayList<>(contextCount);
+        for (int i = 0; i < contextCount; i++) results.add(new ArrayList<>());
+        for (ParsedSignal s : signals) {
+            if (!hasValidContext(s, contextCount)) continue;
+            results.get(s.getContext()).add(s.toTradeSignal());
+        }
+        return results;
+    }
+
+    private static boolean hasValidContext(ParsedSignal signal, int contexts) {
+        if (contexts == 0) return true;
+        return signal.getContext() != null && signal.getContext() >= 0 && signal.getContext() < contexts;
+    }
+
+    /**
+     * JSON schema for the answer: a list of signals, each with a context number when {@code batch}.
+     * Gemini's response schema spells types in upper case, JSON Schema (Ollama) in lower case.
+     */
+    static Map<String, Object> schema(boolean batch, boolean upperCaseTypes) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        if (batch) properties.put("context", Map.of("type", type("integer", upperCaseTypes)));
+        properties.put("symbol", Map.of("type", type("string", upperCaseTypes)));
+        properties.put("type", Map.of("type", type("string", upperCaseTypes), "enum", List.of("BUY", "SELL", "HOLD")));
+        properties.put("confidence", Map.of("type", type("number", upperCaseTypes), "minimum", 0, "maximum", 1));
+        properties.put("reason", Map.of("type", type("string", upperCaseTypes)));
+
+        List<String> required = new ArrayList<>(properties.keySet());
+        return Map.of(
+                "type", type("array", upperCaseTypes),
+                "items", Map.of("type", type("object", upperCaseTypes), "properties", properties, "required", required));
+    }
+
+    private static String type(String name, boolean upperCase) {
+        return upperCase ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+    static String repair(String text) {
+        String body = text.trim();
+        int fence = body.indexOf("```");
+        if (fence >= 0) {
+            int contentStart = body.indexOf('\n', fence);
+            int closing = contentStart >= 0 ? body.indexOf("```", contentStart) : -1;
+            if (contentStart >= 0) body = body.substring(contentStart + 1, closing >= 0 ? closing : body.length());
+        }
+        int start = firstOf(body, '[', '{');
+        if (start < 0) return body;
+        char open = body.charAt(start);
+        int end = body.lastIndexOf(open == '[' ? ']' : '}');
+        if (end > start) body = body.substring(start, end + 1);
+        return TRAILING_COMMA.matcher(body).replaceAll("$1");
+    }
+
+    private static int firstOf(String text, char a, char b) {
+        int i = text.indexOf(a);
+        int j = text.indexOf(b);
+        if (i < 0) return j;
+        if (j < 0) return i;
+        return Math.min(i, j);
+    }
+
+    private static ParsedSignal toSignal(JsonNode item, boolean batch) {
+        if (!item.isObject()) return null;
+        String symbol = item.path("symbol").asText("").trim().toUpperCase(Locale.ROOT);
+        TradeSignal.SignalType type;
+        try {
+            type = TradeSignal.SignalType.valueOf(item.path("type").asText("").trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (symbol.isEmpty()) return null;
+
+        double confidence;
+        JsonNode c = item.path("confidence");
+        if (c.isNumber()) {
+            confidence = c.asDouble();
+        } else {
+            String raw = c.asText("").trim().replace("%", "");
+            try {
+                confidence = raw.isEmpty() ? 0.0 : Double.parseDouble(raw);
+            } catch (NumberFormatException e) {
+                confidence = 0.0;
+            }
+        }
+        confidence = normalizeConfidence(confidence);
+        if (Double.isNaN(confidence)) return null;
+
+        return new ParsedSignal(batch ? contextIndex(item.path("context")) : null, symbol, type, confidence, item.path("reason").asText(null));
+    }
+
+    /** Confidence in [0, 1], reading values up to 100 as percentages; NaN when it is not a finite number. */
+    static double normalizeConfidence(double confidence) {
+        if (!Double.isFinite(confidence)) return Double.NaN;
+        if (confidence > 1.0 && confidence <= 100.0) confidence /= 100.0; // answered as a percentage
+        return Math.max(0.0, Math.min(1.0, confidence));
+    }
+
+    // A whole number, possibly quoted; anything else is no index
+    private static Integer contextIndex(JsonNode node) {
+        if (node.isNumber()) return node.canConvertToExactIntegral() && node.canConvertToInt() ? node.asInt() : null;
+        if (!node.isTextual()) return null;
+        try {
+            return Integer.parseInt(node.asText().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class ParsedSignal {
+        private Integer context; // null when the answer gave none
+        private String symbol;
+        private TradeSignal.SignalType type;
+        private double confidence;
+        private String reason;
+
+        TradeSignal toTradeSignal() {
+            return TradeSignal.builder()
+                    .symbol(symbol)
+                    .type(type)
+                    .confidence(confidence)
+                    .reason(reason)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.tradebot.infrastructure.strategy;
+
+import com.project.tradebot.domain.model.News;
+import com.project.tradebot.domain.model.TradeContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Prompt construction shared by the LLM strategies, including the merged multi-context prompt
+ * used when concurrent requests are micro-batched into one model call.
+ */
+final class StrategyPrompts {
+
+    /**
+     * Fixed instructions for single-context prompts. Kept as a separate prefix so a session-capable
+     * backend can evaluate it once and reuse the result for every call.
+     */
+    static final String INSTRUCTIONS =
+            "You are an expert crypto trading analyst. Analyze the context that follows to generate trade signals.\n"
+            + "Respond ONLY with a JSON list of objects. Each object MUST have fields: "
+            + "\"symbol\", \"type\" (must be one of BUY, SELL, HOLD), \"confidence\" (float 0.0 to 1.0), and \"reason\".\n"
+            + "Format Example: [{\"symbol\": \"BTC\", \"type\": \"BUY\", \"confidence\": 0.9, \"reason\": \"Strong positive sentiment in recent news.\"}]\n\n";
+
+    /** Fixed instructions for merged multi-context prompts. */
+    static final String BATCH_INSTRUCTIONS =
+            "You are an expert crypto trading analyst. Analyze each of the numbered contexts that follow independently to generate trade signals.\n"
+            + "Respond ONLY with a JSON list of objects. Each object MUST have fields: "
+            + "\"context\" (the context number), \"symbol\", \"type\" (must be one of BUY, SELL, HOLD), \"confidence\" (float 0.0 to 1.0), and \"reason\".\n"
+            + "Format Example: [{\"context\": 0, \"symbol\": \"BTC\", \"type\": \"BUY\", \"confidence\": 0.9, \"reason\": \"Strong positive sentiment in recent news.\"}]\n\n";
+
+    private StrategyPrompts() {
+    }
+
+    static String buildPrompt(TradeContext context) {
+        return INSTRUCTIONS + buildContextSection(context);
+    }
+
+    static String buildBatchPrompt(List<TradeContext> contexts) {
+        return BATCH_INSTRUCTIONS + buildBatchSection(contexts);
+    }
+
+    /** The per-call part of {@link #buildPrompt}: portfolio, prices, indicators and news. */
+    static String buildContextSection(TradeContext context) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Current Portfolio: ").append(context.getPortfolio()).append("\n");
+        sb.append("Market Prices: ").append(context.getMarketPrices()).append("\n");
+        appendIndicators(sb, "", context);
+        sb.append("\n");
+        sb.append("Recent News:\n");
+        context.getRecentNews().forEach(n -> 
+            sb.append("- Title: ").append(n.getTitle())
+              .append("\n  Description: ").append(n.getDescription())
+              .append("\n  Sentiment: ").append(n.getSentiment())
+              .append(n.getSourceCount() > 1 ? "\n  Reported by: " + n.getSourceCount() + " sources" : "").append("\n")
+        );
+        sb.append("\nRespond with the JSON list only.\n");
+        return sb.toString();
+    }
+
+    /** The per-call part of {@link #buildBatchPrompt}. */
+    static String buildBatchSection(List<TradeContext> contexts) {
+        // Batched contexts usually share most of their news, so each item is listed once and referenced by id
+        Map<News, Integer> newsIds = new LinkedHashMap<>();
+        contexts.forEach(c -> c.getRecentNews().forEach(n -> newsIds.putIfAbsent(n, newsIds.size() + 1)));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Recent News:\n");
+        newsIds.forEach((n, id) ->
+            sb.append("[N").append(id).append("] Title: ").append(n.getTitle())
+              .append("\n  Description: ").append(n.getDescription())
+              .append("\n  Sentiment: ").append(n.getSentiment())
+              .append(n.getSourceCount() > 1 ? "\n  Reported by: " + n.getSourceCount() + " sources" : "").append("\n")
+        );
+        for (int i = 0; i < contexts.size(); i++) {
+            TradeContext context = contexts.get(i);
+            StringJoiner refs = new StringJoiner(", ");
+            context.getRecentNews().forEach(n -> refs.add("N" + newsIds.get(n)));
+            sb.append("\nContext ").append(i).append(":\n");
+            sb.append("  Current Portfolio: ").append(context.getPortfolio()).append("\n");
+            sb.append("  Market Prices: ").append(context.getMarketPrices()).append("\n");
+            appendIndicators(sb, "  ", context);
+            sb.append("  News: ").append(refs).append("\n");
+        }
+        sb.append("\nRespond with the JSON list only.\n");
+        return sb.toString();
+    }
+
+    private static void appendIndicators(StringBuilder sb, String indent, TradeContext context) {
+        if (context.getIndicators() == null || context.getIndicators().isEmpty()) return;
+        sb.append(indent).append("Indicators:\n");
+        context.getIndicators().forEach((symbol, i) -> sb.append(indent)
+                .append("- ").append(symbol)
+                .append(String.format(Locale.ROOT, ": emaFast=%.4f emaSlow=%.4f vwap=%.4f momentum=%.4f volatility=%.5f samples=%d\n",
+                        i.getEmaFast(), i.getEmaSlow(), i.getVwap(), i.getMomentum(), i.getVolatility(), i.getSamples())));
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.AdapterHealth;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdapterHealthRegistryTest {
+
+    private static final String KIND = AdapterHealthRegistry.STRATEGY;
+    private static final long OPEN_MS = 100; // the shortest open period the registry allows
+
+    private final Map<String, String> adapters = Map.of("ollama", "ollama", "gemini", "gemini");
+
+    @Test
+    void retryableAdapterPassedOverForAFasterMemberStaysRetryable() throws InterruptedException {
+        // Through failover no probe is registered, so a live call has to be the trial
+        AdapterHealthRegistry registry = registry();
+        assertEquals("gemini", failover(registry, "gemini", null));
+        // ollama fails slowly once: open, and ranked behind gemini from now on
+        assertEquals("gemini", failover(registry, "ollama", "ollama"));
+        assertEquals(AdapterHealth.BreakerState.OPEN, state(registry, "ollama"));
+
+        Thread.sleep(OPEN_MS + 50);
+        assertEquals("gemini", failover(registry, "ollama", null));
+        assertEquals(AdapterHealth.BreakerState.OPEN, state(registry, "ollama"), "candidate collection claims no trial");
+
+        assertEquals("ollama", failover(registry, "ollama", "gemini"));
+        assertEquals(AdapterHealth.BreakerState.CLOSED, state(registry, "ollama"));
+        registry.stop();
+    }
+
+    @Test
+    void unusedTrialExpiresBackToRetryable() throws InterruptedException {
+        AdapterHealthRegistry registry = registry();
+        registry.recordFailure(KIND, "ollama", 0, new RuntimeException("down"));
+        assertFalse(registry.isAvailable(KIND, "ollama"));
+
+        Thread.sleep(OPEN_MS + 50);
+        assertTrue(registry.isAvailable(KIND, "ollama"));
+        assertFalse(registry.isAvailable(KIND, "ollama"), "one trial at a time");
+        assertEquals(AdapterHealth.BreakerState.HALF_OPEN, state(registry, "ollama"));
+
+        // the claimer never called; the trial lapses instead of excluding the adapter for good
+        Thread.sleep(OPEN_MS + 50);
+        assertTrue(registry.isAvailable(KIND, "ollama"));
+        registry.stop();
+    }
+
+    @Test
+    void failedTrialReopensForLonger() throws InterruptedException {
+        AdapterHealthRegistry registry = registry();
+        registry.recordFailure(KIND, "ollama", 0, new RuntimeException("down"));
+        Thread.sleep(OPEN_MS + 50);
+
+        assertEquals("fallback", registry.route(KIND, "ollama", Map.of("ollama", "ollama"), (name, a) -> fail(0), () -> "fallback"));
+        assertEquals(AdapterHealth.BreakerState.OPEN, state(registry, "ollama"));
+        Thread.sleep(OPEN_MS + 50);
+        assertFalse(registry.isAvailable(KIND, "ollama"), "open period doubled");
+        registry.stop();
+    }
+
+    private static AdapterHealthRegistry registry() {
+        return new AdapterHealthRegistry(List.of(List.of("ollama", "gemini")), true, 1, OPEN_MS, 10_000, 1.0, 1000);
+    }
+
+    private String failover(AdapterHealthRegistry registry, String requested, String failing) {
+        return registry.failover(KIND, requested, adapters,
+                (name, adapter) -> registry.call(KIND, name, () -> name.equals(failing) ? fail(20) : name), () -> "fallback");
+    }
+
+    private static AdapterHealth.BreakerState state(AdapterHealthRegistry registry, String name) {
+        return registry.snapshot().get(KIND + ":" + name).getState();
+    }
+
+    private static String fail(long afterMs) {
+        try {
+            Thread.sleep(afterMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new IllegalStateException("unavailable");
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.IndicatorSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IndicatorEngineTest {
+
+    private static final int WINDOW = 5;
+
+    @Test
+    void matchesNaiveRecomputationAcrossRingWraps() {
+        IndicatorEngine engine = new IndicatorEngine(WINDOW, 3, 6);
+        Naive naive = new Naive(WINDOW, 3, 6);
+        Random random = new Random(42);
+        double price = 100.0;
+        for (int tick = 0; tick < 4 * WINDOW + 3; tick++) {
+            price *= 1.0 + (random.nextDouble() - 0.5) * 0.04;
+            double volume = tick % 3 == 0 ? 0.0 : random.nextDouble() * 10; // some ticks carry no volume
+            engine.onTick("BTCINR", price, volume, tick);
+            naive.add(price, volume);
+            assertMatches(naive, engine.snapshot("BTCINR"), "after tick " + tick);
+        }
+    }
+
+    @Test
+    void periodicResumRemovesDriftFromEvictedOutliers() {
+        IndicatorEngine engine = new IndicatorEngine(WINDOW, 3, 6);
+        Naive naive = new Naive(WINDOW, 3, 6);
+        // One huge weighted price, then many small ones: subtracting it back out leaves cancellation error
+        engine.onTick("BTCINR", 1e12, 1e9, 0);
+        naive.add(1e12, 1e9);
+        for (int tick = 1; tick <= 10 * WINDOW; tick++) {
+            double price = 1.0 + tick % 7 * 0.001;
+            engine.onTick("BTCINR", price, 1.0, tick);
+            naive.add(price, 1.0);
+        }
+        assertMatches(naive, engine.snapshot("BTCINR"), "after the outlier left the window");
+    }
+
+    @Test
+    void skipsNonPositiveAndNaNPrices() {
+        IndicatorEngine engine = new IndicatorEngine(WINDOW, 3, 6);
+        engine.onTick("BTCINR", 100.0, 0.0, 1);
+        engine.onTick("BTCINR", 0.0, 0.0, 2);
+        engine.onTick("BTCINR", -5.0, 0.0, 3);
+        engine.onTick("BTCINR", Double.NaN, 0.0, 4);
+
+        IndicatorSnapshot snapshot = engine.snapshot("BTCINR");
+        assertEquals(1, snapshot.getSamples());
+        assertEquals(1, snapshot.getUpdatedAt());
+        assertNull(engine.snapshot("ETHINR"));
+    }
+
+    @Test
+    void everyPolledPriceIsOneSample() {
+        IndicatorEngine engine = new IndicatorEngine(WINDOW, 3, 6);
+        engine.onPrices(Map.of("BTCINR", 100.0, "ETHINR", 10.0));
+        engine.onPrices(Map.of("BTCINR", 100.0));
+
+        assertEquals(2, engine.snapshot("BTCINR").getSamples());
+        assertEquals(1, engine.snapshot("ETHINR").getSamples());
+        assertEquals(2, engine.snapshots(List.of()).size());
+    }
+
+    private static void assertMatches(Naive naive, IndicatorSnapshot actual, String when) {
+        assertEquals(Math.min(WINDOW, naive.prices.size()), actual.getSamples(), when);
+        assertEquals(naive.last(), actual.getLastPrice(), 0.0, when);
+        assertEquals(naive.emaFast, actual.getEmaFast(), 1e-9 * naive.emaFast, when);
+        assertEquals(naive.emaSlow, actual.getEmaSlow(), 1e-9 * naive.emaSlow, when);
+        assertEquals(naive.vwap(), actual.getVwap(), 1e-9 * naive.vwap(), when);
+        assertEquals(naive.momentum(), actual.getMomentum(), 1e-12, when);
+        assertEquals(naive.volatility(), actual.getVolatility(), 1e-9, when);
+    }
+
+    /** Recomputes every indicator from the full history on each call. */
+    private static final class Naive {
+        private final int window;
+        private final double fastAlpha;
+        private final double slowAlpha;
+        private final List<Double> prices = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+        private double emaFast;
+        private double emaSlow;
+
+        private Naive(int window, int fastPeriod, int slowPeriod) {
+            this.window = window;
+            this.fastAlpha = 2.0 / (fastPeriod + 1);
+            this.slowAlpha = 2.0 / (slowPeriod + 1);
+        }
+
+        private void add(double price, double volume) {
+            emaFast = prices.isEmpty() ? price : emaFast + fastAlpha * (price - emaFast);
+            emaSlow = prices.isEmpty() ? price : emaSlow + slowAlpha * (price - emaSlow);
+            prices.add(price);
+            weights.add(volume > 0 ? volume : 1.0);
+        }
+
+        private int first() {
+            return Math.max(0, prices.size() - window);
+        }
+
+        private double last() {
+            return prices.get(prices.size() - 1);
+        }
+
+        private double vwap() {
+            double weighted = 0;
+            double total = 0;
+            for (int i = first(); i < prices.size(); i++) {
+                weighted += prices.get(i) * weights.get(i);
+                total += weights.get(i);
+            }
+            return weighted / total;
+        }
+
+        private double momentum() {
+            return last() / prices.get(first()) - 1.0;
+        }
+
+        private double volatility() {
+            // Returns of the window's samples; the very first sample has none
+            List<Double> returns = new ArrayList<>();
+            for (int i = Math.max(1, first()); i < prices.size(); i++) returns.add(Math.log(prices.get(i) / prices.get(i - 1)));
+            if (returns.size() < 2) return 0.0;
+            double mean = returns.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+            double squares = returns.stream().mapToDouble(r -> (r - mean) * (r - mean)).sum();
+            return Math.sqrt(squares / (returns.size() - 1));
+        }
+    }
+}
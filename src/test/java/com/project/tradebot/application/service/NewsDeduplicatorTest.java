@@ -0,0 +1,100 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.News;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NewsDeduplicatorTest {
+
+    private static final String STORY = "Bitcoin rallies past record high as spot ETF inflows surge and miners hold reserves";
+    private static final String DETAIL = "Analysts point to institutional demand, shrinking exchange balances and options expiry";
+
+    private final NewsDeduplicator deduplicator = new NewsDeduplicator(true, 6);
+
+    @Test
+    void collapsesIdenticalStoriesIntoFirstReport() {
+        News first = news(STORY, DETAIL, "outlet-a");
+        List<News> result = deduplicator.collapse(List.of(first, news(STORY, DETAIL, "outlet-b"), news(STORY, DETAIL, "outlet-c")));
+
+        assertEquals(1, result.size());
+        assertEquals("outlet-a", result.get(0).getSource());
+        assertEquals(3, result.get(0).getSourceCount());
+        assertEquals(0, first.getSourceCount(), "input items are not modified");
+    }
+
+    @Test
+    void ignoresCaseStopWordsAndPunctuation() {
+        News reworded = news("BITCOIN rallies past the record high, as spot ETF inflows surge and miners hold reserves!",
+                DETAIL, "outlet-b");
+
+        assertEquals(NewsDeduplicator.simHash(news(STORY, DETAIL, "outlet-a")), NewsDeduplicator.simHash(reworded),
+                "only content words feed the fingerprint");
+        assertEquals(1, deduplicator.collapse(List.of(news(STORY, DETAIL, "outlet-a"), reworded)).size());
+    }
+
+    @Test
+    void keepsUnrelatedStoriesApart() {
+        List<News> result = deduplicator.collapse(List.of(
+                news(STORY, DETAIL, "outlet-a"),
+                news("Ethereum developers schedule network upgrade testnet", "Client teams confirm the fork date", "outlet-b"),
+                news("Regulator fines exchange over compliance lapses", "Penalty follows a two year probe", "outlet-c")));
+
+        assertEquals(3, result.size());
+        assertEquals(List.of("outlet-a", "outlet-b", "outlet-c"), result.stream().map(News::getSource).toList());
+        result.forEach(item -> assertEquals(1, item.getSourceCount()));
+    }
+
+    @Test
+    void collapsesExactlyUpToMaxDistance() {
+        News original = news(STORY, DETAIL, "outlet-a");
+        News variant = news(STORY + " overnight", DETAIL, "outlet-b");
+        int distance = Long.bitCount(NewsDeduplicator.simHash(original) ^ NewsDeduplicator.simHash(variant));
+        assertTrue(distance > 0 && distance < 8, "fixture must differ by 1..7 bits, was " + distance);
+
+        assertEquals(1, new NewsDeduplicator(true, distance).collapse(List.of(original, variant)).size());
+        assertEquals(2, new NewsDeduplicator(true, distance - 1).collapse(List.of(original, variant)).size());
+    }
+
+    @Test
+    void maxDistanceIsClampedToWhatTheBandsGuarantee() {
+        News original = news(STORY, DETAIL, "outlet-a");
+        News unrelated = news("Ethereum developers schedule network upgrade testnet", "Client teams confirm the fork date", "outlet-b");
+        assertTrue(Long.bitCount(NewsDeduplicator.simHash(original) ^ NewsDeduplicator.simHash(unrelated)) > 7);
+
+        assertEquals(2, new NewsDeduplicator(true, 64).collapse(List.of(original, unrelated)).size());
+    }
+
+    @Test
+    void addsUpSourceCountsOfAlreadyCollapsedItems() {
+        News earlier = News.builder().title(STORY).description(DETAIL).source("outlet-a").sourceCount(3).build();
+        List<News> result = deduplicator.collapse(List.of(earlier, news(STORY, DETAIL, "outlet-b")));
+
+        assertEquals(1, result.size());
+        assertEquals(4, result.get(0).getSourceCount());
+    }
+
+    @Test
+    void disabledOrSingleItemInputIsReturnedAsIs() {
+        List<News> pair = List.of(news(STORY, DETAIL, "outlet-a"), news(STORY, DETAIL, "outlet-b"));
+        List<News> single = List.of(news(STORY, DETAIL, "outlet-a"));
+
+        assertSame(pair, new NewsDeduplicator(false, 6).collapse(pair));
+        assertSame(single, deduplicator.collapse(single));
+    }
+
+    @Test
+    void emptyTextHasZeroFingerprint() {
+        assertEquals(0L, NewsDeduplicator.simHash(news(null, "", "outlet-a")));
+        assertNotEquals(0L, NewsDeduplicator.simHash(news(STORY, null, "outlet-a")));
+    }
+
+    private static News news(String title, String description, String source) {
+        return News.builder().title(title).description(description).source(source).build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.tradebot.application.service;
+
+import com.project.tradebot.domain.model.News;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecentNewsStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Test
+    void outOfOrderDeliveryIsSearchedNewestFirst() {
+        RecentNewsStore store = store(16);
+        // Ages in minutes: the smaller, the newer
+        store.addAll(List.of(news("ethereum two", 2), news("bitcoin four", 4), news("bitcoin one", 1)));
+        store.addAll(List.of(news("bitcoin three", 3), news("bitcoin five", 5)));
+
+        assertEquals(List.of("bitcoin one", "ethereum two", "bitcoin three", "bitcoin four", "bitcoin five"), titles(store.search(null, null, null, null, 10)));
+        assertEquals(List.of("bitcoin one", "bitcoin three"), titles(store.search("BTCINR", null, null, null, 2)));
+        assertEquals(List.of("bitcoin four"), titles(store.search(null, "four bitcoin", null, null, 10)));
+    }
+
+    @Test
+    void timeWindowBoundsTheWalk() {
+        RecentNewsStore store = store(16);
+        for (int age = 1; age <= 8; age++) store.addAll(List.of(news("bitcoin " + age, age)));
+
+        assertEquals(List.of("bitcoin 3", "bitcoin 4", "bitcoin 5"),
+                titles(store.search("BTC", null, NOW.minusMinutes(5), NOW.minusMinutes(3), 10)));
+        assertEquals(List.of(), titles(store.search("ETH", null, null, null, 10)));
+    }
+
+    @Test
+    void fullStoreEvictsTheOldestStoryAndSkipsOlderOnes() {
+        RecentNewsStore store = store(3);
+        store.addAll(List.of(news("bitcoin 20", 20), news("bitcoin 10", 10), news("bitcoin 30", 30)));
+        store.addAll(List.of(news("bitcoin 5", 5), news("bitcoin 40", 40)));
+
+        assertEquals(3, store.size());
+        assertEquals(List.of("bitcoin 5", "bitcoin 10", "bitcoin 20"), titles(store.search("BTC", null, null, null, 10)));
+        assertEquals(List.of("bitcoin 5"), titles(store.search(null, null, null, null, 1)));
+    }
+
+    @Test
+    void matchesASortedScanAfterRandomChurn() {
+        RecentNewsStore store = store(32);
+        Random random = new Random(7);
+        List<News> held = new ArrayList<>();
+        for (int round = 0; round < 40; round++) {
+            List<News> batch = new ArrayList<>();
+            for (int i = 0; i < 5; i++) batch.add(news((random.nextBoolean() ? "bitcoin " : "ethereum ") + round + "x" + i, random.nextInt(600)));
+            store.addAll(batch);
+            for (News item : batch) {
+                if (held.stream().noneMatch(h -> h.getTitle().equals(item.getTitle()))) held.add(item);
+            }
+            held.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
+            if (held.size() > 32) held.subList(32, held.size()).clear();
+        }
+
+        List<String> expected = held.stream().map(News::getTitle).filter(t -> t.startsWith("bitcoin")).limit(7).toList();
+        List<String> actual = titles(store.search("BTC", null, null, null, 7));
+        // Equal timestamps may come back in either order; compare the sets of timestamps in order instead of titles
+        assertEquals(timestamps(expected, held), timestamps(actual, held));
+    }
+
+    private static RecentNewsStore store(int capacity) {
+        return new RecentNewsStore(new SymbolExtractor(), capacity, 48, 64);
+    }
+
+    private static News news(String title, int minutesAgo) {
+        return News.builder().title(title).timestamp(NOW.minusMinutes(minutesAgo)).build();
+    }
+
+    private static List<String> titles(List<News> news) {
+        return news.stream().map(News::getTitle).toList();
+    }
+
+    private static List<LocalDateTime> timestamps(List<String> titles, List<News> held) {
+        return titles.stream().map(t -> held.stream().filter(h -> h.getTitle().equals(t)).findFirst().orElseThrow().getTimestamp()).toList();
+    }
+}
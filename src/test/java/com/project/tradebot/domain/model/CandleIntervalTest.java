@@ -0,0 +1,39 @@
+package com.project.tradebot.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CandleIntervalTest {
+
+    @Test
+    void weeksOpenOnMondayMidnightUtc() {
+        long monday = Instant.parse("2026-10-19T00:00:00Z").toEpochMilli();
+        assertEquals(DayOfWeek.MONDAY, Instant.ofEpochMilli(monday).atZone(ZoneOffset.UTC).getDayOfWeek());
+
+        assertEquals(monday, CandleInterval.W1.floor(monday));
+        assertEquals(monday, CandleInterval.W1.floor(Instant.parse("2026-10-22T12:00:00Z").toEpochMilli()));
+        assertEquals(monday, CandleInterval.W1.floor(Instant.parse("2026-10-25T23:59:59Z").toEpochMilli()));
+        assertEquals(monday - CandleInterval.W1.getDurationMs(), CandleInterval.W1.floor(monday - 1));
+    }
+
+    @Test
+    void weeksBeforeTheEpochStillOpenOnMonday() {
+        long monday = Instant.parse("1969-12-29T00:00:00Z").toEpochMilli();
+        assertEquals(monday, CandleInterval.W1.floor(0));
+        assertEquals(monday, CandleInterval.W1.floor(monday));
+    }
+
+    @Test
+    void shorterIntervalsAlignToTheEpoch() {
+        long t = Instant.parse("2026-10-22T13:47:31Z").toEpochMilli();
+        assertEquals(Instant.parse("2026-10-22T13:45:00Z").toEpochMilli(), CandleInterval.M15.floor(t));
+        assertEquals(Instant.parse("2026-10-22T12:00:00Z").toEpochMilli(), CandleInterval.H4.floor(t));
+        assertEquals(Instant.parse("2026-10-22T00:00:00Z").toEpochMilli(), CandleInterval.D1.floor(t));
+        assertEquals(0, CandleInterval.D3.floor(t) % CandleInterval.D3.getDurationMs());
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.tradebot.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixedPointTest {
+
+    @Test
+    void floorSnapsRepresentationErrorToTheNearestUnit() {
+        // 0.29 * 100 is 28.999999999999996 in binary
+        assertEquals(29, FixedPoint.floorUnits(0.29, 2));
+        assertEquals(-29, FixedPoint.floorUnits(-0.29, 2));
+        assertEquals(1, FixedPoint.floorUnits(0.1 + 0.2 - 0.2, 1));
+        assertEquals(123456789, FixedPoint.floorUnits(1.23456789, 8));
+    }
+
+    @Test
+    void floorTruncatesTowardsZeroOutsideTheSnapWindow() {
+        assertEquals(12, FixedPoint.floorUnits(0.129, 2));
+        assertEquals(-12, FixedPoint.floorUnits(-0.129, 2));
+        assertEquals(0, FixedPoint.floorUnits(0.00999, 2));
+        assertEquals(99999999, FixedPoint.floorUnits(0.999999999, 8));
+    }
+
+    @Test
+    void roundGoesHalfAwayFromZero() {
+        assertEquals(13, FixedPoint.roundUnits(0.125, 2));
+        assertEquals(-13, FixedPoint.roundUnits(-0.125, 2));
+        assertEquals(12, FixedPoint.roundUnits(0.1249, 2));
+        assertEquals(3, FixedPoint.roundUnits(2.5, 0));
+        assertEquals(-3, FixedPoint.roundUnits(-2.5, 0));
+        assertEquals(5400000.25, FixedPoint.round(5400000.251, 2));
+    }
+
+    @Test
+    void scaleZeroAndMaximumScale() {
+        assertEquals(7, FixedPoint.floorUnits(7.9, 0));
+        assertEquals(500000000000000000L, FixedPoint.floorUnits(0.5, FixedPoint.MAX_SCALE));
+        assertEquals(0.5, FixedPoint.toDouble(500000000000000000L, FixedPoint.MAX_SCALE));
+    }
+
+    @Test
+    void scaleOutOfRangeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.floorUnits(1.0, -1));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.roundUnits(1.0, FixedPoint.MAX_SCALE + 1));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.appendPlain(new StringBuilder(), 1, 19));
+    }
+
+    @Test
+    void unitsBeyondALongThrowInsteadOfSaturating() {
+        // 9.3 at scale 18 is 9.3e18 units, past Long.MAX_VALUE (about 9.22e18)
+        assertThrows(ArithmeticException.class, () -> FixedPoint.floorUnits(9.3, 18));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.roundUnits(-9.3, 18));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.floor(1e11, 8));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.floor(Double.POSITIVE_INFINITY, 2));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.round(Double.NaN, 2));
+    }
+
+    @Test
+    void largestValuesThatFitConvert() {
+        assertEquals(9_000_000_000_000_000_000L, FixedPoint.floorUnits(9.0, 18));
+        assertEquals(-9_000_000_000_000_000_000L, FixedPoint.roundUnits(-9.0, 18));
+        assertEquals(92_000_000_000L * 100_000_000L, FixedPoint.floorUnits(92_000_000_000.0, 8));
+    }
+
+    @Test
+    void appendPlainMatchesBigDecimal() {
+        long[] units = { 0, 1, -1, 10, 1230, -1230, 100000000, 123456789, -5, 999999999999L, Long.MAX_VALUE, Long.MIN_VALUE + 1 };
+        for (int scale : new int[] { 0, 1, 2, 4, 8, 18 }) {
+            for (long u : units) {
+                String expected = BigDecimal.valueOf(u, scale).stripTrailingZeros().toPlainString();
+                assertEquals(expected, FixedPoint.appendPlain(new StringBuilder(), u, scale).toString(), u + " at scale " + scale);
+            }
+        }
+    }
+
+    @Test
+    void appendPlainHandlesLongMinValue() {
+        assertEquals("-9223372036854775808", FixedPoint.appendPlain(new StringBuilder(), Long.MIN_VALUE, 0).toString());
+        assertEquals("-9.223372036854775808", FixedPoint.appendPlain(new StringBuilder(), Long.MIN_VALUE, 18).toString());
+    }
+
+    @Test
+    void appendPlainAppendsToExistingContent() {
+        StringBuilder sb = new StringBuilder("qty=");
+        FixedPoint.appendPlain(sb, 5, 3);
+        assertEquals("qty=0.005", sb.toString());
+    }
+}
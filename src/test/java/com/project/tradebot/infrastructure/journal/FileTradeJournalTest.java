@@ -0,0 +1,270 @@
+package com.project.tradebot.infrastructure.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.tradebot.domain.model.JournalEntry;
+import com.project.tradebot.domain.model.JournalState;
+import com.project.tradebot.domain.model.Order;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileTradeJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void replayRestoresSequenceAndOpenOrders() throws Exception {
+        Path dir = Files.createTempDirectory("journal");
+        try {
+            FileTradeJournal journal = start(dir, null);
+            assertEquals(1L, append(journal, order("A", Order.OrderStatus.OPEN)));
+            assertEquals(2L, append(journal, order("B", Order.OrderStatus.OPEN)));
+            assertEquals(3L, append(journal, order("A", Order.OrderStatus.EXECUTED)));
+            journal.stop();
+
+            JournalState state = start(dir, null).getState();
+            assertEquals(3, state.getLastSequence());
+            assertEquals(List.of("B"), List.copyOf(state.getOpenOrders().keySet()));
+            assertEquals("coindcx/main", state.getOpenOrderBooks().get("B"));
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    void tornTailIsCutOffOnReplayAndAppendsContinueAfterIt() throws Exception {
+        Path dir = Files.createTempDirectory("journal");
+        try {
+            FileTradeJournal journal = start(dir, null);
+            append(journal, order("A", Order.OrderStatus.OPEN));
+            append(journal, order("B", Order.OrderStatus.OPEN));
+            journal.stop();
+
+            Path segment = segments(dir).get(0);
+            long intact = Files.size(segment);
+            // A crash mid-write: a header promising more payload than made it to disk
+            Files.write(segment, ByteBuffer.allocate(20).putInt(100).putInt(0).putLong(3).array(), StandardOpenOption.APPEND);
+
+            journal = start(dir, null);
+            assertEquals(2, journal.getState().getLastSequence());
+            assertEquals(intact, Files.size(segment));
+            assertEquals(3L, append(journal, order("C", Order.OrderStatus.OPEN)));
+            journal.stop();
+
+            assertEquals(3, start(dir, null).getState().getOpenOrders().size());
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    void failedFsyncIsCutBackAndItsSequenceReused() throws Exception {
+        Path dir = Files.createTempDirectory("journal");
+        try {
+            Faults faults = new Faults();
+            FileTradeJournal journal = start(dir, faults);
+            append(journal, order("A", Order.OrderStatus.OPEN));
+
+            faults.failForce = true;
+            assertThrows(ExecutionException.class, () -> append(journal, order("B", Order.OrderStatus.OPEN)));
+            faults.failForce = false;
+            assertEquals(2L, append(journal, order("C", Order.OrderStatus.OPEN)));
+            journal.stop();
+
+            JournalState state = start(dir, null).getState();
+            assertEquals(2, state.getLastSequence());
+            assertEquals(List.of("A", "C"), state.getOpenOrders().keySet().stream().sorted().toList());
+            assertEquals(1, segments(dir).size());
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    void failedCutRollsToANewSegmentWithoutReusingSequences() throws Exception {
+        Path dir = Files.createTempDirectory("journal");
+        try {
+            Faults faults = new Faults();
+            FileTradeJournal journal = start(dir, faults);
+            append(journal, order("A", Order.OrderStatus.OPEN));
+
+            faults.failForce = true;
+            faults.failTruncate = true;
+            assertThrows(ExecutionException.class, () -> append(journal, order("B", Order.OrderStatus.OPEN)));
+            faults.failForce = false;
+            faults.failTruncate = false;
+            assertEquals(3L, append(journal, order("C", Order.OrderStatus.OPEN)));
+            journal.stop();
+
+            List<Path> segments = segments(dir);
+            assertEquals(2, segments.size());
+            assertTrue(segments.get(1).getFileName().toString().endsWith("00000000000000000003.log"), segments.toString());
+            // B reached the disk even though its append failed; replay keeps it rather than reusing its sequence
+            assertEquals(3, start(dir, null).getState().getLastSequence());
+        } finally {
+            delete(dir);
+        }
+    }
+
+    private FileTradeJournal start(Path dir, Faults faults) {
+        FileTradeJournal journal = new FileTradeJournal(objectMapper, true, dir.toString(), 1 << 20, FileTradeJournal.FsyncPolicy.ALWAYS, 200, 16) {
+            @Override
+            FileChannel openChannel(Path path) throws IOException {
+                FileChannel channel = super.openChannel(path);
+                return faults == null ? channel : new FaultyChannel(channel, faults);
+            }
+        };
+        journal.start();
+        return journal;
+    }
+
+    private static long append(FileTradeJournal journal, Order order) throws Exception {
+        CompletableFuture<Long> future = journal.append(JournalEntry.builder()
+                .type(JournalEntry.EntryType.ORDER_UPDATE)
+                .timestamp(System.currentTimeMillis())
+                .brokerName("coindcx")
+                .accountName("main")
+                .orders(List.of(order))
+                .build());
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    private static Order order(String id, Order.OrderStatus status) {
+        return Order.builder().orderId(id).symbol("BTCINR").type(Order.OrderType.BUY).quantity(0.01).price(5_000_000).status(status).build();
+    }
+
+    private static List<Path> segments(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+
+    private static final class Faults {
+        private volatile boolean failForce;
+        private volatile boolean failTruncate;
+    }
+
+    private static final class FaultyChannel extends FileChannel {
+        private final FileChannel delegate;
+        private final Faults faults;
+
+        private FaultyChannel(FileChannel delegate, Faults faults) {
+            this.delegate = delegate;
+            this.faults = faults;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (faults.failForce) throw new IOException("injected fsync failure");
+            delegate.force(metaData);
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (faults.failTruncate) throw new IOException("injected truncate failure");
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.tradebot.infrastructure.market;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TickerStreamParserTest {
+
+    private static final String TICKER = """
+            [{"market":"BTCINR","change_24_hour":"1.2","last_price":"5400000.25","bid":5399999.0},
+             {"market":"ETHINR","last_price":210000.5,"extra":{"market":"XRPINR","last_price":"1"}},
+             {"market":"SOLINR","last_price":"12000"}]""";
+
+    @Test
+    void keepsOnlyRequestedMarkets() throws IOException {
+        Map<String, Double> prices = parse(Set.of("BTCINR", "ETHINR"), TICKER);
+
+        assertEquals(Map.of("BTCINR", 5400000.25, "ETHINR", 210000.5), prices);
+    }
+
+    @Test
+    void emptySymbolSetKeepsEveryMarket() throws IOException {
+        Map<String, Double> prices = parse(Set.of(), TICKER);
+
+        assertEquals(Set.of("BTCINR", "ETHINR", "SOLINR"), prices.keySet());
+    }
+
+    @Test
+    void ignoresFieldsOfNestedObjects() throws IOException {
+        // XRPINR only appears inside another ticker's nested object
+        assertTrue(parse(Set.of("XRPINR"), TICKER).isEmpty());
+    }
+
+    @Test
+    void parsesTokensSplitAcrossBuffers() throws IOException {
+        byte[] bytes = TICKER.getBytes(StandardCharsets.UTF_8);
+        for (int chunk : new int[] { 1, 3, 7, 64 }) {
+            TickerStreamParser parser = new TickerStreamParser(new JsonFactory(), Set.of("BTCINR", "SOLINR"));
+            for (int i = 0; i < bytes.length; i += chunk) {
+                parser.feed(buffer(bytes, i, Math.min(chunk, bytes.length - i)));
+            }
+            assertEquals(Map.of("BTCINR", 5400000.25, "SOLINR", 12000.0), parser.finish(), "chunk size " + chunk);
+        }
+    }
+
+    @Test
+    void skipsTickerWithMalformedPrice() throws IOException {
+        Map<String, Double> prices = parse(Set.of("BTCINR", "ETHINR"),
+                "[{\"market\":\"BTCINR\",\"last_price\":\"n/a\"},{\"market\":\"ETHINR\",\"last_price\":\"\"}]");
+
+        assertTrue(prices.isEmpty());
+    }
+
+    @Test
+    void skipsTickerWithoutMarketOrPrice() throws IOException {
+        Map<String, Double> prices = parse(Set.of(), "[{\"last_price\":\"1.0\"},{\"market\":\"BTCINR\"},[],{}]");
+
+        assertTrue(prices.isEmpty());
+    }
+
+    @Test
+    void firstOccurrenceOfAMarketWins() throws IOException {
+        Map<String, Double> prices = parse(Set.of("BTCINR"),
+                "[{\"market\":\"BTCINR\",\"last_price\":\"1.5\"},{\"market\":\"BTCINR\",\"last_price\":\"2.5\"}]");
+
+        assertEquals(Map.of("BTCINR", 1.5), prices);
+    }
+
+    @Test
+    void truncatedResponseFails() {
+        assertThrows(JsonParseException.class, () -> parse(Set.of("BTCINR"), "[{\"market\":\"BTCINR\",\"last_pri"));
+    }
+
+    @Test
+    void invalidJsonFails() {
+        assertThrows(JsonParseException.class, () -> parse(Set.of("BTCINR"), "[{\"market\" \"BTCINR\"}]"));
+    }
+
+    @Test
+    void parseDecimalMatchesDoubleParsing() {
+        for (String value : new String[] { "0", "1", "-0.5", "+2.25", "5400000.25", "0.00000001", "123.", ".5",
+                "9007199254740991", "9007199254740993", "1e5", "2.5E-3", "12345678901234567890.5", "0.1234567890123456789012345" }) {
+            assertEquals(Double.parseDouble(value), parseDecimal(value), value);
+        }
+    }
+
+    @Test
+    void parseDecimalRejectsNonNumbers() {
+        for (String value : new String[] { "", "-", ".", "abc", "1.2.3", "1,5" }) {
+            assertThrows(NumberFormatException.class, () -> parseDecimal(value), value);
+        }
+    }
+
+    private static Map<String, Double> parse(Set<String> symbols, String json) throws IOException {
+        TickerStreamParser parser = new TickerStreamParser(new JsonFactory(), symbols);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        parser.feed(buffer(bytes, 0, bytes.length));
+        return parser.finish();
+    }
+
+    private static DataBuffer buffer(byte[] bytes, int offset, int length) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, offset, offset + length));
+    }
+
+    private static double parseDecimal(String value) {
+        return TickerStreamParser.parseDecimal(value.toCharArray(), 0, value.length());
+    }
+}
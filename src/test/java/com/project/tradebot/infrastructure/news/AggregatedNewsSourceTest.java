@@ -0,0 +1,135 @@
+package com.project.tradebot.infrastructure.news;
+
+import com.project.tradebot.application.ports.NewsSource;
+import com.project.tradebot.application.service.AdapterHealthRegistry;
+import com.project.tradebot.domain.model.News;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AggregatedNewsSourceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private final AdapterHealthRegistry adapterHealth = new AdapterHealthRegistry(List.of(), true, 3, 30_000, 300_000, 0.2, 5_000);
+
+    @Test
+    void failingAndSlowSourcesOnlyLoseTheirOwnItems() {
+        NewsSource healthy = source("healthy", () -> List.of(news("ETF inflows surge", "https://a.example/etf", 2), news("Miners hold", "https://a.example/miners", 1)));
+        NewsSource failing = source("failing", () -> {
+            throw new IllegalStateException("feed down");
+        });
+        NewsSource slow = source("slow", () -> {
+            sleep(2_000);
+            return List.of(news("Late story", "https://c.example/late", 3));
+        });
+        AggregatedNewsSource aggregated = new AggregatedNewsSource(provider(healthy, failing, slow), adapterHealth, 200);
+
+        long started = System.nanoTime();
+        List<News> result = aggregated.fetchNews();
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(List.of("ETF inflows surge", "Miners hold"), result.stream().map(News::getTitle).toList());
+        assertTrue(elapsedMs < 1_500, "bounded by the timeout, took " + elapsedMs + " ms");
+        assertEquals(1, adapterHealth.snapshot().get("news:failing").getConsecutiveFailures());
+        assertEquals(1, adapterHealth.snapshot().get("news:slow").getConsecutiveFailures());
+        aggregated.shutdown();
+    }
+
+    @Test
+    void mergesNewestFirstAndDropsCrossSourceDuplicates() {
+        NewsSource first = source("first", () -> List.of(news("Bitcoin hits record", "https://a.example/btc?utm=x", 1)));
+        NewsSource second = source("second", () -> List.of(
+                news("Bitcoin hits record!", "https://b.example/other", 2),
+                news("Different title", "http://www.a.example/btc/", 3),
+                news("Fork date set", "https://b.example/fork", 4)));
+        AggregatedNewsSource aggregated = new AggregatedNewsSource(provider(first, second), adapterHealth, 1_000);
+
+        assertEquals(List.of("Fork date set", "Different title", "Bitcoin hits record!"),
+                aggregated.fetchNews().stream().map(News::getTitle).toList());
+        aggregated.shutdown();
+    }
+
+    @Test
+    void pollsOnlyTheFirstOfSourcesSharingAName() {
+        AtomicInteger secondCalls = new AtomicInteger();
+        NewsSource first = source("feed", () -> List.of(news("From the first", "https://a.example/1", 1)));
+        NewsSource second = source("feed", () -> {
+            secondCalls.incrementAndGet();
+            return List.of(news("From the second", "https://b.example/2", 2));
+        });
+        AggregatedNewsSource aggregated = new AggregatedNewsSource(provider(first, second), adapterHealth, 1_000);
+
+        assertEquals(List.of("From the first"), aggregated.fetchNews().stream().map(News::getTitle).toList());
+        assertEquals(0, secondCalls.get());
+        aggregated.shutdown();
+    }
+
+    private static NewsSource source(String name, Supplier<List<News>> fetch) {
+        return new NewsSource() {
+            @Override
+            public List<News> fetchNews() {
+                return fetch.get();
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    private static News news(String title, String url, int minutesAfter) {
+        return News.builder().title(title).url(url).timestamp(NOW.plusMinutes(minutesAfter)).build();
+    }
+
+    private static ObjectProvider<NewsSource> provider(NewsSource... sources) {
+        return new ObjectProvider<>() {
+            @Override
+            public NewsSource getObject() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public NewsSource getObject(Object... args) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public NewsSource getIfAvailable() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public NewsSource getIfUnique() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Stream<NewsSource> stream() {
+                return Stream.of(sources);
+            }
+
+            @Override
+            public Stream<NewsSource> orderedStream() {
+                return Stream.of(sources);
+            }
+        };
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
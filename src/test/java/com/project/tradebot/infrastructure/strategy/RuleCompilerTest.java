@@ -0,0 +1,134 @@
+package com.project.tradebot.infrastructure.strategy;
+
+import com.project.tradebot.domain.model.TradeSignal;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleCompilerTest {
+
+    @Test
+    void andBindsTighterThanOr() {
+        // true OR (false AND false) is true; (true OR false) AND false would be false
+        RuleCompiler.CompiledRule rule = compile("BUY WHEN price > 1 OR momentum > 1 AND sentiment > 1");
+
+        assertTrue(rule.condition().test(features(2, 0, 0)));
+        assertFalse(rule.condition().test(features(0, 2, 0)));
+    }
+
+    @Test
+    void parenthesesOverrideBooleanPrecedence() {
+        RuleCompiler.CompiledRule rule = compile("BUY WHEN (price > 1 OR momentum > 1) AND sentiment > 1");
+
+        assertFalse(rule.condition().test(features(2, 0, 0)));
+        assertTrue(rule.condition().test(features(2, 0, 2)));
+    }
+
+    @Test
+    void notAppliesToTheNextComparisonOnly() {
+        RuleCompiler.CompiledRule rule = compile("SELL WHEN NOT price > 1 AND momentum > 1");
+
+        assertTrue(rule.condition().test(features(0, 2, 0)));
+        assertFalse(rule.condition().test(features(2, 2, 0)));
+        assertTrue(compile("SELL WHEN NOT (price > 1 AND momentum > 1)").condition().test(features(2, 0, 0)));
+        assertFalse(compile("SELL WHEN NOT NOT price > 1").condition().test(features(0, 0, 0)));
+    }
+
+    @Test
+    void multiplicationBindsTighterThanAddition() {
+        assertEquals(0.7, confidence("HOLD WHEN price > 0 CONFIDENCE 0.1 + 0.2 * 3", features(1, 0, 0)), 1e-12);
+        assertEquals(0.9, confidence("HOLD WHEN price > 0 CONFIDENCE (0.1 + 0.2) * 3", features(1, 0, 0)), 1e-12);
+        assertEquals(0.25, confidence("HOLD WHEN price > 0 CONFIDENCE 1 / 2 / 2", features(1, 0, 0)), 1e-12);
+        assertEquals(0.5, confidence("HOLD WHEN price > 0 CONFIDENCE 1 - 0.25 - 0.25", features(1, 0, 0)), 1e-12);
+    }
+
+    @Test
+    void parenthesizedArithmeticStartsAComparison() {
+        RuleCompiler.CompiledRule rule = compile("BUY WHEN (price + 1) * 2 > 5");
+
+        assertTrue(rule.condition().test(features(2, 0, 0)));
+        assertFalse(rule.condition().test(features(1, 0, 0)));
+        assertTrue(compile("BUY WHEN ((price + 1) > 2)").condition().test(features(2, 0, 0)));
+        assertTrue(compile("BUY WHEN (price) >= 2").condition().test(features(2, 0, 0)));
+    }
+
+    @Test
+    void unaryMinusAndFunctions() {
+        assertEquals(0.3, confidence("BUY WHEN price > 0 CONFIDENCE abs(-momentum) + max(0.1, min(sentiment, 0.2))",
+                features(1, 0.1, 0.5)), 1e-12);
+        assertTrue(compile("BUY WHEN momentum > - - -1").condition().test(features(0, 0, 0)));
+        assertEquals(0.001, confidence("BUY WHEN price > 0 CONFIDENCE 1e-3", features(1, 0, 0)), 1e-12);
+    }
+
+    @Test
+    void confidenceIsClampedToUnitRange() {
+        assertEquals(1.0, confidence("BUY WHEN price > 0 CONFIDENCE price * 10", features(5, 0, 0)));
+        assertEquals(0.0, confidence("BUY WHEN price > 0 CONFIDENCE -price", features(5, 0, 0)));
+        assertEquals(1.0, confidence("BUY WHEN price > 0", features(5, 0, 0)));
+    }
+
+    @Test
+    void nonFiniteConfidenceCountsAsZero() {
+        assertEquals(0.0, confidence("BUY WHEN price > 0 CONFIDENCE sentiment / momentum", features(1, 0, 0)));
+        assertEquals(0.0, confidence("BUY WHEN price > 0 CONFIDENCE price / momentum", features(1, 0, 0)));
+        assertEquals(0.0, confidence("BUY WHEN price > 0 CONFIDENCE -price / momentum", features(1, 0, 0)));
+    }
+
+    @Test
+    void keywordsAndVariablesAreCaseInsensitive() {
+        RuleCompiler.CompiledRule rule = compile("buy when PRICE > 1 and Momentum != 0");
+
+        assertEquals(TradeSignal.SignalType.BUY, rule.action());
+        assertTrue(rule.condition().test(features(2, 1, 0)));
+    }
+
+    @Test
+    void skipsBlankLinesAndComments() {
+        List<RuleCompiler.CompiledRule> rules = RuleCompiler.compile(Arrays.asList(null, "", "   ", "# BUY WHEN price > 1", "SELL WHEN price < 1"));
+
+        assertEquals(1, rules.size());
+        assertEquals(TradeSignal.SignalType.SELL, rules.get(0).action());
+    }
+
+    @Test
+    void rejectsMalformedRules() {
+        for (String rule : new String[] {
+                "SHORT WHEN price > 1",
+                "BUY price > 1",
+                "BUY WHEN price",
+                "BUY WHEN price > 1 extra",
+                "BUY WHEN (price > 1",
+                "BUY WHEN price > 1)",
+                "BUY WHEN spread > 1",
+                "BUY WHEN sqrt(price) > 1",
+                "BUY WHEN min(price) > 1",
+                "BUY WHEN price > 1.2.3",
+                "BUY WHEN price > $1",
+                "BUY WHEN price > 1 CONFIDENCE",
+                "BUY WHEN" }) {
+            assertThrows(IllegalArgumentException.class, () -> compile(rule), rule);
+        }
+    }
+
+    private static RuleCompiler.CompiledRule compile(String rule) {
+        return RuleCompiler.compile(List.of(rule)).get(0);
+    }
+
+    private static double confidence(String rule, double[] features) {
+        return compile(rule).confidence().applyAsDouble(features);
+    }
+
+    private static double[] features(double price, double momentum, double sentiment) {
+        double[] features = new double[RuleCompiler.VARIABLES.size()];
+        features[RuleCompiler.PRICE] = price;
+        features[RuleCompiler.MOMENTUM] = momentum;
+        features[RuleCompiler.SENTIMENT] = sentiment;
+        return features;
+    }
+}
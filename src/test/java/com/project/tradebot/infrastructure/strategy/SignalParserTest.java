@@ -0,0 +1,167 @@
+package com.project.tradebot.infrastructure.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.tradebot.application.service.StrategyParseMetrics;
+import com.project.tradebot.domain.model.TradeSignal;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SignalParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void schemaConformingAnswerParsesDirectly() {
+        SignalParser.Result result = SignalParser.parse(objectMapper,
+                "[{\"symbol\":\"BTC\",\"type\":\"BUY\",\"confidence\":0.8,\"reason\":\"breakout\"}]", 0);
+
+        assertEquals(StrategyParseMetrics.Outcome.PARSED, result.outcome());
+        assertEquals(1, result.signals().size());
+        assertEquals("BTC", result.signals().get(0).getSymbol());
+        assertNull(result.signals().get(0).getContext());
+    }
+
+    @Test
+    void repairsFencedAnswerWithProseAndTrailingCommas() {
+        SignalParser.Result result = SignalParser.parse(objectMapper, """
+                Here are the signals:
+                ```json
+                [{"symbol":"eth","type":"sell","confidence":"75%","reason":"weak",},]
+                ```
+                Let me know if you need more.""", 0);
+
+        assertEquals(StrategyParseMetrics.Outcome.REPAIRED, result.outcome());
+        SignalParser.ParsedSignal signal = result.signals().get(0);
+        assertEquals("ETH", signal.getSymbol());
+        assertEquals(TradeSignal.SignalType.SELL, signal.getType());
+        assertEquals(0.75, signal.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void truncatedAnswerFails() {
+        SignalParser.Result result = SignalParser.parse(objectMapper,
+                "[{\"context\":0,\"symbol\":\"BTC\",\"type\":\"BUY\",\"confidence\":0.8},{\"context\":1,\"symbol\":\"ET", 2);
+
+        assertEquals(StrategyParseMetrics.Outcome.FAILED, result.outcome());
+        assertTrue(result.signals().isEmpty());
+    }
+
+    @Test
+    void batchRepairDropsItemsWithoutContext() {
+        // Lower-case enums force the repair pass
+        SignalParser.Result result = SignalParser.parse(objectMapper, """
+                [{"context":1,"symbol":"BTC","type":"buy","confidence":0.8},
+                 {"symbol":"ETH","type":"sell","confidence":0.9},
+                 {"context":null,"symbol":"SOL","type":"sell","confidence":0.9},
+                 {"context":"first","symbol":"XRP","type":"sell","confidence":0.9}]""", 2);
+
+        assertEquals(StrategyParseMetrics.Outcome.REPAIRED, result.outcome());
+        assertEquals(3, result.dropped());
+        assertEquals(List.of("BTC"), result.signals().stream().map(SignalParser.ParsedSignal::getSymbol).toList());
+    }
+
+    @Test
+    void batchRepairDropsItemsWithOutOfRangeOrFractionalContext() {
+        SignalParser.Result result = SignalParser.parse(objectMapper, """
+                [{"context":"0","symbol":"BTC","type":"buy","confidence":0.8},
+                 {"context":2,"symbol":"ETH","type":"sell","confidence":0.9},
+                 {"context":-1,"symbol":"SOL","type":"sell","confidence":0.9},
+                 {"context":0.5,"symbol":"XRP","type":"sell","confidence":0.9}]""", 2);
+
+        assertEquals(3, result.dropped());
+        assertEquals(1, result.signals().size());
+        assertEquals(0, result.signals().get(0).getContext());
+    }
+
+    @Test
+    void batchRepairFailsWhenNoItemHasAValidContext() {
+        SignalParser.Result result = SignalParser.parse(objectMapper,
+                "[{\"symbol\":\"BTC\",\"type\":\"buy\",\"confidence\":0.8}]", 3);
+
+        assertEquals(StrategyParseMetrics.Outcome.FAILED, result.outcome());
+        assertEquals(1, result.dropped());
+    }
+
+    @Test
+    void strictBatchParseDropsMissingAndOutOfRangeContext() {
+        SignalParser.Result result = SignalParser.parse(objectMapper, """
+                [{"context":1,"symbol":"BTC","type":"BUY","confidence":0.8},
+                 {"symbol":"ETH","type":"SELL","confidence":0.9},
+                 {"context":5,"symbol":"SOL","type":"SELL","confidence":0.9}]""", 2);
+
+        assertEquals(StrategyParseMetrics.Outcome.PARSED, result.outcome());
+        assertEquals(2, result.dropped());
+        assertEquals(1, result.signals().size());
+    }
+
+    @Test
+    void groupsSignalsByContext() {
+        SignalParser.Result result = SignalParser.parse(objectMapper, """
+                [{"context":1,"symbol":"BTC","type":"BUY","confidence":0.8},
+                 {"context":0,"symbol":"ETH","type":"SELL","confidence":0.9},
+                 {"context":1,"symbol":"SOL","type":"HOLD","confidence":0.1}]""", 2);
+
+        List<List<TradeSignal>> grouped = SignalParser.groupByContext(result.signals(), 2);
+
+        assertEquals(List.of("ETH"), grouped.get(0).stream().map(TradeSignal::getSymbol).toList());
+        assertEquals(List.of("BTC", "SOL"), grouped.get(1).stream().map(TradeSignal::getSymbol).toList());
+    }
+
+    @Test
+    void strictPathNormalizesPercentagesAndClampsConfidence() {
+        SignalParser.Result result = SignalParser.parse(objectMapper, """
+                [{"symbol":"BTC","type":"BUY","confidence":85},
+                 {"symbol":"ETH","type":"SELL","confidence":-1},
+                 {"symbol":"SOL","type":"BUY","confidence":250}]""", 0);
+
+        assertEquals(StrategyParseMetrics.Outcome.PARSED, result.outcome());
+        assertEquals(0.85, result.signals().get(0).getConfidence(), 1e-9);
+        assertEquals(0.0, result.signals().get(1).getConfidence(), 1e-9);
+        assertEquals(1.0, result.signals().get(2).getConfidence(), 1e-9);
+    }
+
+    @Test
+    void strictPathDropsNonFiniteConfidence() {
+        SignalParser.Result result = SignalParser.parse(objectMapper, """
+                [{"symbol":"BTC","type":"BUY","confidence":"NaN"},
+                 {"symbol":"ETH","type":"SELL","confidence":0.6}]""", 0);
+
+        assertEquals(StrategyParseMetrics.Outcome.PARSED, result.outcome());
+        assertEquals(1, result.dropped());
+        assertEquals(List.of("ETH"), result.signals().stream().map(SignalParser.ParsedSignal::getSymbol).toList());
+    }
+
+    @Test
+    void repairPathDropsNonFiniteConfidence() {
+        SignalParser.Result result = SignalParser.parse(objectMapper,
+                "[{\"symbol\":\"BTC\",\"type\":\"buy\",\"confidence\":\"NaN\"},{\"symbol\":\"ETH\",\"type\":\"sell\",\"confidence\":\"Infinity\"}]", 0);
+
+        assertEquals(StrategyParseMetrics.Outcome.FAILED, result.outcome());
+        assertEquals(2, result.dropped());
+    }
+
+    @Test
+    void schemaBoundsConfidence() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> items = (Map<String, Object>) SignalParser.schema(false, false).get("items");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> properties = (Map<String, Object>) items.get("properties");
+
+        assertEquals(Map.of("type", "number", "minimum", 0, "maximum", 1), properties.get("confidence"));
+    }
+
+    @Test
+    void singleObjectAnswerIsTreatedAsAList() {
+        SignalParser.Result result = SignalParser.parse(objectMapper,
+                "{\"symbol\":\"BTC\",\"type\":\"HOLD\",\"confidence\":150}", 0);
+
+        assertEquals(StrategyParseMetrics.Outcome.REPAIRED, result.outcome());
+        assertEquals(1.0, result.signals().get(0).getConfidence(), 1e-9);
+    }
+}